@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.rest.api;
+
+import de.knightsoftnet.validators.shared.Parameters;
+import de.knightsoftnet.validators.shared.ResourcePaths.Iban;
+import de.knightsoftnet.validators.shared.data.IbanAnalyzeData;
+import de.knightsoftnet.validators.shared.util.IbanAnalyzer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.Providers;
+
+/**
+ * iban web service, validates ibans and splits them into their parts.
+ *
+ * @author Manfred Tremmel
+ */
+@Path(Iban.ROOT)
+@Produces(MediaType.APPLICATION_JSON)
+public class IbanService {
+
+  private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
+  @GET
+  @Path(Iban.ANALYZE)
+  public IbanAnalyzeData analyze(@QueryParam(Parameters.IBAN) final String piban) {
+    return IbanAnalyzer.analyze(piban);
+  }
+
+  /**
+   * analyze a list of ibans, the lines are read, analyzed and written to the response as a stream,
+   * so neither the text nor the results are held completely in memory.
+   *
+   * @param pibans text with one iban per line, empty lines are ignored
+   * @param pproviders providers of the container, to serialize with the same object mapper as the
+   *        single analyze
+   * @return json array of analyze data in the order of the lines
+   */
+  @POST
+  @Path(Iban.ANALYZE_BATCH)
+  @Consumes(MediaType.TEXT_PLAIN)
+  public StreamingOutput analyzeBatch(final InputStream pibans,
+      @Context final Providers pproviders) {
+    final ObjectMapper mapper = getObjectMapper(pproviders);
+    return output -> {
+      try (BufferedReader reader =
+          new BufferedReader(new InputStreamReader(pibans, StandardCharsets.UTF_8));
+          JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
+        generator.writeStartArray();
+        final Iterator<IbanAnalyzeData> results = IbanAnalyzer
+            .analyze(reader.lines().map(StringUtils::trim).filter(StringUtils::isNotEmpty))
+            .iterator();
+        while (results.hasNext()) {
+          mapper.writeValue(generator, results.next());
+        }
+        generator.writeEndArray();
+      }
+    };
+  }
+
+  /**
+   * get the object mapper registered in the container, if there is none, a default mapper is used.
+   */
+  private ObjectMapper getObjectMapper(final Providers pproviders) {
+    final ContextResolver<ObjectMapper> resolver = pproviders == null ? null
+        : pproviders.getContextResolver(ObjectMapper.class, MediaType.APPLICATION_JSON_TYPE);
+    final ObjectMapper mapper =
+        resolver == null ? null : resolver.getContext(IbanAnalyzeData.class);
+    return mapper == null ? DEFAULT_MAPPER : mapper;
+  }
+}
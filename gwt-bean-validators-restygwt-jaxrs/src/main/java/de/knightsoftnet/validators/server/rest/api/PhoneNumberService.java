@@ -22,6 +22,7 @@ import de.knightsoftnet.validators.shared.data.PhoneNumberDataWithFormats;
 import de.knightsoftnet.validators.shared.data.ValueWithPos;
 import de.knightsoftnet.validators.shared.data.ValueWithPosAndCountry;
 import de.knightsoftnet.validators.shared.util.LocaleUtil;
+import de.knightsoftnet.validators.shared.util.PhoneNumberFormats;
 import de.knightsoftnet.validators.shared.util.PhoneNumberUtil;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -75,6 +76,8 @@ public class PhoneNumberService {
    * @param planguage language to use
    * @param pcountry default country
    * @param pphoneNumber phone number to format
+   * @param pformats bit set of the formats to return (see {@link PhoneNumberFormats}), all formats
+   *        if not set
    * @return PhoneNumberDataWithFormats
    */
   @GET
@@ -82,17 +85,13 @@ public class PhoneNumberService {
   public PhoneNumberDataWithFormats parseAndFormatPhoneNumber(
       @QueryParam(Parameters.LANGUAGE) final String planguage,
       @QueryParam(Parameters.COUNTRY) final String pcountry,
-      @QueryParam(Parameters.PHONE_NUMBER) final String pphoneNumber) {
-    final PhoneNumberDataWithFormats result = new PhoneNumberDataWithFormats(phoneNumberUtil
-        .parsePhoneNumber(pphoneNumber, pcountry, LocaleUtil.convertLanguageToLocale(planguage)));
-    result.setCommonInternational(phoneNumberUtil.formatCommonInternational(result));
-    result.setCommonNational(phoneNumberUtil.formatCommonNational(result));
-    result.setDin5008International(phoneNumberUtil.formatDin5008International(result));
-    result.setDin5008National(phoneNumberUtil.formatDin5008National(result));
-    result.setE123International(phoneNumberUtil.formatE123International(result));
-    result.setE123National(phoneNumberUtil.formatE123National(result));
-    result.setMs(phoneNumberUtil.formatMs(result));
-    result.setUrl(phoneNumberUtil.formatUrl(result));
+      @QueryParam(Parameters.PHONE_NUMBER) final String pphoneNumber,
+      @QueryParam(Parameters.FORMATS) final Integer pformats) {
+    final PhoneNumberDataWithFormats result = phoneNumberUtil.parsePhoneNumberInto(
+        StringUtils.defaultString(pphoneNumber), new PhoneNumberDataWithFormats(),
+        phoneNumberUtil.getCountryData(pcountry, LocaleUtil.convertLanguageToLocale(planguage)));
+    PhoneNumberFormats.render(result,
+        pformats == null ? PhoneNumberFormats.ALL : pformats.intValue(), result);
     return result;
   }
 
@@ -26,4 +26,6 @@ public class Parameters {
   public static final String URI = "uri";
   public static final String MS = "ms";
   public static final String COMMON = "common";
+  public static final String FORMATS = "formats";
+  public static final String IBAN = "iban";
 }
@@ -54,4 +54,10 @@ public class ResourcePaths {
     public static final String GET_SUGGESTIONS = "getsuggestions";
     public static final String VALIDATE = "validate";
   }
+
+  public class Iban {
+    public static final String ROOT = "ibanservice";
+    public static final String ANALYZE = "analyze";
+    public static final String ANALYZE_BATCH = "analyzebatch";
+  }
 }
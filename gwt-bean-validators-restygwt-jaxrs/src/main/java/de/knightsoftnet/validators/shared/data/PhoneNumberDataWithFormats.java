@@ -28,7 +28,8 @@ import java.util.Objects;
  *
  */
 @JsonFormat
-public class PhoneNumberDataWithFormats extends PhoneNumberData {
+public class PhoneNumberDataWithFormats extends PhoneNumberData
+    implements PhoneNumberFormatsInterface {
 
   private String din5008National;
   private String din5008International;
@@ -15,35 +15,11 @@
 
 package de.knightsoftnet.validators.client.data;
 
-import de.knightsoftnet.validators.shared.data.BankAccountBicSharedConstants;
-import de.knightsoftnet.validators.shared.data.CountryBankAccountData;
+import de.knightsoftnet.validators.shared.data.BankAccountBicTable;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-public class BankAccountBicConstants implements BankAccountBicSharedConstants {
-  private final Map<CountryBankAccountData, String> bankAccountBicMap;
+public class BankAccountBicConstants extends BankAccountBicTable {
 
   public BankAccountBicConstants() {
     super();
-    this.bankAccountBicMap = new HashMap<>();
-  }
-
-  public BankAccountBicConstants(final Map<CountryBankAccountData, String> pmap) {
-    super();
-    this.bankAccountBicMap = pmap;
-  }
-
-  @Override
-  public Map<CountryBankAccountData, String> bankAccounts() {
-    return this.bankAccountBicMap;
-  }
-
-  @Override
-  public void addBankAccounts(final String pcountry, final Map<String, String> pmap) {
-    this.bankAccountBicMap.putAll(pmap.entrySet().stream().collect(Collectors.toMap( //
-        entry -> new CountryBankAccountData(pcountry, entry.getKey()), //
-        entry -> entry.getValue())));
   }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import de.knightsoftnet.validators.shared.util.AhoCorasickMatcher;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Password blacklist resources are not available on client side, the client only checks the
+ * blacklist given in the annotation, the complete check is done on server side.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class CreatePasswordBlacklistClass {
+
+  private static final AhoCorasickMatcher EMPTY_MATCHER =
+      new AhoCorasickMatcher(Collections.<String>emptyList());
+
+  private CreatePasswordBlacklistClass() {
+    super();
+  }
+
+  /**
+   * read the words of a blacklist resource.
+   *
+   * @param presource class path resource name of the blacklist
+   * @return empty list
+   */
+  public static List<String> readBlacklist(final String presource) {
+    return Collections.emptyList();
+  }
+
+  /**
+   * get the matcher of the words of a blacklist resource.
+   *
+   * @param presource class path resource name of the blacklist
+   * @return empty matcher
+   */
+  public static AhoCorasickMatcher getBlacklistMatcher(final String presource) {
+    return EMPTY_MATCHER;
+  }
+}
@@ -284,6 +284,14 @@ public class CreatePhoneCountryConstantsClass extends AbstractCreateClass {
     return phoneCountryConstants;
   }
 
+  /**
+   * version of the current constants, on client side the constants are never reloaded.
+   *
+   * @return version
+   */
+  public static long getVersion() {
+    return 1L;
+  }
 
   /**
    * read phone country names.
@@ -16,6 +16,7 @@
 package de.knightsoftnet.validators.server.data;
 
 import de.knightsoftnet.validators.client.data.PostalCodesMapConstants;
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.PostalCodesMapSharedConstants;
 
 import com.google.gwt.core.client.GWT;
@@ -29,6 +30,7 @@ import com.google.gwt.core.client.GWT;
 public class CreatePostalCodesMapConstantsClass {
 
   private static volatile PostalCodesMapConstants postalCodesMapConstants = null;
+  private static volatile CountryRegExPatterns postalCodePatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -45,4 +47,20 @@ public class CreatePostalCodesMapConstantsClass {
     }
     return postalCodesMapConstants;
   }
+
+  /**
+   * get the precompiled postal code regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (postalCodePatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (postalCodePatterns == null) {
+          postalCodePatterns = new CountryRegExPatterns(create().postalCodes());
+        }
+      }
+    }
+    return postalCodePatterns;
+  }
 }
@@ -16,6 +16,7 @@
 package de.knightsoftnet.validators.server.data;
 
 import de.knightsoftnet.validators.client.data.TaxNumberMapConstants;
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.TaxNumberMapSharedConstants;
 
 import com.google.gwt.core.client.GWT;
@@ -29,6 +30,7 @@ import com.google.gwt.core.client.GWT;
 public class CreateTaxNumberMapConstantsClass {
 
   private static volatile TaxNumberMapConstants taxNumberMapConstants = null;
+  private static volatile CountryRegExPatterns taxNumberPatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -45,4 +47,20 @@ public class CreateTaxNumberMapConstantsClass {
     }
     return taxNumberMapConstants;
   }
+
+  /**
+   * get the precompiled tax number regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (taxNumberPatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (taxNumberPatterns == null) {
+          taxNumberPatterns = new CountryRegExPatterns(create().taxNumbers());
+        }
+      }
+    }
+    return taxNumberPatterns;
+  }
 }
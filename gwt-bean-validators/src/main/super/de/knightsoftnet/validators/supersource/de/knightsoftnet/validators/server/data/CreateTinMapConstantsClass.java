@@ -16,6 +16,7 @@
 package de.knightsoftnet.validators.server.data;
 
 import de.knightsoftnet.validators.client.data.TinMapConstants;
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.TinMapSharedConstants;
 
 import com.google.gwt.core.client.GWT;
@@ -29,6 +30,7 @@ import com.google.gwt.core.client.GWT;
 public class CreateTinMapConstantsClass {
 
   private static volatile TinMapConstants tinMapConstants = null;
+  private static volatile CountryRegExPatterns tinPatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -45,4 +47,20 @@ public class CreateTinMapConstantsClass {
     }
     return tinMapConstants;
   }
+
+  /**
+   * get the precompiled tin regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (tinPatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (tinPatterns == null) {
+          tinPatterns = new CountryRegExPatterns(create().tins());
+        }
+      }
+    }
+    return tinPatterns;
+  }
 }
@@ -16,6 +16,7 @@
 package de.knightsoftnet.validators.server.data;
 
 import de.knightsoftnet.validators.client.data.VatIdMapConstants;
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.VatIdMapSharedConstants;
 
 import com.google.gwt.core.client.GWT;
@@ -29,6 +30,7 @@ import com.google.gwt.core.client.GWT;
 public class CreateVatIdMapConstantsClass {
 
   private static volatile VatIdMapConstants vatIdMapConstants = null;
+  private static volatile CountryRegExPatterns vatIdPatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -45,4 +47,20 @@ public class CreateVatIdMapConstantsClass {
     }
     return vatIdMapConstants;
   }
+
+  /**
+   * get the precompiled vat id regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (vatIdPatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (vatIdPatterns == null) {
+          vatIdPatterns = new CountryRegExPatterns(create().vatIds());
+        }
+      }
+    }
+    return vatIdPatterns;
+  }
 }
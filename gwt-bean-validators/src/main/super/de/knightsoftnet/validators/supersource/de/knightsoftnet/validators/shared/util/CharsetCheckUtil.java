@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.function.Predicate;
+
+/**
+ * checks if texts can be encoded in a charset, client side implementation. The bit set tables and
+ * the surrogate check are the same as on the server, all other charsets use a plain charset
+ * encoder, there is only one thread on the client.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class CharsetCheckUtil {
+
+  /**
+   * characters of ISO-8859-1 replaced in ISO-8859-15.
+   */
+  private static final String ISO_8859_15_REPLACED =
+      "\u00a4\u00a6\u00a8\u00b4\u00b8\u00bc\u00bd\u00be";
+
+  /**
+   * replacement characters of ISO-8859-15.
+   */
+  private static final String ISO_8859_15_ADDED =
+      "\u20ac\u0160\u0161\u017d\u017e\u0152\u0153\u0178";
+
+  /**
+   * characters windows-1252 has in the range 0x80 - 0x9f, which is not used by ISO-8859-1.
+   */
+  private static final String WINDOWS_1252_ADDED =
+      "\u20ac\u201a\u0192\u201e\u2026\u2020\u2021\u02c6\u2030\u0160\u2039\u0152\u017d\u2018"
+          + "\u2019\u201c\u201d\u2022\u2013\u2014\u02dc\u2122\u0161\u203a\u0153\u017e\u0178";
+
+  private static final int[] US_ASCII = createTable(0x80, "", "");
+  private static final int[] ISO_8859_1 = createTable(0x100, "", "");
+  private static final int[] ISO_8859_15 =
+      createTable(0x100, ISO_8859_15_REPLACED, ISO_8859_15_ADDED);
+  private static final int[] WINDOWS_1252 = createTable(0x100,
+      "\u0080\u0081\u0082\u0083\u0084\u0085\u0086\u0087\u0088\u0089\u008a\u008b\u008c\u008d"
+          + "\u008e\u008f\u0090\u0091\u0092\u0093\u0094\u0095\u0096\u0097\u0098\u0099\u009a"
+          + "\u009b\u009c\u009d\u009e\u009f",
+      WINDOWS_1252_ADDED);
+
+  private CharsetCheckUtil() {
+    super();
+  }
+
+  /**
+   * create a check for the given charset.
+   *
+   * @param pcharsetName name or alias of the charset
+   * @return predicate which is true if the text can be encoded in the charset
+   */
+  public static Predicate<CharSequence> forCharset(final String pcharsetName) {
+    final Charset charset = Charset.forName(pcharsetName);
+    switch (charset.name()) {
+      case "US-ASCII":
+        return text -> isInTable(text, US_ASCII);
+      case "ISO-8859-1":
+        return text -> isInTable(text, ISO_8859_1);
+      case "ISO-8859-15":
+        return text -> isInTable(text, ISO_8859_15);
+      case "windows-1252":
+        return text -> isInTable(text, WINDOWS_1252);
+      case "UTF-8":
+      case "UTF-16":
+      case "UTF-16BE":
+      case "UTF-16LE":
+        return CharsetCheckUtil::hasValidSurrogates;
+      default:
+        final CharsetEncoder encoder = charset.newEncoder();
+        return text -> encoder.canEncode(text);
+    }
+  }
+
+  private static boolean isInTable(final CharSequence ptext, final int[] ptable) {
+    for (int pos = 0; pos < ptext.length(); pos++) {
+      final char character = ptext.charAt(pos);
+      if (character >>> 5 >= ptable.length
+          || (ptable[character >>> 5] & 1 << (character & 0x1f)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * unicode charsets can encode all characters, but high and low surrogates must be pairs.
+   */
+  private static boolean hasValidSurrogates(final CharSequence ptext) {
+    for (int pos = 0; pos < ptext.length(); pos++) {
+      final char character = ptext.charAt(pos);
+      if (Character.isHighSurrogate(character)) {
+        if (pos + 1 >= ptext.length() || !Character.isLowSurrogate(ptext.charAt(pos + 1))) {
+          return false;
+        }
+        pos++;
+      } else if (Character.isLowSurrogate(character)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * bit set of the characters below the limit without the replaced characters plus the added.
+   */
+  private static int[] createTable(final int plimit, final String preplaced, final String padded) {
+    int maxCharacter = plimit - 1;
+    for (int pos = 0; pos < padded.length(); pos++) {
+      maxCharacter = Math.max(maxCharacter, padded.charAt(pos));
+    }
+    final int[] table = new int[(maxCharacter >>> 5) + 1];
+    for (int character = 0; character < plimit; character++) {
+      if (preplaced.indexOf(character) < 0) {
+        table[character >>> 5] |= 1 << (character & 0x1f);
+      }
+    }
+    for (int pos = 0; pos < padded.length(); pos++) {
+      final char character = padded.charAt(pos);
+      table[character >>> 5] |= 1 << (character & 0x1f);
+    }
+    return table;
+  }
+}
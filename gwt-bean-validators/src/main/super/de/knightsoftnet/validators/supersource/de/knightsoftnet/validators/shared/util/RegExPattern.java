@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import com.google.gwt.regexp.shared.MatchResult;
+import com.google.gwt.regexp.shared.RegExp;
+
+/**
+ * precompiled regular expression, client side implementation based on GWT RegExp.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class RegExPattern {
+  private final String regEx;
+  private final RegExp completeRegEx;
+  private final RegExp startRegEx;
+
+  /**
+   * constructor compiling the regular expression.
+   *
+   * @param pregEx regular expression to compile
+   */
+  public RegExPattern(final String pregEx) {
+    super();
+    regEx = pregEx;
+    completeRegEx = RegExp.compile("^(?:" + pregEx + ")$");
+    startRegEx = RegExp.compile("^(?:" + pregEx + ")");
+  }
+
+  public String getRegEx() {
+    return regEx;
+  }
+
+  /**
+   * check if the complete value matches the regular expression.
+   *
+   * @param pvalue value to check
+   * @return true if it matches
+   */
+  public boolean matches(final CharSequence pvalue) {
+    return pvalue != null && completeRegEx.test(pvalue.toString());
+  }
+
+  /**
+   * check if the beginning of the value matches the regular expression.
+   *
+   * @param pvalue value to check
+   * @return length of the matching part at the beginning or -1 if it doesn't match
+   */
+  public int matchesAtStart(final CharSequence pvalue) {
+    if (pvalue == null) {
+      return -1;
+    }
+    final MatchResult result = startRegEx.exec(pvalue.toString());
+    return result == null ? -1 : result.getGroup(0).length();
+  }
+
+  /**
+   * check if the value matches the regular expression at the given position, the part in front of
+   * the position is ignored.
+   *
+   * @param pvalue value to check
+   * @param pstart position where the match has to start
+   * @return length of the matching part starting at the position or -1 if it doesn't match
+   */
+  public int matchesAtStart(final CharSequence pvalue, final int pstart) {
+    if (pvalue == null || pstart > pvalue.length()) {
+      return -1;
+    }
+    return this.matchesAtStart(pvalue.subSequence(pstart, pvalue.length()));
+  }
+
+  @Override
+  public String toString() {
+    return regEx;
+  }
+}
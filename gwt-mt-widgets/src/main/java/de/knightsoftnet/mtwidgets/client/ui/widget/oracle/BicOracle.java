@@ -25,7 +25,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map.Entry;
 
 /**
  * suggest oracle of BIC suggest widget.
@@ -36,14 +35,14 @@ import java.util.Map.Entry;
 public class BicOracle extends SuggestOracle {
 
   /**
-   * map of the bic values.
+   * default limit suggests.
    */
-  private static final BicMapConstants BIC_MAP = GWT.create(BicMapConstants.class);
+  private static final int LIMIT_DEFAULT = 20;
 
   /**
-   * default limit suggests.
+   * search index of the bic values, shared by all bic suggest boxes.
    */
-  private static final int LIMIT_DEFAULT = 20;
+  private static volatile BicOracleIndex bicIndex;
 
   @Override
   public final boolean isDisplayStringHTML() {
@@ -54,6 +53,7 @@ public class BicOracle extends SuggestOracle {
   public final void requestSuggestions(final Request prequest, final Callback pcallback) {
     final SuggestOracle.Response response = new SuggestOracle.Response();
     if (prequest != null && StringUtils.isNotEmpty(prequest.getQuery())) {
+      final String query = prequest.getQuery();
       final int limit;
       if (prequest.getLimit() > 0) {
         limit = prequest.getLimit();
@@ -62,52 +62,52 @@ public class BicOracle extends SuggestOracle {
       }
       final List<BicItemSuggest> suggestions = new ArrayList<>(limit);
       // first run, starts with exact test
-      for (final Entry<String, String> entry : BicOracle.BIC_MAP.bics().entrySet()) {
-        if (entry.getKey().startsWith(prequest.getQuery())) {
-          suggestions
-              .add(new BicItemSuggest(entry.getKey(), entry.getKey().replace(prequest.getQuery(),
-                  "<strong>" + prequest.getQuery() + "</strong>"), entry.getValue()));
-          if (suggestions.size() >= limit) {
-            break;
-          }
-        }
-      }
+      BicOracle.getBicIndex().findByPrefix(query,
+          (bic, bankName) -> addSuggestion(suggestions, limit, bic, query, bankName));
       // second run, contains
       if (suggestions.isEmpty()) {
-        for (final Entry<String, String> entry : BicOracle.BIC_MAP.bics().entrySet()) {
-          if (entry.getKey().contains(prequest.getQuery())) {
-            suggestions
-                .add(new BicItemSuggest(entry.getKey(), entry.getKey().replace(prequest.getQuery(),
-                    "<strong>" + prequest.getQuery() + "</strong>"), entry.getValue()));
-            if (suggestions.size() >= limit) {
-              break;
-            }
-          }
-        }
+        BicOracle.getBicIndex().findByContains(query,
+            (bic, bankName) -> addSuggestion(suggestions, limit, bic, query, bankName));
       }
       // third run, contains with limited length
-      if (suggestions.isEmpty()) {
-        for (final Entry<String, String> entry : BicOracle.BIC_MAP.bics().entrySet()) {
-          if (entry.getKey().contains(
-              StringUtils.substring(prequest.getQuery(), 0, BicValidator.BIC_LENGTH_MIN))) {
-            if (prequest.getQuery().length() == BicValidator.BIC_LENGTH_MAX) {
-              suggestions.add(new BicItemSuggest(prequest.getQuery(),
-                  "<strong>" + prequest.getQuery() + "</strong>", entry.getValue()));
-            }
-            suggestions.add(new BicItemSuggest(entry.getKey(), //
-                entry.getKey().replace(StringUtils.substring(prequest.getQuery(), 0, //
-                    BicValidator.BIC_LENGTH_MIN), //
-                    "<strong>" + StringUtils.substring(prequest.getQuery(), 0, //
-                        BicValidator.BIC_LENGTH_MIN) + "</strong>"), //
-                entry.getValue()));
-            if (suggestions.size() >= limit) {
-              break;
-            }
+      if (suggestions.isEmpty() && query.length() > BicValidator.BIC_LENGTH_MIN) {
+        final String shortQuery = StringUtils.substring(query, 0, BicValidator.BIC_LENGTH_MIN);
+        BicOracle.getBicIndex().findByContains(shortQuery, (bic, bankName) -> {
+          if (suggestions.isEmpty() && query.length() == BicValidator.BIC_LENGTH_MAX) {
+            suggestions.add(new BicItemSuggest(query, highlight(query, query), bankName));
           }
-        }
+          return addSuggestion(suggestions, limit, bic, shortQuery, bankName);
+        });
       }
       response.setSuggestions(suggestions);
     }
     pcallback.onSuggestionsReady(prequest, response);
   }
+
+  /**
+   * add a suggestion, the highlighting is only created for the entries which are displayed.
+   *
+   * @return true if more suggestions are needed
+   */
+  private static boolean addSuggestion(final List<BicItemSuggest> psuggestions, final int plimit,
+      final String pbic, final String pquery, final String pbankName) {
+    psuggestions.add(new BicItemSuggest(pbic, highlight(pbic, pquery), pbankName));
+    return psuggestions.size() < plimit;
+  }
+
+  private static String highlight(final String pbic, final String pquery) {
+    return pbic.replace(pquery, "<strong>" + pquery + "</strong>");
+  }
+
+  private static BicOracleIndex getBicIndex() {
+    if (bicIndex == null) { // NOPMD it's thread save!
+      synchronized (BicOracleIndex.class) {
+        if (bicIndex == null) {
+          final BicMapConstants bicMap = GWT.create(BicMapConstants.class);
+          bicIndex = new BicOracleIndex(bicMap.bics());
+        }
+      }
+    }
+    return bicIndex;
+  }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.mtwidgets.client.ui.widget.oracle;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * immutable search index of the bics. The bics are kept in a sorted array, so entries starting
+ * with a prefix are a range found by binary search. For contains searches there is a bigram index
+ * which holds for each pair of characters the sorted positions of the bics containing it, only
+ * the bics of the rarest bigram of the query have to be checked.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class BicOracleIndex {
+
+  private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final int[] EMPTY = new int[0];
+
+  private final String[] bics;
+  private final String[] bankNames;
+  private final int[][] bigrams;
+
+  /**
+   * constructor building the index.
+   *
+   * @param pbicMap map of bics and bank names
+   */
+  public BicOracleIndex(final Map<String, String> pbicMap) {
+    super();
+    bics = pbicMap.keySet().toArray(new String[pbicMap.size()]);
+    Arrays.sort(bics);
+    bankNames = new String[bics.length];
+    final int[] counts = new int[ALPHABET.length() * ALPHABET.length()];
+    for (int pos = 0; pos < bics.length; pos++) {
+      bankNames[pos] = pbicMap.get(bics[pos]);
+      forEachBigram(bics[pos], pos, counts, null);
+    }
+    bigrams = new int[counts.length][];
+    for (int bigram = 0; bigram < counts.length; bigram++) {
+      bigrams[bigram] = counts[bigram] == 0 ? EMPTY : new int[counts[bigram]];
+    }
+    final int[] fill = new int[counts.length];
+    for (int pos = 0; pos < bics.length; pos++) {
+      forEachBigram(bics[pos], pos, fill, bigrams);
+    }
+  }
+
+  /**
+   * find bics starting with the given prefix in alphabetical order.
+   *
+   * @param pprefix prefix to search for
+   * @param pconsumer gets bic and bank name of the found entries, returns false to stop
+   */
+  public void findByPrefix(final String pprefix, final BiPredicate<String, String> pconsumer) {
+    int pos = lowerBound(pprefix);
+    while (pos < bics.length && bics[pos].startsWith(pprefix)
+        && pconsumer.test(bics[pos], bankNames[pos])) {
+      pos++;
+    }
+  }
+
+  /**
+   * find bics containing the given part in alphabetical order.
+   *
+   * @param ppart part to search for
+   * @param pconsumer gets bic and bank name of the found entries, returns false to stop
+   */
+  public void findByContains(final String ppart, final BiPredicate<String, String> pconsumer) {
+    int[] candidates = null;
+    for (int pos = 0; pos + 1 < ppart.length(); pos++) {
+      final int bigram = bigram(ppart.charAt(pos), ppart.charAt(pos + 1));
+      if (bigram < 0) {
+        // characters which are not indexed, check all
+        candidates = null;
+        break;
+      }
+      if (candidates == null || bigrams[bigram].length < candidates.length) {
+        candidates = bigrams[bigram];
+      }
+    }
+    if (candidates == null) {
+      for (int pos = 0; pos < bics.length; pos++) {
+        if (bics[pos].contains(ppart) && !pconsumer.test(bics[pos], bankNames[pos])) {
+          return;
+        }
+      }
+    } else {
+      for (final int pos : candidates) {
+        if (bics[pos].contains(ppart) && !pconsumer.test(bics[pos], bankNames[pos])) {
+          return;
+        }
+      }
+    }
+  }
+
+  private int lowerBound(final String pkey) {
+    int low = 0;
+    int high = bics.length;
+    while (low < high) {
+      final int middle = low + high >>> 1;
+      if (bics[middle].compareTo(pkey) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * count (pbigrams == null) or add the position of a bic to the bigrams it contains, each
+   * bigram only once.
+   */
+  private static void forEachBigram(final String pbic, final int pposition, final int[] pfill,
+      final int[][] pbigrams) {
+    for (int pos = 0; pos + 1 < pbic.length(); pos++) {
+      final int bigram = bigram(pbic.charAt(pos), pbic.charAt(pos + 1));
+      if (bigram < 0 || pbic.indexOf(pbic.substring(pos, pos + 2)) < pos) {
+        continue;
+      }
+      if (pbigrams == null) {
+        pfill[bigram]++;
+      } else {
+        pbigrams[bigram][pfill[bigram]++] = pposition;
+      }
+    }
+  }
+
+  private static int bigram(final char pchar1, final char pchar2) {
+    final int first = ALPHABET.indexOf(pchar1);
+    final int second = ALPHABET.indexOf(pchar2);
+    return first < 0 || second < 0 ? -1 : first * ALPHABET.length() + second;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.gwtp.spring.server.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.annotation.security.PermitAll;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import de.knightsoftnet.gwtp.spring.shared.Parameters;
+import de.knightsoftnet.gwtp.spring.shared.ResourcePaths.Iban;
+import de.knightsoftnet.validators.shared.data.IbanAnalyzeData;
+import de.knightsoftnet.validators.shared.util.IbanAnalyzer;
+
+/**
+ * iban web service, validates ibans and splits them into their parts.
+ *
+ * @author Manfred Tremmel
+ */
+@RestController
+@RequestMapping(Iban.ROOT)
+public class IbanServiceController {
+
+  private final ObjectMapper mapper;
+
+  /**
+   * constructor, the batch results are written with the object mapper of the application, so
+   * they are serialized the same way as the results of the single analyze.
+   *
+   * @param pmapper object mapper of the application
+   */
+  @Inject
+  protected IbanServiceController(final ObjectMapper pmapper) {
+    super();
+    mapper = pmapper;
+  }
+
+  @RequestMapping(value = Iban.ANALYZE, method = RequestMethod.GET)
+  @PermitAll
+  public IbanAnalyzeData analyze(
+      @RequestParam(value = Parameters.IBAN, required = true) final String piban) {
+    return IbanAnalyzer.analyze(piban);
+  }
+
+  /**
+   * analyze a list of ibans, the lines are read, analyzed and written to the response as a stream,
+   * so neither the text nor the results are held completely in memory.
+   *
+   * @param pibans text with one iban per line, empty lines are ignored
+   * @param presponse response the json array of analyze data is written to in the order of the
+   *        lines
+   * @throws IOException if reading or writing fails
+   */
+  @RequestMapping(value = Iban.ANALYZE_BATCH, method = RequestMethod.POST,
+      consumes = MediaType.TEXT_PLAIN_VALUE)
+  @PermitAll
+  public void analyzeBatch(final InputStream pibans, final HttpServletResponse presponse)
+      throws IOException {
+    presponse.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(pibans, StandardCharsets.UTF_8));
+        JsonGenerator generator =
+            mapper.getFactory().createGenerator(presponse.getOutputStream())) {
+      generator.writeStartArray();
+      final Iterator<IbanAnalyzeData> results = IbanAnalyzer
+          .analyze(reader.lines().map(StringUtils::trim).filter(StringUtils::isNotEmpty))
+          .iterator();
+      while (results.hasNext()) {
+        mapper.writeValue(generator, results.next());
+      }
+      generator.writeEndArray();
+    }
+  }
+}
@@ -37,6 +37,7 @@ import de.knightsoftnet.gwtp.spring.shared.data.ValueWithPosAndCountry;
 import de.knightsoftnet.validators.shared.data.PhoneNumberData;
 import de.knightsoftnet.validators.shared.data.ValueWithPos;
 import de.knightsoftnet.validators.shared.util.LocaleUtil;
+import de.knightsoftnet.validators.shared.util.PhoneNumberFormats;
 import de.knightsoftnet.validators.shared.util.PhoneNumberUtil;
 
 /**
@@ -78,6 +79,8 @@ public class PhoneNumberServiceController {
    * @param planguage language to use
    * @param pcountry default country
    * @param pphoneNumber phone number to format
+   * @param pformats bit set of the formats to return (see {@link PhoneNumberFormats}), all formats
+   *        if not set
    * @return PhoneNumberDataWithFormats
    */
   @RequestMapping(value = PhoneNumber.PARSE_AND_FORMAT, method = RequestMethod.GET)
@@ -85,17 +88,13 @@ public class PhoneNumberServiceController {
   public PhoneNumberDataWithFormats parseAndFormatPhoneNumber(
       @RequestParam(value = Parameters.LANGUAGE, required = true) final String planguage,
       @RequestParam(value = Parameters.COUNTRY, required = true) final String pcountry,
-      @RequestParam(value = Parameters.PHONE_NUMBER, required = true) final String pphoneNumber) {
-    final PhoneNumberDataWithFormats result = new PhoneNumberDataWithFormats(phoneNumberUtil
-        .parsePhoneNumber(pphoneNumber, pcountry, LocaleUtil.convertLanguageToLocale(planguage)));
-    result.setCommonInternational(phoneNumberUtil.formatCommonInternational(result));
-    result.setCommonNational(phoneNumberUtil.formatCommonNational(result));
-    result.setDin5008International(phoneNumberUtil.formatDin5008International(result));
-    result.setDin5008National(phoneNumberUtil.formatDin5008National(result));
-    result.setE123International(phoneNumberUtil.formatE123International(result));
-    result.setE123National(phoneNumberUtil.formatE123National(result));
-    result.setMs(phoneNumberUtil.formatMs(result));
-    result.setUrl(phoneNumberUtil.formatUrl(result));
+      @RequestParam(value = Parameters.PHONE_NUMBER, required = true) final String pphoneNumber,
+      @RequestParam(value = Parameters.FORMATS, required = false) final Integer pformats) {
+    final PhoneNumberDataWithFormats result = phoneNumberUtil.parsePhoneNumberInto(
+        StringUtils.defaultString(pphoneNumber), new PhoneNumberDataWithFormats(),
+        phoneNumberUtil.getCountryData(pcountry, LocaleUtil.convertLanguageToLocale(planguage)));
+    PhoneNumberFormats.render(result,
+        pformats == null ? PhoneNumberFormats.ALL : pformats.intValue(), result);
     return result;
   }
 
@@ -61,4 +61,10 @@ public class ResourcePaths {
     public static final String GET_SUGGESTIONS = "/getsuggestions";
     public static final String VALIDATE = "/validate";
   }
+
+  public class Iban {
+    public static final String ROOT = API_BASE_DIR + "/ibanservice";
+    public static final String ANALYZE = "/analyze";
+    public static final String ANALYZE_BATCH = "/analyzebatch";
+  }
 }
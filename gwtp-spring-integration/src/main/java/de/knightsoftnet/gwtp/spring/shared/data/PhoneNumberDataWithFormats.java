@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.Objects;
 
 import de.knightsoftnet.validators.shared.data.PhoneNumberData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberFormatsInterface;
 import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
 
 /**
@@ -31,7 +32,8 @@ import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
  *
  */
 @JsonFormat
-public class PhoneNumberDataWithFormats extends PhoneNumberData {
+public class PhoneNumberDataWithFormats extends PhoneNumberData
+    implements PhoneNumberFormatsInterface {
 
   private String din5008National;
   private String din5008International;
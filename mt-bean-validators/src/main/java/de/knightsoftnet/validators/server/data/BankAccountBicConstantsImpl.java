@@ -15,35 +15,45 @@
 
 package de.knightsoftnet.validators.server.data;
 
-import de.knightsoftnet.validators.shared.data.BankAccountBicSharedConstants;
-import de.knightsoftnet.validators.shared.data.CountryBankAccountData;
+import de.knightsoftnet.validators.shared.data.BankAccountBicTable;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
-public class BankAccountBicConstantsImpl implements BankAccountBicSharedConstants {
-  private final Map<CountryBankAccountData, String> bankAccountBicMap;
+public class BankAccountBicConstantsImpl extends BankAccountBicTable {
+
+  private final List<BankDirectory> bankDirectories;
 
   public BankAccountBicConstantsImpl() {
-    super();
-    bankAccountBicMap = new HashMap<>();
+    this(Collections.emptyList());
   }
 
-  public BankAccountBicConstantsImpl(final Map<CountryBankAccountData, String> pmap) {
+  /**
+   * constructor with additional bank directories.
+   *
+   * @param pbankDirectories bank directories, they are asked in the given order before the bank
+   *        accounts added to this table, which are not used for the countries of the directories
+   */
+  public BankAccountBicConstantsImpl(final Collection<BankDirectory> pbankDirectories) {
     super();
-    bankAccountBicMap = pmap;
-  }
-
-  @Override
-  public Map<CountryBankAccountData, String> bankAccounts() {
-    return bankAccountBicMap;
+    bankDirectories = new ArrayList<>(pbankDirectories);
   }
 
   @Override
-  public void addBankAccounts(final String pcountry, final Map<String, String> pmap) {
-    bankAccountBicMap.putAll(pmap.entrySet().stream().collect(Collectors.toMap( //
-        entry -> new CountryBankAccountData(pcountry, entry.getKey()), //
-        entry -> entry.getValue())));
+  public String getBicOfIban(final CharSequence piban, final int pbankNumberStart,
+      final int pbankNumberEnd) {
+    boolean replacedCountry = false;
+    for (final BankDirectory bankDirectory : bankDirectories) {
+      final String bic = bankDirectory.getBicOfIban(piban, pbankNumberStart, pbankNumberEnd);
+      if (bic != null) {
+        return bic;
+      }
+      replacedCountry = replacedCountry || piban != null && piban.length() >= 2
+          && bankDirectory.getCountries().contains(piban.subSequence(0, 2).toString());
+    }
+    return replacedCountry ? null
+        : super.getBicOfIban(piban, pbankNumberStart, pbankNumberEnd);
   }
 }
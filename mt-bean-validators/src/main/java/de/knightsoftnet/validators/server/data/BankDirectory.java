@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import java.util.Set;
+
+/**
+ * service provider interface for bank directories which resolve bank numbers of ibans to bics.
+ * Implementations are found with the {@link java.util.ServiceLoader} and are asked before the
+ * bank data delivered with the validators, so they can add countries or replace the data of a
+ * country. Implementations must be thread safe.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public interface BankDirectory {
+
+  /**
+   * countries this directory contains bank numbers for.
+   *
+   * @return set of two letter country codes
+   */
+  Set<String> getCountries();
+
+  /**
+   * get bic of the bank number in a iban.
+   *
+   * @param piban iban, the first two characters are the country code, separator spaces are
+   *        ignored
+   * @param pbankNumberStart start position of the bank number in the iban without separators
+   * @param pbankNumberEnd end position of the bank number in the iban without separators
+   * @return bic or null if the bank number is unknown
+   */
+  String getBicOfIban(CharSequence piban, int pbankNumberStart, int pbankNumberEnd);
+}
@@ -17,19 +17,50 @@ package de.knightsoftnet.validators.server.data;
 
 import de.knightsoftnet.validators.shared.data.BankAccountBicSharedConstants;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Read gwt constants from properties file on server side.
+ * Read gwt constants from properties file on server side. Additional {@link BankDirectory}
+ * implementations are found with the {@link ServiceLoader} each time the constants are created,
+ * they are asked before the properties data. A reload directory may contain a bank directory file
+ * named {@value #BANK_DIRECTORY_FILE}, which is asked first.
  *
  * @author Manfred Tremmel
  *
  */
 public class CreateBankAccountBicMapConstantsClass extends CreateClassHelper {
 
+  /**
+   * name of a bank directory file (see {@link MappedBankDirectory}) which is used when it's found
+   * in the directory of a reload.
+   */
+  public static final String BANK_DIRECTORY_FILE = "BankDirectory.bin";
+
   private static final List<String> COUNTRIES = Arrays.asList("AT", "DE");
-  private static volatile BankAccountBicConstantsImpl bicMapConstants = null;
+  private static final ReloadableConstants<BankAccountBicConstantsImpl> BANK_ACCOUNT_BICS =
+      new ReloadableConstants<>(() -> {
+        final List<BankDirectory> bankDirectories = new ArrayList<>();
+        final Path directory = getPropertyDirectory();
+        if (directory != null && Files.isRegularFile(directory.resolve(BANK_DIRECTORY_FILE))) {
+          bankDirectories.add(new MappedBankDirectory(directory.resolve(BANK_DIRECTORY_FILE)));
+        }
+        ServiceLoader.load(BankDirectory.class).forEach(bankDirectory -> {
+          if (!bankDirectory.getCountries().isEmpty()) {
+            bankDirectories.add(bankDirectory);
+          }
+        });
+        final BankAccountBicConstantsImpl bicMapConstants =
+            new BankAccountBicConstantsImpl(bankDirectories);
+        COUNTRIES.stream().forEach(country -> bicMapConstants.addBankAccounts(country,
+            readMapFromProperties("BankAccountBic" + country + "Constants", "bankAccounts")));
+        return bicMapConstants;
+      });
 
   /**
    * Instantiates a class via deferred binding.
@@ -37,16 +68,36 @@ public class CreateBankAccountBicMapConstantsClass extends CreateClassHelper {
    * @return the new instance, which must be cast to the requested class
    */
   public static BankAccountBicSharedConstants create() {
-    if (bicMapConstants == null) { // NOPMD it's thread save!
-      synchronized (BankAccountBicConstantsImpl.class) {
-        if (bicMapConstants == null) {
-          final BankAccountBicConstantsImpl bicMapConstantsTmp = new BankAccountBicConstantsImpl();
-          COUNTRIES.stream().forEach(country -> bicMapConstantsTmp.addBankAccounts(country,
-              readMapFromProperties("BankAccountBic" + country + "Constants", "bankAccounts")));
-          bicMapConstants = bicMapConstantsTmp;
-        }
-      }
-    }
-    return bicMapConstants;
+    return BANK_ACCOUNT_BICS.get();
+  }
+
+  /**
+   * reload the constants in the background from the given directory and replace the current ones
+   * when reading is complete.
+   *
+   * @param pdirectory directory with properties files named like the ones in the class path, null
+   *        reloads the class path data
+   * @return future with the version of the published constants
+   */
+  public static CompletableFuture<Long> reload(final Path pdirectory) {
+    return BANK_ACCOUNT_BICS.reload(pdirectory);
+  }
+
+  /**
+   * version of the current constants, incremented with each reload.
+   *
+   * @return version
+   */
+  public static long getVersion() {
+    return BANK_ACCOUNT_BICS.getVersion();
+  }
+
+  /**
+   * time when the current constants have been published.
+   *
+   * @return timestamp in milliseconds since epoch
+   */
+  public static long getTimestamp() {
+    return BANK_ACCOUNT_BICS.getTimestamp();
   }
 }
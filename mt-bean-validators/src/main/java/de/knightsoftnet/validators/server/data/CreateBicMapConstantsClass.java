@@ -17,6 +17,9 @@ package de.knightsoftnet.validators.server.data;
 
 import de.knightsoftnet.validators.shared.data.BicMapSharedConstants;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Read gwt constants from properties file on server side.
  *
@@ -25,7 +28,9 @@ import de.knightsoftnet.validators.shared.data.BicMapSharedConstants;
  */
 public class CreateBicMapConstantsClass extends CreateClassHelper {
 
-  private static volatile BicMapConstantsImpl bicMapConstants = null;
+  private static final ReloadableConstants<BicMapConstantsImpl> BIC_MAP_CONSTANTS =
+      new ReloadableConstants<>(
+          () -> new BicMapConstantsImpl(readMapFromProperties("BicMapConstants", "bics")));
 
   /**
    * Instantiates a class via deferred binding.
@@ -33,14 +38,36 @@ public class CreateBicMapConstantsClass extends CreateClassHelper {
    * @return the new instance, which must be cast to the requested class
    */
   public static BicMapSharedConstants create() {
-    if (bicMapConstants == null) { // NOPMD it's thread save!
-      synchronized (BicMapConstantsImpl.class) {
-        if (bicMapConstants == null) {
-          bicMapConstants =
-              new BicMapConstantsImpl(readMapFromProperties("BicMapConstants", "bics"));
-        }
-      }
-    }
-    return bicMapConstants;
+    return BIC_MAP_CONSTANTS.get();
+  }
+
+  /**
+   * reload the constants in the background from the given directory and replace the current ones
+   * when reading is complete.
+   *
+   * @param pdirectory directory with properties files named like the ones in the class path, null
+   *        reloads the class path data
+   * @return future with the version of the published constants
+   */
+  public static CompletableFuture<Long> reload(final Path pdirectory) {
+    return BIC_MAP_CONSTANTS.reload(pdirectory);
+  }
+
+  /**
+   * version of the current constants, incremented with each reload.
+   *
+   * @return version
+   */
+  public static long getVersion() {
+    return BIC_MAP_CONSTANTS.getVersion();
+  }
+
+  /**
+   * time when the current constants have been published.
+   *
+   * @return timestamp in milliseconds since epoch
+   */
+  public static long getTimestamp() {
+    return BIC_MAP_CONSTANTS.getTimestamp();
   }
 }
@@ -19,10 +19,18 @@ import de.knightsoftnet.validators.shared.data.AbstractCreateClass;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.function.Supplier;
 
 /**
  * Read gwt constants from properties file on server side.
@@ -34,6 +42,8 @@ public class CreateClassHelper extends AbstractCreateClass {
 
   private static final String PROPERTY_PACKAGE = "de.knightsoftnet.validators.client.data.";
 
+  private static final ThreadLocal<DirectoryClassLoader> PROPERTY_LOADER = new ThreadLocal<>();
+
   protected static Map<String, String> readMapFromProperties(final String pmapName,
       final String pmapRoot) {
     return readMapFromProperties(pmapName, Locale.ROOT, pmapRoot);
@@ -41,12 +51,116 @@ public class CreateClassHelper extends AbstractCreateClass {
 
   protected static Map<String, String> readMapFromProperties(final String pmapName,
       final Locale plocale, final String pmapRoot) {
-    final ResourceBundle bundle =
-        ResourceBundle.getBundle(PROPERTY_PACKAGE + pmapName, plocale, new Utf8Control());
+    final DirectoryClassLoader loader = PROPERTY_LOADER.get();
+    final ResourceBundle bundle = loader == null
+        ? ResourceBundle.getBundle(PROPERTY_PACKAGE + pmapName, plocale, new Utf8Control())
+        : ResourceBundle.getBundle(PROPERTY_PACKAGE + pmapName, plocale, loader,
+            new Utf8Control());
     final Map<String, String> map = new HashMap<>();
     for (final String key : StringUtils.split(bundle.getString(pmapRoot), ',')) {
       map.put(key, bundle.getString(key));
     }
     return map;
   }
+
+  /**
+   * get the locale of the most specific properties file which is read for the given locale, the
+   * locale is resolved the same way resource bundles do it. All locales which resolve to the same
+   * locale read the same data.
+   *
+   * @param pmapName name of the properties file
+   * @param plocale language to resolve
+   * @return locale of the properties file, root if only the default file exists
+   */
+  protected static Locale resolvePropertiesLocale(final String pmapName, final Locale plocale) {
+    final DirectoryClassLoader directoryLoader = PROPERTY_LOADER.get();
+    final ClassLoader loader =
+        directoryLoader == null ? CreateClassHelper.class.getClassLoader() : directoryLoader;
+    final ResourceBundle.Control control = new Utf8Control();
+    final String baseName = PROPERTY_PACKAGE + pmapName;
+    for (final Locale candidate : control.getCandidateLocales(baseName, plocale)) {
+      if (!Locale.ROOT.equals(candidate) && loader.getResource(control
+          .toResourceName(control.toBundleName(baseName, candidate), "properties")) != null) {
+        return candidate;
+      }
+    }
+    final Locale fallback = control.getFallbackLocale(baseName, plocale);
+    return Locale.ROOT.equals(plocale) || fallback == null || fallback.equals(plocale)
+        ? Locale.ROOT
+        : resolvePropertiesLocale(pmapName, fallback);
+  }
+
+  /**
+   * run the factory with properties read from the given directory, properties files which don't
+   * exist in the directory are read from the class path.
+   *
+   * @param pdirectory directory to read properties files from, null reads from class path
+   * @param pfactory factory which reads the properties
+   * @param <T> type of the created data
+   * @return created data
+   */
+  protected static <T> T readFrom(final Path pdirectory, final Supplier<T> pfactory) {
+    final DirectoryClassLoader previousLoader = PROPERTY_LOADER.get();
+    final DirectoryClassLoader loader =
+        pdirectory == null ? null : new DirectoryClassLoader(pdirectory);
+    PROPERTY_LOADER.set(loader);
+    try {
+      return pfactory.get();
+    } finally {
+      if (previousLoader == null) {
+        PROPERTY_LOADER.remove();
+      } else {
+        PROPERTY_LOADER.set(previousLoader);
+      }
+      if (loader != null) {
+        ResourceBundle.clearCache(loader);
+      }
+    }
+  }
+
+  /**
+   * directory properties are read from in the current thread.
+   *
+   * @return directory or null if properties are read from class path
+   */
+  protected static Path getPropertyDirectory() {
+    final DirectoryClassLoader loader = PROPERTY_LOADER.get();
+    return loader == null ? null : loader.directory;
+  }
+
+  /**
+   * class loader which takes the properties files from a directory, the package path of the
+   * resource name is ignored.
+   */
+  private static class DirectoryClassLoader extends ClassLoader {
+    private final Path directory;
+
+    DirectoryClassLoader(final Path pdirectory) {
+      super(CreateClassHelper.class.getClassLoader());
+      directory = pdirectory;
+    }
+
+    @Override
+    public URL getResource(final String pname) {
+      final Path file = directory.resolve(pname.substring(pname.lastIndexOf('/') + 1));
+      if (Files.isRegularFile(file)) {
+        try {
+          return file.toUri().toURL();
+        } catch (final MalformedURLException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      return super.getResource(pname);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(final String pname) {
+      final URL url = this.getResource(pname);
+      try {
+        return url == null ? null : url.openStream();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
 }
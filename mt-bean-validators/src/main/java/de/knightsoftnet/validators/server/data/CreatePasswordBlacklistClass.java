@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import de.knightsoftnet.validators.shared.util.AhoCorasickMatcher;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read password blacklists from class path resources on server side. A blacklist resource is a
+ * UTF-8 text file with one word per line, empty lines and lines starting with # are ignored. The
+ * lists and the matchers built from them are created only once per resource.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class CreatePasswordBlacklistClass {
+
+  private static final Map<String, List<String>> BLACKLISTS = new ConcurrentHashMap<>();
+  private static final Map<String, AhoCorasickMatcher> MATCHERS = new ConcurrentHashMap<>();
+
+  private CreatePasswordBlacklistClass() {
+    super();
+  }
+
+  /**
+   * read the words of a blacklist resource.
+   *
+   * @param presource class path resource name of the blacklist
+   * @return unmodifiable list of the words, trimmed and in lower case
+   */
+  public static List<String> readBlacklist(final String presource) {
+    return BLACKLISTS.computeIfAbsent(StringUtils.removeStart(presource, "/"),
+        CreatePasswordBlacklistClass::read);
+  }
+
+  /**
+   * get the matcher of the words of a blacklist resource.
+   *
+   * @param presource class path resource name of the blacklist
+   * @return matcher of the words, shared by all callers
+   */
+  public static AhoCorasickMatcher getBlacklistMatcher(final String presource) {
+    return MATCHERS.computeIfAbsent(StringUtils.removeStart(presource, "/"),
+        resource -> new AhoCorasickMatcher(readBlacklist(resource)));
+  }
+
+  private static List<String> read(final String presource) {
+    final ClassLoader classLoader = CreatePasswordBlacklistClass.class.getClassLoader();
+    final InputStream stream = classLoader.getResourceAsStream(presource);
+    if (stream == null) {
+      throw new IllegalArgumentException("password blacklist not found: " + presource);
+    }
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+      final List<String> words = new ArrayList<>();
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        final String word = line.trim();
+        if (!word.isEmpty() && word.charAt(0) != '#') {
+          words.add(word.toLowerCase());
+        }
+      }
+      return Collections.unmodifiableList(words);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -16,11 +16,22 @@
 package de.knightsoftnet.validators.server.data;
 
 import de.knightsoftnet.validators.shared.data.AbstractCreateClass;
+import de.knightsoftnet.validators.shared.data.PhoneCountryCodeData;
 import de.knightsoftnet.validators.shared.data.PhoneCountryConstantsImpl;
 import de.knightsoftnet.validators.shared.data.PhoneCountrySharedConstants;
 
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -31,8 +42,19 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class CreatePhoneCountryConstantsClass extends CreateClassHelper {
 
-  private static volatile Map<Locale, PhoneCountryConstantsImpl> phoneCountryConstants =
-      new ConcurrentHashMap<>();
+  /**
+   * system property with a comma separated list of countries which area codes should be loaded
+   * together with the constants, instead of on first use. Countries can be given by phone country
+   * code or iso code, "*" loads all.
+   */
+  public static final String PRELOAD_PROPERTY = "de.knightsoftnet.validators.phone.preload";
+
+  private static final ReloadableConstants<LocaleConstants> PHONE_COUNTRY_CONSTANTS =
+      new ReloadableConstants<>(() -> {
+        final LocaleConstants constants = new LocaleConstants(getPropertyDirectory());
+        constants.get(Locale.ROOT);
+        return constants;
+      });
 
   /**
    * Instantiates a class via deferred binding.
@@ -44,21 +66,46 @@ public class CreatePhoneCountryConstantsClass extends CreateClassHelper {
   }
 
   /**
-   * Instantiates a class via deferred binding.
+   * Instantiates a class via deferred binding, data is taken from the binary snapshot if it's
+   * available, otherwise it's read from the properties files. Area codes are loaded when a
+   * country is used the first time, except the countries given in {@link #PRELOAD_PROPERTY}.
    *
    * @param plocale language to create data for
    * @return the new instance, which must be cast to the requested class
    */
   public static PhoneCountrySharedConstants create(final Locale plocale) {
-    if (!CreatePhoneCountryConstantsClass.phoneCountryConstants.containsKey(plocale)) { // NOPMD
-      synchronized (PhoneCountryConstantsImpl.class) {
-        if (!CreatePhoneCountryConstantsClass.phoneCountryConstants.containsKey(plocale)) {
-          CreatePhoneCountryConstantsClass.phoneCountryConstants.put(plocale,
-              AbstractCreateClass.createPhoneCountryConstants(plocale));
-        }
-      }
-    }
-    return CreatePhoneCountryConstantsClass.phoneCountryConstants.get(plocale);
+    return PHONE_COUNTRY_CONSTANTS.get().get(plocale);
+  }
+
+  /**
+   * reload the constants in the background and replace the current ones when reading is
+   * complete.
+   *
+   * @param psource directory with properties files named like the ones in the class path or with a
+   *        snapshot file {@value PhoneCountryConstantsSnapshot#RESOURCE_NAME}, or the snapshot file
+   *        itself, null reloads the class path data
+   * @return future with the version of the published constants
+   */
+  public static CompletableFuture<Long> reload(final Path psource) {
+    return PHONE_COUNTRY_CONSTANTS.reload(psource);
+  }
+
+  /**
+   * version of the current constants, incremented with each reload.
+   *
+   * @return version
+   */
+  public static long getVersion() {
+    return PHONE_COUNTRY_CONSTANTS.getVersion();
+  }
+
+  /**
+   * time when the current constants have been published.
+   *
+   * @return timestamp in milliseconds since epoch
+   */
+  public static long getTimestamp() {
+    return PHONE_COUNTRY_CONSTANTS.getTimestamp();
   }
 
   /**
@@ -107,4 +154,77 @@ public class CreatePhoneCountryConstantsClass extends CreateClassHelper {
     return CreateClassHelper.readMapFromProperties("PhoneCountryTrunkAndExitCodesConstants",
         plocale, "phoneTrunkAndExitCodes");
   }
+
+  /**
+   * constants of all languages read from one source.
+   */
+  private static class LocaleConstants {
+    private final Path source;
+    private final PhoneCountryConstantsSnapshot snapshot;
+    private final Map<Locale, PhoneCountryConstantsImpl> constants;
+    private final Map<String, PhoneCountryCodeData> areaCodeSources;
+
+    LocaleConstants(final Path psource) {
+      source = psource;
+      snapshot = psource == null ? PhoneCountryConstantsSnapshot.getSnapshot()
+          : readSnapshot(psource);
+      constants = new ConcurrentHashMap<>();
+      areaCodeSources = new ConcurrentHashMap<>();
+    }
+
+    private static PhoneCountryConstantsSnapshot readSnapshot(final Path psource) {
+      final Path file = Files.isDirectory(psource)
+          ? psource.resolve(PhoneCountryConstantsSnapshot.RESOURCE_NAME)
+          : psource;
+      if (!Files.isRegularFile(file)) {
+        return null;
+      }
+      try (InputStream input = Files.newInputStream(file)) {
+        return PhoneCountryConstantsSnapshot.read(input);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    PhoneCountryConstantsImpl get(final Locale plocale) {
+      return constants.computeIfAbsent(plocale, this::create);
+    }
+
+    private PhoneCountryConstantsImpl create(final Locale plocale) {
+      final PhoneCountryConstantsImpl localeConstants;
+      if (snapshot != null) {
+        localeConstants = snapshot.toPhoneCountryConstants(plocale);
+      } else {
+        localeConstants = readFrom(source, () -> AbstractCreateClass
+            .createPhoneCountryConstants(plocale, countryCode -> getAreaCodeSource(countryCode,
+                plocale)));
+        if (source != null) {
+          // don't depend on the source directory after reloading, shared area codes are read once
+          localeConstants.preloadAreaCodes(Collections.singleton("*"));
+        }
+      }
+      final String preload = System.getProperty(PRELOAD_PROPERTY);
+      if (StringUtils.isNotBlank(preload)) {
+        localeConstants.preloadAreaCodes(
+            Arrays.asList(StringUtils.split(StringUtils.deleteWhitespace(preload), ',')));
+      }
+      return localeConstants;
+    }
+
+    /**
+     * get the locale independent area code structure of a country, languages which read the same
+     * properties files share the same instance.
+     */
+    private PhoneCountryCodeData getAreaCodeSource(final String pcountryCode,
+        final Locale plocale) {
+      String key = pcountryCode + '_'
+          + resolvePropertiesLocale("PhoneRegionCode" + pcountryCode + "Constants", plocale);
+      if (StringUtils.equals(pcountryCode, "49")) {
+        key += '_' + resolvePropertiesLocale("PhoneRegionCode49bConstants", plocale).toString();
+      }
+      return areaCodeSources.computeIfAbsent(key, sourceKey -> new PhoneCountryCodeData(
+          pcountryCode, null, () -> readFrom(source, () -> readPhoneAreaCodes(pcountryCode,
+              plocale))));
+    }
+  }
 }
@@ -15,6 +15,7 @@
 
 package de.knightsoftnet.validators.server.data;
 
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.PostalCodesMapSharedConstants;
 
 /**
@@ -26,6 +27,7 @@ import de.knightsoftnet.validators.shared.data.PostalCodesMapSharedConstants;
 public class CreatePostalCodesMapConstantsClass extends CreateClassHelper {
 
   private static volatile PostalCodesMapConstantsImpl postalCodesMapConstants = null;
+  private static volatile CountryRegExPatterns postalCodePatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -43,4 +45,20 @@ public class CreatePostalCodesMapConstantsClass extends CreateClassHelper {
     }
     return postalCodesMapConstants;
   }
+
+  /**
+   * get the precompiled postal code regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (postalCodePatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (postalCodePatterns == null) {
+          postalCodePatterns = new CountryRegExPatterns(create().postalCodes());
+        }
+      }
+    }
+    return postalCodePatterns;
+  }
 }
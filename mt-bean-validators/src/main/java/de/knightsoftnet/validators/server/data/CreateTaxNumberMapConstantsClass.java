@@ -15,6 +15,7 @@
 
 package de.knightsoftnet.validators.server.data;
 
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.TaxNumberMapSharedConstants;
 
 /**
@@ -26,6 +27,7 @@ import de.knightsoftnet.validators.shared.data.TaxNumberMapSharedConstants;
 public class CreateTaxNumberMapConstantsClass extends CreateClassHelper {
 
   private static volatile TaxNumberMapConstantsImpl taxNumberMapConstants = null;
+  private static volatile CountryRegExPatterns taxNumberPatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -43,4 +45,20 @@ public class CreateTaxNumberMapConstantsClass extends CreateClassHelper {
     }
     return taxNumberMapConstants;
   }
+
+  /**
+   * get the precompiled tax number regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (taxNumberPatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (taxNumberPatterns == null) {
+          taxNumberPatterns = new CountryRegExPatterns(create().taxNumbers());
+        }
+      }
+    }
+    return taxNumberPatterns;
+  }
 }
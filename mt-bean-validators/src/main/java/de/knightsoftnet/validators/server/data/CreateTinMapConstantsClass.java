@@ -15,6 +15,7 @@
 
 package de.knightsoftnet.validators.server.data;
 
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.TinMapSharedConstants;
 
 /**
@@ -26,6 +27,7 @@ import de.knightsoftnet.validators.shared.data.TinMapSharedConstants;
 public class CreateTinMapConstantsClass extends CreateClassHelper {
 
   private static volatile TinMapConstantsImpl tinMapConstants = null;
+  private static volatile CountryRegExPatterns tinPatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -43,4 +45,20 @@ public class CreateTinMapConstantsClass extends CreateClassHelper {
     }
     return tinMapConstants;
   }
+
+  /**
+   * get the precompiled tin regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (tinPatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (tinPatterns == null) {
+          tinPatterns = new CountryRegExPatterns(create().tins());
+        }
+      }
+    }
+    return tinPatterns;
+  }
 }
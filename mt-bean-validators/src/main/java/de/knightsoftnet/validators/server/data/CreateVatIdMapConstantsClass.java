@@ -15,6 +15,7 @@
 
 package de.knightsoftnet.validators.server.data;
 
+import de.knightsoftnet.validators.shared.data.CountryRegExPatterns;
 import de.knightsoftnet.validators.shared.data.VatIdMapSharedConstants;
 
 /**
@@ -26,6 +27,7 @@ import de.knightsoftnet.validators.shared.data.VatIdMapSharedConstants;
 public class CreateVatIdMapConstantsClass extends CreateClassHelper {
 
   private static volatile VatIdMapConstantsImpl vatIdMapConstants = null;
+  private static volatile CountryRegExPatterns vatIdPatterns = null;
 
   /**
    * Instantiates a class via deferred binding.
@@ -43,4 +45,20 @@ public class CreateVatIdMapConstantsClass extends CreateClassHelper {
     }
     return vatIdMapConstants;
   }
+
+  /**
+   * get the precompiled vat id regular expressions of the countries.
+   *
+   * @return registry of the compiled regular expressions
+   */
+  public static CountryRegExPatterns createPatterns() {
+    if (vatIdPatterns == null) { // NOPMD it's thread save!
+      synchronized (CountryRegExPatterns.class) {
+        if (vatIdPatterns == null) {
+          vatIdPatterns = new CountryRegExPatterns(create().vatIds());
+        }
+      }
+    }
+    return vatIdPatterns;
+  }
 }
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * bank directory which reads a compact sorted binary file through a read only memory map. Only the
+ * small country header is read into the heap, the bank numbers and bics stay in the mapped file
+ * and are found by binary search, so big directories don't increase the garbage collected memory.
+ *
+ * <p>
+ * Without explicit file, the file named by the system property {@value #FILE_PROPERTY} is used,
+ * if the property isn't set, the directory is empty. Files are created with
+ * {@link #write(OutputStream, Map)} or {@link #main(String[])}.
+ * </p>
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class MappedBankDirectory implements BankDirectory {
+
+  /**
+   * system property with the path of the bank directory file used by the default constructor.
+   */
+  public static final String FILE_PROPERTY = "de.knightsoftnet.validators.bankdirectory";
+
+  private static final int MAGIC = 0x4b534244;
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = 12;
+  private static final int COUNTRY_LENGTH = 12;
+  private static final int BIC_LENGTH = 11;
+  private static final int BIC_INDEX_LENGTH = 4;
+  private static final int LETTERS = 26;
+  private static final char SEPARATOR = ' ';
+  private static final byte PADDING = ' ';
+
+  private final ByteBuffer buffer;
+  private final Set<String> countries;
+  private final int[] countryHeader;
+  private final int bicCount;
+  private final int bicsOffset;
+
+  /**
+   * constructor using the file of the system property {@value #FILE_PROPERTY}.
+   */
+  public MappedBankDirectory() {
+    this(StringUtils.isEmpty(System.getProperty(FILE_PROPERTY)) ? null
+        : Paths.get(System.getProperty(FILE_PROPERTY)));
+  }
+
+  /**
+   * constructor mapping the given file.
+   *
+   * @param pfile bank directory file, null for a empty directory
+   * @throws UncheckedIOException if the file can't be read or isn't a bank directory
+   */
+  public MappedBankDirectory(final Path pfile) {
+    super();
+    countryHeader = new int[LETTERS * LETTERS];
+    Arrays.fill(countryHeader, -1);
+    if (pfile == null) {
+      buffer = null;
+      countries = Collections.emptySet();
+      bicCount = 0;
+      bicsOffset = 0;
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(pfile, StandardOpenOption.READ)) {
+      // the mapping stays valid after the channel is closed
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (buffer.limit() < HEADER_LENGTH || buffer.getInt(0) != MAGIC
+        || buffer.getInt(4) != VERSION) {
+      throw invalidFile(pfile, "is not a bank directory of version " + VERSION);
+    }
+    final int countryCount = buffer.getInt(8);
+    final long headerEnd = HEADER_LENGTH + (long) countryCount * COUNTRY_LENGTH + 8;
+    if (countryCount < 0 || headerEnd > buffer.limit()) {
+      throw invalidFile(pfile, "has a truncated header");
+    }
+    final Set<String> countriesTmp = new LinkedHashSet<>();
+    for (int i = 0; i < countryCount; i++) {
+      final int header = HEADER_LENGTH + i * COUNTRY_LENGTH;
+      final char country1 = (char) buffer.get(header);
+      final char country2 = (char) buffer.get(header + 1);
+      final int countryIndex = countryIndex(country1, country2);
+      if (countryIndex < 0 || countryHeader[countryIndex] >= 0) {
+        throw invalidFile(pfile, "contains a invalid or duplicate country code");
+      }
+      final int keyLength = buffer.getShort(header + 2);
+      final int entryCount = buffer.getInt(header + 4);
+      final int entriesOffset = buffer.getInt(header + 8);
+      if (keyLength < 0 || entryCount < 0 || entriesOffset < headerEnd
+          || entriesOffset + (long) entryCount * (keyLength + BIC_INDEX_LENGTH) > buffer.limit()) {
+        throw invalidFile(pfile, "has truncated bank numbers");
+      }
+      countriesTmp.add(String.valueOf(new char[] {country1, country2}));
+      countryHeader[countryIndex] = header;
+    }
+    countries = Collections.unmodifiableSet(countriesTmp);
+    bicCount = buffer.getInt((int) headerEnd - 8);
+    bicsOffset = buffer.getInt((int) headerEnd - 4);
+    if (bicCount < 0 || bicsOffset < headerEnd
+        || bicsOffset + (long) bicCount * BIC_LENGTH > buffer.limit()) {
+      throw invalidFile(pfile, "has truncated bics");
+    }
+  }
+
+  private static UncheckedIOException invalidFile(final Path pfile, final String pmessage) {
+    return new UncheckedIOException(new IOException(pfile + " " + pmessage));
+  }
+
+  @Override
+  public Set<String> getCountries() {
+    return countries;
+  }
+
+  @Override
+  public String getBicOfIban(final CharSequence piban, final int pbankNumberStart,
+      final int pbankNumberEnd) {
+    if (piban == null || piban.length() < 2) {
+      return null;
+    }
+    final int countryIndex = countryIndex(piban.charAt(0), piban.charAt(1));
+    final int header = countryIndex < 0 ? -1 : countryHeader[countryIndex];
+    if (header < 0) {
+      return null;
+    }
+    final int keyLength = buffer.getShort(header + 2);
+    if (pbankNumberEnd - pbankNumberStart != keyLength) {
+      return null;
+    }
+    int start = 0;
+    for (int significant = 0; start < piban.length() && significant < pbankNumberStart;) {
+      if (piban.charAt(start++) != SEPARATOR) {
+        significant++;
+      }
+    }
+    final int entryLength = keyLength + BIC_INDEX_LENGTH;
+    final int entriesOffset = buffer.getInt(header + 8);
+    int low = 0;
+    int high = buffer.getInt(header + 4) - 1;
+    while (low <= high) {
+      final int middle = low + high >>> 1;
+      final int entry = entriesOffset + middle * entryLength;
+      final int compare = compareKey(entry, keyLength, piban, start);
+      if (compare < 0) {
+        low = middle + 1;
+      } else if (compare > 0) {
+        high = middle - 1;
+      } else {
+        return readBic(buffer.getInt(entry + keyLength));
+      }
+    }
+    return null;
+  }
+
+  private int compareKey(final int pentry, final int pkeyLength, final CharSequence piban,
+      final int pstart) {
+    int pos = pstart;
+    for (int i = 0; i < pkeyLength; i++) {
+      while (pos < piban.length() && piban.charAt(pos) == SEPARATOR) {
+        pos++;
+      }
+      final int character = pos < piban.length() ? piban.charAt(pos++) : 0;
+      final int difference = (buffer.get(pentry + i) & 0xff) - character;
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return 0;
+  }
+
+  private String readBic(final int pindex) {
+    if (pindex < 0 || pindex >= bicCount) {
+      throw new UncheckedIOException(
+          new IOException("bank directory contains a invalid bic index " + pindex));
+    }
+    final int offset = bicsOffset + pindex * BIC_LENGTH;
+    int length = BIC_LENGTH;
+    while (length > 0 && buffer.get(offset + length - 1) == PADDING) {
+      length--;
+    }
+    final char[] bic = new char[length];
+    for (int i = 0; i < length; i++) {
+      bic[i] = (char) buffer.get(offset + i);
+    }
+    return String.valueOf(bic);
+  }
+
+  private static int countryIndex(final char pcountry1, final char pcountry2) {
+    if (pcountry1 < 'A' || pcountry1 > 'Z' || pcountry2 < 'A' || pcountry2 > 'Z') {
+      return -1;
+    }
+    return (pcountry1 - 'A') * LETTERS + pcountry2 - 'A';
+  }
+
+  /**
+   * write a bank directory file.
+   *
+   * @param poutput stream to write to
+   * @param pdirectory map of two letter country codes to maps of bank numbers and bics, all bank
+   *        numbers of a country must have the same length
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the data can't be stored
+   */
+  public static void write(final OutputStream poutput,
+      final Map<String, Map<String, String>> pdirectory) throws IOException {
+    final Map<String, SortedMap<String, String>> sortedDirectory = new TreeMap<>();
+    final Map<String, Integer> bicIndex = new HashMap<>();
+    final List<String> bics = new ArrayList<>();
+    for (final Entry<String, Map<String, String>> country : pdirectory.entrySet()) {
+      if (country.getKey() == null || country.getKey().length() != 2
+          || countryIndex(country.getKey().charAt(0), country.getKey().charAt(1)) < 0) {
+        throw new IllegalArgumentException("Invalid country code: " + country.getKey());
+      }
+      final SortedMap<String, String> sortedBanks = new TreeMap<>(country.getValue());
+      final int keyLength = sortedBanks.isEmpty() ? 0 : sortedBanks.firstKey().length();
+      for (final Entry<String, String> bank : sortedBanks.entrySet()) {
+        checkAscii(bank.getKey(), keyLength, keyLength);
+        checkAscii(bank.getValue(), 1, BIC_LENGTH);
+        if (!bicIndex.containsKey(bank.getValue())) {
+          bicIndex.put(bank.getValue(), Integer.valueOf(bics.size()));
+          bics.add(bank.getValue());
+        }
+      }
+      sortedDirectory.put(country.getKey(), sortedBanks);
+    }
+
+    final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(poutput));
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(sortedDirectory.size());
+    int offset = HEADER_LENGTH + sortedDirectory.size() * COUNTRY_LENGTH + 8;
+    for (final Entry<String, SortedMap<String, String>> country : sortedDirectory.entrySet()) {
+      final int keyLength =
+          country.getValue().isEmpty() ? 0 : country.getValue().firstKey().length();
+      output.writeBytes(country.getKey());
+      output.writeShort(keyLength);
+      output.writeInt(country.getValue().size());
+      output.writeInt(offset);
+      offset += country.getValue().size() * (keyLength + BIC_INDEX_LENGTH);
+    }
+    output.writeInt(bics.size());
+    output.writeInt(offset);
+    for (final SortedMap<String, String> banks : sortedDirectory.values()) {
+      for (final Entry<String, String> bank : banks.entrySet()) {
+        output.writeBytes(bank.getKey());
+        output.writeInt(bicIndex.get(bank.getValue()).intValue());
+      }
+    }
+    for (final String bic : bics) {
+      output.writeBytes(StringUtils.rightPad(bic, BIC_LENGTH));
+    }
+    output.flush();
+  }
+
+  private static void checkAscii(final String pvalue, final int pminLength,
+      final int pmaxLength) {
+    if (pvalue == null || pvalue.length() < pminLength || pvalue.length() > pmaxLength
+        || !StandardCharsets.US_ASCII.newEncoder().canEncode(pvalue)) {
+      throw new IllegalArgumentException("Invalid bank number or bic: " + pvalue);
+    }
+  }
+
+  /**
+   * create a bank directory file from properties files with bank number to bic entries.
+   *
+   * @param pargs file to write followed by country code and properties file pairs, e.g.
+   *        <code>banks.bin FR banks_fr.properties NL banks_nl.properties</code>
+   * @throws IOException if reading or writing fails
+   */
+  public static void main(final String[] pargs) throws IOException {
+    if (pargs.length < 3 || pargs.length % 2 == 0) {
+      throw new IllegalArgumentException(
+          "Usage: MappedBankDirectory <file> <country> <properties file> ...");
+    }
+    final Map<String, Map<String, String>> directory = new TreeMap<>();
+    for (int i = 1; i < pargs.length; i += 2) {
+      final Properties properties = new Properties();
+      try (InputStream input = Files.newInputStream(Paths.get(pargs[i + 1]))) {
+        properties.load(input);
+      }
+      final Map<String, String> banks = new HashMap<>();
+      properties.stringPropertyNames()
+          .forEach(bankNumber -> banks.put(bankNumber, properties.getProperty(bankNumber)));
+      directory.put(pargs[i], banks);
+    }
+    try (OutputStream output = Files.newOutputStream(Paths.get(pargs[0]))) {
+      write(output, directory);
+    }
+  }
+}
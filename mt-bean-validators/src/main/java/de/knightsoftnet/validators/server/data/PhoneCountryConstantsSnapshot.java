@@ -0,0 +1,465 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import de.knightsoftnet.validators.shared.data.PhoneAreaCodeData;
+import de.knightsoftnet.validators.shared.data.PhoneCountryCodeData;
+import de.knightsoftnet.validators.shared.data.PhoneCountryConstantsImpl;
+
+import org.apache.commons.lang3.LocaleUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Binary snapshot of the processed phone country constants. The properties files stay the source
+ * of truth, the snapshot is generated from them during the build (see {@link #main(String[])}) and
+ * read with a single read on startup, so no properties parsing and splitting is needed at runtime.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class PhoneCountryConstantsSnapshot extends CreateClassHelper {
+
+  /**
+   * name of the snapshot resource, relative to this class.
+   */
+  public static final String RESOURCE_NAME = "PhoneCountryConstants.bin";
+
+  private static final int MAGIC = 0x4b535043;
+  private static final int VERSION = 1;
+  private static final int NO_STRING = -1;
+  private static final int SAME_AS_ROOT = -1;
+
+  private static final String PROPERTY_PATH = "de/knightsoftnet/validators/client/data";
+  private static final Pattern LOCALIZED_PROPERTY =
+      Pattern.compile("^Phone[A-Za-z0-9]+Constants_([A-Za-z0-9_]+)\\.properties$");
+
+  private static volatile PhoneCountryConstantsSnapshot snapshot;
+  private static volatile boolean snapshotRead;
+
+  private final String[] strings;
+  private final int[] countryCodes;
+  private final int[] countryIsoCodes;
+  private final int[][] areaCodes;
+  private final int[][] areaLengths;
+  private final int[] trunkAndExitKeys;
+  private final int[] trunkAndExitValues;
+  private final Map<Locale, LocaleData> localeData;
+  private final Map<LocaleData, PhoneCountryConstantsImpl> phoneCountryConstants =
+      new ConcurrentHashMap<>();
+  private final Map<int[], PhoneCountryCodeData> areaCodeStructures = new ConcurrentHashMap<>();
+
+  private PhoneCountryConstantsSnapshot(final DataInputStream pinput) throws IOException {
+    super();
+    if (pinput.readInt() != MAGIC || pinput.readInt() != VERSION) {
+      throw new IOException("Not a phone country constants snapshot of version " + VERSION);
+    }
+    strings = new String[pinput.readInt()];
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = pinput.readUTF();
+    }
+    final int countryCount = pinput.readInt();
+    countryCodes = new int[countryCount];
+    countryIsoCodes = new int[countryCount];
+    areaCodes = new int[countryCount][];
+    areaLengths = new int[countryCount][];
+    for (int i = 0; i < countryCount; i++) {
+      countryCodes[i] = pinput.readInt();
+      countryIsoCodes[i] = pinput.readInt();
+      areaCodes[i] = readIntArray(pinput);
+      areaLengths[i] = readIntArray(pinput);
+    }
+    trunkAndExitKeys = readIntArray(pinput);
+    trunkAndExitValues = readIntArray(pinput);
+    final int localeCount = pinput.readInt();
+    localeData = new LinkedHashMap<>();
+    LocaleData rootData = null;
+    for (int i = 0; i < localeCount; i++) {
+      final Locale locale = Locale.forLanguageTag(strings[pinput.readInt()]);
+      final int[] nameKeys = readIntArray(pinput);
+      final int[] nameValues = readIntArray(pinput);
+      final int[][] areaNames = new int[countryCount][];
+      for (int j = 0; j < countryCount; j++) {
+        final int[] names = readIntArray(pinput);
+        areaNames[j] = names == null ? rootData.areaNames[j] : names;
+      }
+      final LocaleData data = new LocaleData(nameKeys, nameValues, areaNames);
+      if (rootData == null) {
+        rootData = data;
+      }
+      localeData.put(locale, data);
+    }
+  }
+
+  /**
+   * get snapshot which is delivered as resource, it's read only once.
+   *
+   * @return snapshot or null if no snapshot resource is available
+   */
+  public static PhoneCountryConstantsSnapshot getSnapshot() {
+    if (!PhoneCountryConstantsSnapshot.snapshotRead) { // NOPMD it's thread save!
+      synchronized (PhoneCountryConstantsSnapshot.class) {
+        if (!PhoneCountryConstantsSnapshot.snapshotRead) {
+          try (InputStream input =
+              PhoneCountryConstantsSnapshot.class.getResourceAsStream(RESOURCE_NAME)) {
+            PhoneCountryConstantsSnapshot.snapshot = input == null ? null : read(input);
+          } catch (final IOException e) {
+            PhoneCountryConstantsSnapshot.snapshot = null;
+          }
+          PhoneCountryConstantsSnapshot.snapshotRead = true;
+        }
+      }
+    }
+    return PhoneCountryConstantsSnapshot.snapshot;
+  }
+
+  /**
+   * read snapshot from stream, the complete stream is read at once before it's parsed.
+   *
+   * @param pinput stream to read from
+   * @return snapshot
+   * @throws IOException if reading fails or stream contains no valid snapshot
+   */
+  public static PhoneCountryConstantsSnapshot read(final InputStream pinput) throws IOException {
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(pinput.available(),
+        8192));
+    final byte[] chunk = new byte[8192];
+    int length;
+    while ((length = pinput.read(chunk)) >= 0) {
+      buffer.write(chunk, 0, length);
+    }
+    return new PhoneCountryConstantsSnapshot(
+        new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+  }
+
+  /**
+   * get phone country constants for the given locale, the locale is resolved the same way
+   * resource bundles do it. All locales which resolve to the same language share one instance.
+   *
+   * @param plocale language to create data for
+   * @return phone country constants
+   */
+  public PhoneCountryConstantsImpl toPhoneCountryConstants(final Locale plocale) {
+    return phoneCountryConstants.computeIfAbsent(resolveLocale(plocale),
+        this::createPhoneCountryConstants);
+  }
+
+  private PhoneCountryConstantsImpl createPhoneCountryConstants(final LocaleData data) {
+    final Map<String, String> phoneCountryNames = toMap(data.nameKeys, data.nameValues);
+    final Map<String, String> phoneCountryCodes = new HashMap<>();
+    final Map<String, String> phoneTrunkAndExitCodes =
+        toMap(trunkAndExitKeys, trunkAndExitValues);
+    final Set<PhoneCountryCodeData> countryCodeData = new HashSet<>();
+    for (int i = 0; i < countryCodes.length; i++) {
+      final String countryCode = strings[countryCodes[i]];
+      final String isoCode = strings[countryIsoCodes[i]];
+      phoneCountryCodes.put(countryCode, isoCode);
+      countryCodeData.add(new PhoneCountryCodeData(countryCode, phoneCountryNames.get(isoCode),
+          getAreaCodeStructure(i, data.areaNames[i])));
+    }
+    return new PhoneCountryConstantsImpl(countryCodeData, createMapFromPhoneCountry(
+        countryCodeData, phoneCountryNames, phoneCountryCodes, phoneTrunkAndExitCodes));
+  }
+
+  /**
+   * get the locale independent area code structure of a country, languages which use the same
+   * area names share the same instance (the name arrays are shared by reading the snapshot). The
+   * area codes are created on first use.
+   */
+  private PhoneCountryCodeData getAreaCodeStructure(final int pcountry, final int[] pareaNames) {
+    return areaCodeStructures.computeIfAbsent(pareaNames,
+        areaNames -> new PhoneCountryCodeData(strings[countryCodes[pcountry]], null,
+            () -> this.createAreaCodes(pcountry, areaNames)));
+  }
+
+  /**
+   * create the area codes of a country, called when the country is used the first time.
+   */
+  private List<PhoneAreaCodeData> createAreaCodes(final int pcountry, final int[] pareaNames) {
+    final List<PhoneAreaCodeData> areas = new ArrayList<>(areaCodes[pcountry].length);
+    for (int i = 0; i < areaCodes[pcountry].length; i++) {
+      final int lengths = areaLengths[pcountry][i];
+      areas.add(new PhoneAreaCodeData(strings[areaCodes[pcountry][i]],
+          getString(pareaNames[i]), lengths >>> 16, lengths & 0xffff));
+    }
+    return areas;
+  }
+
+  private LocaleData resolveLocale(final Locale plocale) {
+    final ResourceBundle.Control control =
+        ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT);
+    LocaleData data = findLocale(control, plocale);
+    if (data == null && !Locale.ROOT.equals(plocale)) {
+      final Locale fallbackLocale = control.getFallbackLocale("", plocale);
+      if (fallbackLocale != null) {
+        data = findLocale(control, fallbackLocale);
+      }
+    }
+    return data == null ? localeData.get(Locale.ROOT) : data;
+  }
+
+  private LocaleData findLocale(final ResourceBundle.Control pcontrol, final Locale plocale) {
+    for (final Locale candidate : pcontrol.getCandidateLocales("", plocale)) {
+      if (!Locale.ROOT.equals(candidate) && localeData.containsKey(candidate)) {
+        return localeData.get(candidate);
+      }
+    }
+    return null;
+  }
+
+  private String getString(final int pindex) {
+    return pindex == NO_STRING ? null : strings[pindex];
+  }
+
+  private Map<String, String> toMap(final int[] pkeys, final int[] pvalues) {
+    final Map<String, String> map = new HashMap<>();
+    for (int i = 0; i < pkeys.length; i++) {
+      map.put(strings[pkeys[i]], getString(pvalues[i]));
+    }
+    return map;
+  }
+
+  private static int[] readIntArray(final DataInputStream pinput) throws IOException {
+    final int length = pinput.readInt();
+    if (length == SAME_AS_ROOT) {
+      return null;
+    }
+    final int[] array = new int[length];
+    for (int i = 0; i < length; i++) {
+      array[i] = pinput.readInt();
+    }
+    return array;
+  }
+
+  /**
+   * write snapshot of the phone country properties.
+   *
+   * @param poutput stream to write to
+   * @param plocales localized languages to include, root is always included
+   * @throws IOException if writing fails
+   */
+  public static void write(final OutputStream poutput, final Collection<Locale> plocales)
+      throws IOException {
+    final List<Locale> locales = new ArrayList<>();
+    locales.add(Locale.ROOT);
+    plocales.stream().filter(locale -> !locales.contains(locale)).forEachOrdered(locales::add);
+
+    final StringTable stringTable = new StringTable();
+    final Map<String, String> phoneCountryCodes =
+        CreatePhoneCountryConstantsClass.readPhoneCountryCodes(Locale.ROOT);
+    final Map<String, String> phoneTrunkAndExitCodes =
+        CreatePhoneCountryConstantsClass.readPhoneTrunkAndExitCodes(Locale.ROOT);
+    final List<PhoneCountryCodeData> rootCountries = new ArrayList<>(
+        new TreeSet<>(createPhoneCountryConstants(Locale.ROOT).countryCodeData()));
+
+    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    final DataOutputStream bodyOutput = new DataOutputStream(body);
+    bodyOutput.writeInt(rootCountries.size());
+    for (final PhoneCountryCodeData country : rootCountries) {
+      bodyOutput.writeInt(stringTable.indexOf(country.getCountryCode()));
+      bodyOutput.writeInt(stringTable.indexOf(phoneCountryCodes.get(country.getCountryCode())));
+      final List<PhoneAreaCodeData> areas = new ArrayList<>(country.getAreaCodeData());
+      bodyOutput.writeInt(areas.size());
+      for (final PhoneAreaCodeData area : areas) {
+        bodyOutput.writeInt(stringTable.indexOf(area.getAreaCode()));
+      }
+      bodyOutput.writeInt(areas.size());
+      for (final PhoneAreaCodeData area : areas) {
+        bodyOutput.writeInt(area.getMinLength() << 16 | area.getMaxLength() & 0xffff);
+      }
+    }
+    writeMap(bodyOutput, stringTable, phoneTrunkAndExitCodes);
+
+    bodyOutput.writeInt(locales.size());
+    int[][] rootAreaNames = null;
+    for (final Locale locale : locales) {
+      checkSameStructure(locale, phoneCountryCodes, phoneTrunkAndExitCodes);
+      bodyOutput.writeInt(stringTable.indexOf(locale.toLanguageTag()));
+      writeMap(bodyOutput, stringTable,
+          CreatePhoneCountryConstantsClass.readPhoneCountryNames(locale));
+      final Map<String, PhoneCountryCodeData> countries = new HashMap<>();
+      createPhoneCountryConstants(locale).countryCodeData()
+          .forEach(country -> countries.put(country.getCountryCode(), country));
+      final int[][] areaNames = new int[rootCountries.size()][];
+      for (int i = 0; i < rootCountries.size(); i++) {
+        final PhoneCountryCodeData rootCountry = rootCountries.get(i);
+        final List<PhoneAreaCodeData> areas =
+            new ArrayList<>(countries.get(rootCountry.getCountryCode()).getAreaCodeData());
+        if (!areaStructureEquals(new ArrayList<>(rootCountry.getAreaCodeData()), areas)) {
+          throw new IllegalStateException("Area codes of country code "
+              + rootCountry.getCountryCode() + " differ in locale " + locale);
+        }
+        areaNames[i] = new int[areas.size()];
+        for (int j = 0; j < areas.size(); j++) {
+          areaNames[i][j] = stringTable.indexOf(areas.get(j).getAreaName());
+        }
+        if (rootAreaNames != null && Arrays.equals(rootAreaNames[i], areaNames[i])) {
+          bodyOutput.writeInt(SAME_AS_ROOT);
+        } else {
+          writeIntArray(bodyOutput, areaNames[i]);
+        }
+      }
+      if (rootAreaNames == null) {
+        rootAreaNames = areaNames;
+      }
+    }
+    bodyOutput.flush();
+
+    final DataOutputStream output = new DataOutputStream(poutput);
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(stringTable.strings.size());
+    for (final String string : stringTable.strings) {
+      output.writeUTF(string);
+    }
+    body.writeTo(output);
+    output.flush();
+  }
+
+  private static void checkSameStructure(final Locale plocale,
+      final Map<String, String> pphoneCountryCodes,
+      final Map<String, String> pphoneTrunkAndExitCodes) {
+    if (!pphoneCountryCodes.equals(CreatePhoneCountryConstantsClass.readPhoneCountryCodes(plocale))
+        || !pphoneTrunkAndExitCodes
+            .equals(CreatePhoneCountryConstantsClass.readPhoneTrunkAndExitCodes(plocale))) {
+      throw new IllegalStateException(
+          "Phone country codes or trunk and exit codes differ in locale " + plocale);
+    }
+  }
+
+  private static boolean areaStructureEquals(final List<PhoneAreaCodeData> prootAreas,
+      final List<PhoneAreaCodeData> pareas) {
+    if (prootAreas.size() != pareas.size()) {
+      return false;
+    }
+    for (int i = 0; i < prootAreas.size(); i++) {
+      final PhoneAreaCodeData rootArea = prootAreas.get(i);
+      final PhoneAreaCodeData area = pareas.get(i);
+      if (!Objects.equals(rootArea.getAreaCode(), area.getAreaCode())
+          || rootArea.getMinLength() != area.getMinLength()
+          || rootArea.getMaxLength() != area.getMaxLength()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void writeMap(final DataOutputStream poutput, final StringTable pstringTable,
+      final Map<String, String> pmap) throws IOException {
+    final List<String> keys = new ArrayList<>(new TreeSet<>(pmap.keySet()));
+    final int[] keyIndexes = new int[keys.size()];
+    final int[] valueIndexes = new int[keys.size()];
+    for (int i = 0; i < keys.size(); i++) {
+      keyIndexes[i] = pstringTable.indexOf(keys.get(i));
+      valueIndexes[i] = pstringTable.indexOf(pmap.get(keys.get(i)));
+    }
+    writeIntArray(poutput, keyIndexes);
+    writeIntArray(poutput, valueIndexes);
+  }
+
+  private static void writeIntArray(final DataOutputStream poutput, final int[] parray)
+      throws IOException {
+    poutput.writeInt(parray.length);
+    for (final int value : parray) {
+      poutput.writeInt(value);
+    }
+  }
+
+  /**
+   * generate the snapshot resource, called by the build after the resources are copied.
+   *
+   * @param pargs first argument is the class output directory which contains the properties files
+   *        and where the snapshot is written to
+   * @throws IOException if writing fails
+   */
+  public static void main(final String[] pargs) throws IOException {
+    if (pargs.length < 1) {
+      throw new IllegalArgumentException("Usage: PhoneCountryConstantsSnapshot <outputDirectory>");
+    }
+    final File outputDirectory = new File(pargs[0]);
+    final Set<Locale> locales = new TreeSet<>((locale1, locale2) -> locale1.toLanguageTag()
+        .compareTo(locale2.toLanguageTag()));
+    final String[] propertyFiles = new File(outputDirectory, PROPERTY_PATH).list();
+    if (propertyFiles != null) {
+      for (final String propertyFile : propertyFiles) {
+        final Matcher matcher = LOCALIZED_PROPERTY.matcher(propertyFile);
+        if (matcher.matches()) {
+          locales.add(LocaleUtils.toLocale(matcher.group(1)));
+        }
+      }
+    }
+    final File snapshotFile = new File(outputDirectory,
+        PhoneCountryConstantsSnapshot.class.getPackage().getName().replace('.', '/') + "/"
+            + RESOURCE_NAME);
+    if (!snapshotFile.getParentFile().isDirectory() && !snapshotFile.getParentFile().mkdirs()) {
+      throw new IOException("Can't create directory " + snapshotFile.getParent());
+    }
+    try (OutputStream output = new FileOutputStream(snapshotFile)) {
+      write(output, locales);
+    }
+  }
+
+  private static class LocaleData {
+    private final int[] nameKeys;
+    private final int[] nameValues;
+    private final int[][] areaNames;
+
+    LocaleData(final int[] pnameKeys, final int[] pnameValues, final int[][] pareaNames) {
+      nameKeys = pnameKeys;
+      nameValues = pnameValues;
+      areaNames = pareaNames;
+    }
+  }
+
+  private static class StringTable {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private int indexOf(final String pstring) {
+      if (pstring == null) {
+        return NO_STRING;
+      }
+      return indexes.computeIfAbsent(pstring, string -> {
+        strings.add(string);
+        return strings.size() - 1;
+      });
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * holder of constants which can be reloaded at runtime. The constants are read from the class
+ * path on first use, a reload builds a new copy in the background from an external directory and
+ * replaces the old one in a single step. Readers never lock and keep using the old copy until the
+ * new one is published. If reloads overlap, a build which completes after the build of a later
+ * requested reload has been published is dropped.
+ *
+ * @author Manfred Tremmel
+ *
+ * @param <T> type of the constants
+ */
+public class ReloadableConstants<T> {
+
+  private final Supplier<T> factory;
+  private long requestSequence;
+  private long versionSequence;
+  private volatile Version<T> current;
+
+  /**
+   * constructor.
+   *
+   * @param pfactory factory which creates the constants, properties read with the methods of
+   *        {@link CreateClassHelper} are taken from the directory of the running reload
+   */
+  public ReloadableConstants(final Supplier<T> pfactory) {
+    super();
+    factory = pfactory;
+  }
+
+  /**
+   * get the current constants.
+   *
+   * @return constants
+   */
+  public T get() {
+    return getCurrent().data;
+  }
+
+  /**
+   * version of the current constants, starts with 1 for the constants read on first use and is
+   * incremented with each published reload.
+   *
+   * @return version
+   */
+  public long getVersion() {
+    return getCurrent().version;
+  }
+
+  /**
+   * time when the current constants have been published.
+   *
+   * @return timestamp in milliseconds since epoch
+   */
+  public long getTimestamp() {
+    return getCurrent().timestamp;
+  }
+
+  /**
+   * directory the current constants have been read from.
+   *
+   * @return directory or null if they are read from the class path
+   */
+  public Path getSource() {
+    return getCurrent().source;
+  }
+
+  /**
+   * rebuild the constants in the common fork join pool and publish them when they are complete.
+   *
+   * @param psource directory with properties files named like the ones in the class path, files
+   *        which are missing are taken from the class path, null reloads the class path data
+   * @return future with the version of the published constants, if reading fails, it completes
+   *         exceptionally and the old constants are kept
+   */
+  public CompletableFuture<Long> reload(final Path psource) {
+    return this.reload(psource, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * rebuild the constants with the given executor and publish them when they are complete.
+   *
+   * @param psource directory with properties files named like the ones in the class path, files
+   *        which are missing are taken from the class path, null reloads the class path data
+   * @param pexecutor executor to build the constants with
+   * @return future with the version of the published constants, or of the constants of a later
+   *         requested reload which have been published before, if reading fails, it completes
+   *         exceptionally and the old constants are kept
+   */
+  public CompletableFuture<Long> reload(final Path psource, final Executor pexecutor) {
+    final long request = this.nextRequest();
+    return CompletableFuture.supplyAsync(
+        () -> this.publish(psource, this.build(psource), request).version, pexecutor);
+  }
+
+  private Version<T> getCurrent() {
+    final Version<T> version = current;
+    if (version != null) {
+      return version;
+    }
+    synchronized (this) {
+      if (current == null) {
+        // request 0, the class path constants of the first use never replace a reload
+        return this.publish(null, this.build(null), 0L);
+      }
+      return current;
+    }
+  }
+
+  private T build(final Path psource) {
+    return CreateClassHelper.readFrom(psource, factory);
+  }
+
+  private synchronized long nextRequest() {
+    return ++requestSequence;
+  }
+
+  private synchronized Version<T> publish(final Path psource, final T pdata,
+      final long prequest) {
+    if (current != null && current.request > prequest) {
+      return current;
+    }
+    final Version<T> version = new Version<>(pdata, ++versionSequence, prequest,
+        System.currentTimeMillis(), psource);
+    current = version;
+    return version;
+  }
+
+  private static class Version<T> {
+    private final T data;
+    private final long version;
+    private final long request;
+    private final long timestamp;
+    private final Path source;
+
+    Version(final T pdata, final long pversion, final long prequest, final long ptimestamp,
+        final Path psource) {
+      data = pdata;
+      version = pversion;
+      request = prequest;
+      timestamp = ptimestamp;
+      source = psource;
+    }
+  }
+}
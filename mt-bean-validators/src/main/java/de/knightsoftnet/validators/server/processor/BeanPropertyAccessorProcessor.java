@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * annotation processor which generates a {@code BeanPropertyAccessor} for each bean annotated
+ * with cross field constraints. The field names of the constraints are compile time constants, so
+ * the getters can be called directly without reflection and introspection, the generated classes
+ * are registered as service. Properties which can't be resolved at compile time (maps, indexed
+ * properties, inaccessible types, getters throwing checked exceptions) are left out and read by
+ * reflection at runtime.
+ *
+ * <p>
+ * The processor is not registered as service, so it doesn't run on every compilation which has
+ * mt-bean-validators on the class path. Projects which want the accessors enable it explicitly,
+ * with maven by adding mt-bean-validators to the {@code annotationProcessorPaths} and this class to
+ * the {@code annotationProcessors} of the maven-compiler-plugin configuration.
+ * </p>
+ *
+ * @author Manfred Tremmel
+ *
+ */
+@SupportedAnnotationTypes("de.knightsoftnet.validators.shared.*")
+public class BeanPropertyAccessorProcessor extends AbstractProcessor {
+
+  private static final String CONSTRAINT_PACKAGE = "de.knightsoftnet.validators.shared";
+  private static final String FIELD_PREFIX = "field";
+  private static final String ACCESSOR_INTERFACE =
+      "de.knightsoftnet.validators.shared.util.BeanPropertyAccessor";
+  private static final String ACCESSOR_SUFFIX = "_PropertyAccessor";
+  private static final String SERVICE_FILE = "META-INF/services/" + ACCESSOR_INTERFACE;
+
+  private final Set<String> processedBeans = new HashSet<>();
+  private final Set<String> accessors = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> pannotations,
+      final RoundEnvironment proundEnv) {
+    if (proundEnv.processingOver()) {
+      if (!accessors.isEmpty()) {
+        writeServiceFile();
+      }
+      return false;
+    }
+    for (final TypeElement annotation : pannotations) {
+      for (final TypeElement bean : ElementFilter
+          .typesIn(proundEnv.getElementsAnnotatedWith(annotation))) {
+        if (bean.getKind() == ElementKind.CLASS
+            && processedBeans.add(bean.getQualifiedName().toString())) {
+          processBean(bean);
+        }
+      }
+    }
+    return false;
+  }
+
+  private void processBean(final TypeElement pbean) {
+    if (!isAccessible(pbean, pbean) || !pbean.getTypeParameters().isEmpty()) {
+      return;
+    }
+    final Set<String> propertyPaths = new TreeSet<>();
+    for (final AnnotationMirror annotation : pbean.getAnnotationMirrors()) {
+      collectPropertyPaths(annotation, propertyPaths);
+    }
+    final List<String> cases = new ArrayList<>();
+    for (final String propertyPath : propertyPaths) {
+      final String getterSource = getterSource(pbean, propertyPath);
+      if (getterSource != null) {
+        cases.add("      case \"" + propertyPath + "\":\n" + getterSource);
+      }
+    }
+    if (!cases.isEmpty()) {
+      writeAccessor(pbean, cases);
+    }
+  }
+
+  /**
+   * collect the field names of the constraint annotations, containers of repeated constraints are
+   * processed recursive.
+   */
+  private void collectPropertyPaths(final AnnotationMirror pannotation,
+      final Set<String> ppropertyPaths) {
+    final TypeElement annotationType = (TypeElement) pannotation.getAnnotationType().asElement();
+    if (!processingEnv.getElementUtils().getPackageOf(annotationType).getQualifiedName()
+        .toString().startsWith(CONSTRAINT_PACKAGE)) {
+      return;
+    }
+    for (final Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+        .getElementUtils().getElementValuesWithDefaults(pannotation).entrySet()) {
+      final Object value = entry.getValue().getValue();
+      if (value instanceof String
+          && entry.getKey().getSimpleName().toString().startsWith(FIELD_PREFIX)) {
+        ppropertyPaths.add((String) value);
+      } else if (value instanceof List) {
+        for (final Object element : (List<?>) value) {
+          final Object elementValue = ((AnnotationValue) element).getValue();
+          if (elementValue instanceof AnnotationMirror) {
+            collectPropertyPaths((AnnotationMirror) elementValue, ppropertyPaths);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * source of the getter function for a property path, null if it can't be resolved.
+   */
+  private String getterSource(final TypeElement pbean, final String ppropertyPath) {
+    final String[] names = ppropertyPath.split("\\.", -1);
+    final List<String> getters = new ArrayList<>();
+    final List<String> types = new ArrayList<>();
+    TypeMirror type = pbean.asType();
+    for (final String name : names) {
+      if (!SourceVersion.isIdentifier(name) || type.getKind() != TypeKind.DECLARED) {
+        return null;
+      }
+      final TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+      if (types.size() > 0 && !isAccessible(typeElement, pbean)) {
+        return null;
+      }
+      final ExecutableElement getter = findGetter((DeclaredType) type, name);
+      if (getter == null || throwsCheckedException(getter)) {
+        return null;
+      }
+      types.add(typeElement.getQualifiedName().toString());
+      getters.add(getter.getSimpleName().toString());
+      final ExecutableType getterType =
+          (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) type, getter);
+      type = processingEnv.getTypeUtils().erasure(getterType.getReturnType());
+    }
+    if (getters.size() == 1) {
+      return "        return " + types.get(0) + "::" + getters.get(0) + ";\n";
+    }
+    final StringBuilder source = new StringBuilder("        return bean -> {\n");
+    String variable = "bean";
+    for (int i = 0; i < getters.size() - 1; i++) {
+      final String nextVariable = "value" + (i + 1);
+      source.append("          final ").append(types.get(i + 1)).append(' ').append(nextVariable)
+          .append(" = ").append(variable).append('.').append(getters.get(i)).append("();\n")
+          .append("          if (").append(nextVariable).append(" == null) {\n")
+          .append("            return null;\n").append("          }\n");
+      variable = nextVariable;
+    }
+    source.append("          return ").append(variable).append('.')
+        .append(getters.get(getters.size() - 1)).append("();\n").append("        };\n");
+    return source.toString();
+  }
+
+  /**
+   * find the public getter of a property like the java beans introspector does.
+   */
+  private ExecutableElement findGetter(final DeclaredType ptype, final String pname) {
+    final String capitalized = Character.toUpperCase(pname.charAt(0)) + pname.substring(1);
+    for (final ExecutableElement method : ElementFilter.methodsIn(
+        processingEnv.getElementUtils().getAllMembers((TypeElement) ptype.asElement()))) {
+      if (method.getModifiers().contains(Modifier.PUBLIC)
+          && !method.getModifiers().contains(Modifier.STATIC) && method.getParameters().isEmpty()
+          && method.getTypeParameters().isEmpty()) {
+        final String methodName = method.getSimpleName().toString();
+        if (methodName.equals("get" + capitalized)
+            && method.getReturnType().getKind() != TypeKind.VOID
+            || methodName.equals("is" + capitalized)
+                && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+          return method;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * check if the getter declares checked exceptions, a method reference or lambda calling it can't
+   * be used as function.
+   */
+  private boolean throwsCheckedException(final ExecutableElement pgetter) {
+    final Types typeUtils = processingEnv.getTypeUtils();
+    final TypeMirror runtimeException =
+        processingEnv.getElementUtils().getTypeElement(RuntimeException.class.getName()).asType();
+    final TypeMirror error =
+        processingEnv.getElementUtils().getTypeElement(Error.class.getName()).asType();
+    for (final TypeMirror thrownType : pgetter.getThrownTypes()) {
+      if (!typeUtils.isSubtype(thrownType, runtimeException)
+          && !typeUtils.isSubtype(thrownType, error)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * check if the type can be used in the package of the bean.
+   */
+  private boolean isAccessible(final TypeElement ptype, final TypeElement pbean) {
+    final boolean samePackage = processingEnv.getElementUtils().getPackageOf(ptype)
+        .equals(processingEnv.getElementUtils().getPackageOf(pbean));
+    for (Element element = ptype; element instanceof TypeElement; element =
+        element.getEnclosingElement()) {
+      final NestingKind nestingKind = ((TypeElement) element).getNestingKind();
+      final Set<Modifier> modifiers = element.getModifiers();
+      if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS
+          || modifiers.contains(Modifier.PRIVATE)
+          || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void writeAccessor(final TypeElement pbean, final List<String> pcases) {
+    final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(pbean);
+    final String packageName =
+        packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    final String beanName = pbean.getQualifiedName().toString();
+    final String simpleName =
+        (packageName.isEmpty() ? beanName : beanName.substring(packageName.length() + 1))
+            .replace('.', '_') + ACCESSOR_SUFFIX;
+    final String accessorName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(accessorName, pbean).openWriter()) {
+      if (!packageName.isEmpty()) {
+        writer.write("package " + packageName + ";\n\n");
+      }
+      writer.write("/**\n * generated property accessor of {@link " + beanName + "}.\n */\n"
+          + "public final class " + simpleName + " implements " + ACCESSOR_INTERFACE + "<"
+          + beanName + "> {\n\n" //
+          + "  @Override\n" //
+          + "  public Class<" + beanName + "> getBeanClass() {\n" //
+          + "    return " + beanName + ".class;\n" //
+          + "  }\n\n" //
+          + "  @Override\n" //
+          + "  public java.util.function.Function<" + beanName + ", Object> getGetter(\n"
+          + "      final String ppropertyPath) {\n" //
+          + "    switch (ppropertyPath) {\n");
+      for (final String getterCase : pcases) {
+        writer.write(getterCase);
+      }
+      writer.write("      default:\n" //
+          + "        return null;\n" //
+          + "    }\n" //
+          + "  }\n" //
+          + "}\n");
+      accessors.add(accessorName);
+    } catch (final IOException e) {
+      processingEnv.getMessager().printMessage(Kind.WARNING,
+          "can't write property accessor " + accessorName + ": " + e.getMessage(), pbean);
+    }
+  }
+
+  /**
+   * write the service registration, entries of a former compilation are kept.
+   */
+  private void writeServiceFile() {
+    try {
+      final FileObject existing = processingEnv.getFiler()
+          .getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (Reader reader = existing.openReader(true);
+          BufferedReader lines = new BufferedReader(reader)) {
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+          if (!line.trim().isEmpty()) {
+            accessors.add(line.trim());
+          }
+        }
+      }
+    } catch (final IOException e) { // NOPMD no former registration to keep
+    }
+    try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(processingEnv.getFiler()
+        .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE).openOutputStream(),
+        StandardCharsets.UTF_8))) {
+      for (final String accessor : accessors) {
+        writer.println(accessor);
+      }
+    } catch (final IOException e) {
+      processingEnv.getMessager().printMessage(Kind.WARNING,
+          "can't write property accessor registration: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.util;
+
+import de.knightsoftnet.validators.server.data.CreatePhoneCountryConstantsClass;
+import de.knightsoftnet.validators.shared.data.PhoneCountryData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
+import de.knightsoftnet.validators.shared.util.PhoneNumberUtil;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * thread safe bulk normalization of phone numbers, the numbers are parsed in parallel on a fork
+ * join pool. Unlike {@link PhoneNumberUtil} the default country is fixed on creation, so one
+ * instance can be shared by all threads.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class PhoneNumberBatchParser {
+  private final PhoneCountryData defaultCountryData;
+  private final ForkJoinPool pool;
+
+  /**
+   * only the methods with explicit country data are used, they don't touch the default country of
+   * the util, so the instance can be shared between threads.
+   */
+  private final PhoneNumberUtil phoneNumberUtil;
+
+  /**
+   * constructor with default country, using the common fork join pool.
+   *
+   * @param pcountryCode iso code of default country
+   */
+  public PhoneNumberBatchParser(final String pcountryCode) {
+    this(pcountryCode, Locale.ROOT, null);
+  }
+
+  /**
+   * constructor with default country and pool.
+   *
+   * @param pcountryCode iso code of default country
+   * @param plocale locale to read properties in the correct language
+   * @param ppool fork join pool to run on, if null the common pool is used
+   */
+  public PhoneNumberBatchParser(final String pcountryCode, final Locale plocale,
+      final ForkJoinPool ppool) {
+    super();
+    defaultCountryData = StringUtils.isEmpty(pcountryCode) ? null
+        : CreatePhoneCountryConstantsClass.create(plocale).countryMap().get(pcountryCode);
+    pool = ppool == null ? ForkJoinPool.commonPool() : ppool;
+    phoneNumberUtil = new PhoneNumberUtil();
+  }
+
+  /**
+   * normalize one phone number, exceptions are reported in the result and not thrown.
+   *
+   * @param pphoneNumber phone number to normalize
+   * @return result of normalization
+   */
+  public PhoneNumberBatchResult parse(final String pphoneNumber) {
+    try {
+      final PhoneNumberData phoneNumber =
+          phoneNumberUtil.parsePhoneNumberInto(pphoneNumber, new PhoneNumberData(),
+              defaultCountryData);
+      if (phoneNumberUtil.isPhoneNumberEmpty(phoneNumber)) {
+        return new PhoneNumberBatchResult(pphoneNumber, phoneNumber, null, null);
+      }
+      return new PhoneNumberBatchResult(pphoneNumber, phoneNumber, formatE164(phoneNumber),
+          formatIndex(phoneNumber));
+    } catch (final RuntimeException e) {
+      return new PhoneNumberBatchResult(pphoneNumber, e);
+    }
+  }
+
+  /**
+   * normalize phone numbers in parallel, results are returned in the order of the input.
+   *
+   * @param pphoneNumbers phone numbers to normalize
+   * @return list of results
+   */
+  public List<PhoneNumberBatchResult> parseAll(final Collection<String> pphoneNumbers) {
+    return pool.submit(() -> pphoneNumbers.parallelStream().map(this::parse)
+        .collect(Collectors.toList())).join();
+  }
+
+  /**
+   * normalize phone numbers in parallel and stream the results to a consumer.
+   *
+   * @param pphoneNumbers phone numbers to normalize
+   * @param pordered true if the consumer should get the results in the order of the input, if
+   *        false, the consumer is called concurrently and must be thread safe
+   * @param pconsumer consumer of the results
+   */
+  public void parseAll(final Iterable<String> pphoneNumbers, final boolean pordered,
+      final Consumer<PhoneNumberBatchResult> pconsumer) {
+    this.parseAll(StreamSupport.stream(pphoneNumbers.spliterator(), true), Function.identity(),
+        pordered, (phoneNumber, result) -> pconsumer.accept(result));
+  }
+
+  /**
+   * normalize phone numbers of records in parallel and stream the records with their results to a
+   * consumer, so results can be assigned to the records they belong to.
+   *
+   * @param precords records which contain the phone numbers to normalize
+   * @param pphoneNumberFunction function to get the phone number of a record
+   * @param pordered true if the consumer should get the results in the order of the input, if
+   *        false, the consumer is called concurrently and must be thread safe
+   * @param pconsumer consumer of the records and results
+   * @param <T> type of the records
+   */
+  public <T> void parseAll(final Stream<T> precords, final Function<T, String> pphoneNumberFunction,
+      final boolean pordered, final BiConsumer<T, PhoneNumberBatchResult> pconsumer) {
+    pool.submit(() -> {
+      final Stream<T> records = precords.parallel();
+      if (pordered) {
+        records.forEachOrdered(
+            record -> pconsumer.accept(record, this.parse(pphoneNumberFunction.apply(record))));
+      } else {
+        records.unordered().forEach(
+            record -> pconsumer.accept(record, this.parse(pphoneNumberFunction.apply(record))));
+      }
+    }).join();
+  }
+
+  /**
+   * format phone number in E.164 format, which is a plus followed by the digits of the number.
+   *
+   * @param pphoneNumberData phone number to format
+   * @return formated phone number as String or null if country code or line number is missing
+   */
+  public static String formatE164(final PhoneNumberInterface pphoneNumberData) {
+    if (isIncomplete(pphoneNumberData)) {
+      return null;
+    }
+    final StringBuilder resultNumber = new StringBuilder(1
+        + StringUtils.length(pphoneNumberData.getCountryCode())
+        + StringUtils.length(pphoneNumberData.getAreaCode())
+        + StringUtils.length(pphoneNumberData.getLineNumber())
+        + StringUtils.length(pphoneNumberData.getExtension()));
+    resultNumber.append('+').append(pphoneNumberData.getCountryCode());
+    if (pphoneNumberData.getAreaCode() != null) {
+      resultNumber.append(pphoneNumberData.getAreaCode());
+    }
+    resultNumber.append(pphoneNumberData.getLineNumber());
+    if (pphoneNumberData.getExtension() != null) {
+      resultNumber.append(pphoneNumberData.getExtension());
+    }
+    return resultNumber.toString();
+  }
+
+  /**
+   * format phone number to index without creating an intermediate string, same result as
+   * {@link PhoneNumberUtil#formatIndex(PhoneNumberInterface)}.
+   *
+   * @param pphoneNumberData phone number to format
+   * @return formated phone number as Long or null if country code or line number is missing
+   * @throws NumberFormatException if the number contains non digits or is too long
+   */
+  public static Long formatIndex(final PhoneNumberInterface pphoneNumberData) {
+    if (isIncomplete(pphoneNumberData)) {
+      return null;
+    }
+    long index = 0L;
+    index = appendDigits(index, pphoneNumberData.getCountryCode());
+    index = appendDigits(index, pphoneNumberData.getAreaCode());
+    index = appendDigits(index, pphoneNumberData.getLineNumber());
+    index = appendDigits(index, pphoneNumberData.getExtension());
+    return Long.valueOf(index);
+  }
+
+  private static boolean isIncomplete(final PhoneNumberInterface pphoneNumberData) {
+    return pphoneNumberData == null || StringUtils.isBlank(pphoneNumberData.getCountryCode())
+        || StringUtils.isBlank(pphoneNumberData.getLineNumber());
+  }
+
+  private static long appendDigits(final long pindex, final String pdigits) {
+    if (pdigits == null) {
+      return pindex;
+    }
+    long index = pindex;
+    for (int pos = 0; pos < pdigits.length(); pos++) {
+      final int digit = pdigits.charAt(pos) - '0';
+      if (digit < 0 || digit > 9 || index > (Long.MAX_VALUE - digit) / 10L) {
+        throw new NumberFormatException("Can't convert phone number part to index: " + pdigits);
+      }
+      index = index * 10L + digit;
+    }
+    return index;
+  }
+}
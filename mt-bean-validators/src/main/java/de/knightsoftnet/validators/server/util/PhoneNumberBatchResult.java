@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.util;
+
+import de.knightsoftnet.validators.shared.data.PhoneNumberData;
+
+/**
+ * result of normalizing one phone number with the {@link PhoneNumberBatchParser}.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class PhoneNumberBatchResult {
+  private final String rawNumber;
+  private final PhoneNumberData phoneNumber;
+  private final String e164;
+  private final Long formatIndex;
+  private final RuntimeException error;
+
+  /**
+   * constructor for a successfully processed phone number.
+   *
+   * @param prawNumber phone number as it was given
+   * @param pphoneNumber parsed phone number data
+   * @param pe164 phone number in E.164 format
+   * @param pformatIndex phone number as index
+   */
+  public PhoneNumberBatchResult(final String prawNumber, final PhoneNumberData pphoneNumber,
+      final String pe164, final Long pformatIndex) {
+    super();
+    rawNumber = prawNumber;
+    phoneNumber = pphoneNumber;
+    e164 = pe164;
+    formatIndex = pformatIndex;
+    error = null;
+  }
+
+  /**
+   * constructor for a phone number which failed to process.
+   *
+   * @param prawNumber phone number as it was given
+   * @param perror exception which was thrown
+   */
+  public PhoneNumberBatchResult(final String prawNumber, final RuntimeException perror) {
+    super();
+    rawNumber = prawNumber;
+    phoneNumber = null;
+    e164 = null;
+    formatIndex = null;
+    error = perror;
+  }
+
+  public String getRawNumber() {
+    return rawNumber;
+  }
+
+  public PhoneNumberData getPhoneNumber() {
+    return phoneNumber;
+  }
+
+  public String getE164() {
+    return e164;
+  }
+
+  public Long getFormatIndex() {
+    return formatIndex;
+  }
+
+  public RuntimeException getError() {
+    return error;
+  }
+
+  public boolean hasError() {
+    return error != null;
+  }
+
+  /**
+   * check if the phone number was processed without error and is a valid phone number.
+   *
+   * @return true if it's valid
+   */
+  public boolean isValid() {
+    return error == null && phoneNumber != null && phoneNumber.isValid();
+  }
+
+  @Override
+  public String toString() {
+    return "PhoneNumberBatchResult [rawNumber=" + rawNumber + ", phoneNumber=" + phoneNumber
+        + ", e164=" + e164 + ", formatIndex=" + formatIndex + ", error=" + error + "]";
+  }
+}
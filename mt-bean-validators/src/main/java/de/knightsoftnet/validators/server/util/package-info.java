@@ -0,0 +1,4 @@
+/**
+ * utility classes which can be used on server side only.
+ */
+package de.knightsoftnet.validators.server.util;
@@ -28,7 +28,8 @@ import javax.validation.Payload;
 
 /**
  * The annotated Date must be <code>minYears</code> or more in the past.<br>
- * Supported types are Dates, <code>null</code> elements are considered valid.<br>
+ * Supported types are Date, Calendar, HasGetTime, LocalDate, LocalDateTime, ZonedDateTime and
+ * Instant, <code>null</code> elements are considered valid.<br>
  *
  * @author Manfred Tremmel
  *
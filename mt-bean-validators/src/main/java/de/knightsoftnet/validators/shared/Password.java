@@ -109,6 +109,15 @@ public @interface Password {
    */
   String blacklist() default StringUtils.EMPTY;
 
+  /**
+   * Class path resource with words which are not allowed as part of the password, one word per
+   * line, empty lines and lines starting with # are ignored. Resources are only read on server
+   * side, for large lists of leaked passwords or dictionary words.
+   *
+   * @return class path resource name of the blacklist
+   */
+  String blacklistResource() default StringUtils.EMPTY;
+
   /**
    * Characters which are not allowed at the beginning of a password.
    *
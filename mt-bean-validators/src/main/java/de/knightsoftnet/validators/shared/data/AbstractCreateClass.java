@@ -21,9 +21,11 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -35,48 +37,88 @@ import java.util.stream.Collectors;
 public abstract class AbstractCreateClass { // NOPMD, can't include abstract static methods
 
   protected static PhoneCountryConstantsImpl createPhoneCountryConstants(final Locale plocale) {
+    return createPhoneCountryConstants(plocale, null);
+  }
+
+  /**
+   * create phone country constants from properties.
+   *
+   * @param plocale language to create data for
+   * @param pareaCodeSources function which delivers for a country code the country code data to
+   *        share the area codes with, null reads the area codes for each entry separately
+   * @return phone country constants
+   */
+  protected static PhoneCountryConstantsImpl createPhoneCountryConstants(final Locale plocale,
+      final Function<String, PhoneCountryCodeData> pareaCodeSources) {
     final Map<String, String> phoneCountryNames =
         CreatePhoneCountryConstantsClass.readPhoneCountryNames(plocale);
     final Map<String, String> phoneCountryCodes =
         CreatePhoneCountryConstantsClass.readPhoneCountryCodes(plocale);
-    final Set<PhoneCountryCodeData> countryCodeData =
-        readPhoneCountryProperties(plocale, phoneCountryNames, phoneCountryCodes);
+    final Set<PhoneCountryCodeData> countryCodeData = readPhoneCountryProperties(plocale,
+        phoneCountryNames, phoneCountryCodes, pareaCodeSources);
     return new PhoneCountryConstantsImpl(countryCodeData,
         createMapFromPhoneCountry(plocale, countryCodeData, phoneCountryNames, phoneCountryCodes));
   }
 
   protected static Set<PhoneCountryCodeData> readPhoneCountryProperties(final Locale plocale,
       final Map<String, String> pphoneCountryNames, final Map<String, String> pphoneCountryCodes) {
-    return pphoneCountryCodes.entrySet().stream().map(country -> {
-      final PhoneCountryCodeData countryEntry =
-          new PhoneCountryCodeData(country.getKey(), pphoneCountryNames.get(country.getValue()));
-      final Map<String, String> phoneRegionCodes;
-      if (StringUtils.equals(country.getKey(), "49")) {
-        // to much data in German file, has to be splitted into two separate property files
-        phoneRegionCodes = new HashMap<>();
-        phoneRegionCodes.putAll(
-            CreatePhoneCountryConstantsClass.readPhoneRegionCodes(country.getKey(), plocale));
-        phoneRegionCodes.putAll(
-            CreatePhoneCountryConstantsClass.readPhoneRegionCodes(country.getKey() + "b", plocale));
-      } else {
-        phoneRegionCodes =
-            CreatePhoneCountryConstantsClass.readPhoneRegionCodes(country.getKey(), plocale);
-      }
-      phoneRegionCodes.entrySet().stream().forEachOrdered(region -> {
-        final PhoneAreaCodeData areaData = new PhoneAreaCodeData(region.getKey(), region.getValue(),
-            StringUtils.length(country.getKey()));
-        countryEntry.addAreaCodeData(areaData);
-      });
-      return countryEntry;
-    }).collect(Collectors.toSet());
+    return readPhoneCountryProperties(plocale, pphoneCountryNames, pphoneCountryCodes, null);
+  }
+
+  protected static Set<PhoneCountryCodeData> readPhoneCountryProperties(final Locale plocale,
+      final Map<String, String> pphoneCountryNames, final Map<String, String> pphoneCountryCodes,
+      final Function<String, PhoneCountryCodeData> pareaCodeSources) {
+    // area codes are read when a country is used the first time
+    return pphoneCountryCodes.entrySet().stream()
+        .map(country -> pareaCodeSources == null
+            ? new PhoneCountryCodeData(country.getKey(),
+                pphoneCountryNames.get(country.getValue()),
+                () -> readPhoneAreaCodes(country.getKey(), plocale))
+            : new PhoneCountryCodeData(country.getKey(),
+                pphoneCountryNames.get(country.getValue()),
+                pareaCodeSources.apply(country.getKey())))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * read area codes of one country.
+   *
+   * @param pcountryCode country code of the phone number
+   * @param plocale language to create data for
+   * @return list of area code data
+   */
+  protected static List<PhoneAreaCodeData> readPhoneAreaCodes(final String pcountryCode,
+      final Locale plocale) {
+    final Map<String, String> phoneRegionCodes;
+    if (StringUtils.equals(pcountryCode, "49")) {
+      // to much data in German file, has to be splitted into two separate property files
+      phoneRegionCodes = new HashMap<>();
+      phoneRegionCodes
+          .putAll(CreatePhoneCountryConstantsClass.readPhoneRegionCodes(pcountryCode, plocale));
+      phoneRegionCodes.putAll(
+          CreatePhoneCountryConstantsClass.readPhoneRegionCodes(pcountryCode + "b", plocale));
+    } else {
+      phoneRegionCodes =
+          CreatePhoneCountryConstantsClass.readPhoneRegionCodes(pcountryCode, plocale);
+    }
+    return phoneRegionCodes.entrySet().stream()
+        .map(region -> new PhoneAreaCodeData(region.getKey(), region.getValue(),
+            StringUtils.length(pcountryCode)))
+        .collect(Collectors.toList());
   }
 
   protected static Map<String, PhoneCountryData> createMapFromPhoneCountry(final Locale plocale,
       final Set<PhoneCountryCodeData> pcountries, final Map<String, String> pphoneCountryNames,
       final Map<String, String> pphoneCountryCodes) {
+    return createMapFromPhoneCountry(pcountries, pphoneCountryNames, pphoneCountryCodes,
+        CreatePhoneCountryConstantsClass.readPhoneTrunkAndExitCodes(plocale));
+  }
+
+  protected static Map<String, PhoneCountryData> createMapFromPhoneCountry(
+      final Set<PhoneCountryCodeData> pcountries, final Map<String, String> pphoneCountryNames,
+      final Map<String, String> pphoneCountryCodes,
+      final Map<String, String> phoneTrunkAndExitCodes) {
     final Map<String, PhoneCountryData> countryPhoneMap = new HashMap<>();
-    final Map<String, String> phoneTrunkAndExitCodes =
-        CreatePhoneCountryConstantsClass.readPhoneTrunkAndExitCodes(plocale);
 
     pcountries.stream().forEachOrdered(entry -> {
       final String countryCode = pphoneCountryCodes.get(entry.getCountryCode());
@@ -24,7 +24,23 @@ import java.util.Map;
  *
  */
 public interface BankAccountBicSharedConstants {
-  Map<CountryBankAccountData, String> bankAccounts();
 
+  /**
+   * add bank accounts of a country.
+   *
+   * @param pcountry two letter country code
+   * @param pmap map of bank numbers and bics
+   */
   void addBankAccounts(String pcountry, Map<String, String> pmap);
+
+  /**
+   * get bic of the bank number in a iban, without copying the iban.
+   *
+   * @param piban iban, the first two characters are the country code, separator spaces are
+   *        ignored
+   * @param pbankNumberStart start position of the bank number in the iban without separators
+   * @param pbankNumberEnd end position of the bank number in the iban without separators
+   * @return bic or null if bank number is unknown
+   */
+  String getBicOfIban(CharSequence piban, int pbankNumberStart, int pbankNumberEnd);
 }
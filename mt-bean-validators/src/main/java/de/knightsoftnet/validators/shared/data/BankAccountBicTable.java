@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * compact bank account to bic table. Numeric bank numbers with up to nine digits are stored per
+ * country in a sorted int array, a parallel array points into a pool which holds each bic only
+ * once. The few other bank numbers are kept in a map per country.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class BankAccountBicTable implements BankAccountBicSharedConstants {
+  private static final int LETTERS = 26;
+  private static final int MAX_NUMERIC_DIGITS = 9;
+  private static final char SEPARATOR = ' ';
+
+  private final CountryTable[] countryTables;
+  private final List<String> bicPool;
+  private final Map<String, Integer> bicPoolIndex;
+
+  /**
+   * default constructor.
+   */
+  public BankAccountBicTable() {
+    super();
+    countryTables = new CountryTable[LETTERS * LETTERS];
+    bicPool = new ArrayList<>();
+    bicPoolIndex = new HashMap<>();
+  }
+
+  @Override
+  public void addBankAccounts(final String pcountry, final Map<String, String> pmap) {
+    final int countryIndex = countryIndex(pcountry);
+    if (countryIndex < 0 || pmap == null) {
+      return;
+    }
+    CountryTable table = countryTables[countryIndex];
+    if (table == null) {
+      table = new CountryTable();
+      countryTables[countryIndex] = table;
+    }
+    final int[] keys = new int[pmap.size()];
+    final int[] bics = new int[pmap.size()];
+    int numericCount = 0;
+    for (final Entry<String, String> entry : pmap.entrySet()) {
+      final int bicIndex = poolBic(entry.getValue());
+      final int key = numericKey(entry.getKey());
+      if (key < 0) {
+        table.others.put(entry.getKey(), Integer.valueOf(bicIndex));
+      } else {
+        keys[numericCount] = key;
+        bics[numericCount] = bicIndex;
+        numericCount++;
+      }
+    }
+    table.merge(keys, bics, numericCount);
+  }
+
+  @Override
+  public String getBicOfIban(final CharSequence piban, final int pbankNumberStart,
+      final int pbankNumberEnd) {
+    if (piban == null || piban.length() < 2) {
+      return null;
+    }
+    final int countryIndex = countryIndex(piban.charAt(0), piban.charAt(1));
+    final CountryTable table = countryIndex < 0 ? null : countryTables[countryIndex];
+    if (table == null) {
+      return null;
+    }
+    int pos = 0;
+    int significant = 0;
+    while (pos < piban.length() && significant < pbankNumberStart) {
+      if (piban.charAt(pos++) != SEPARATOR) {
+        significant++;
+      }
+    }
+    final int start = pos;
+    int key = 1;
+    int digits = 0;
+    for (; pos < piban.length() && significant < pbankNumberEnd; pos++) {
+      final char character = piban.charAt(pos);
+      if (character == SEPARATOR) {
+        continue;
+      }
+      if (key >= 0 && character >= '0' && character <= '9' && digits < MAX_NUMERIC_DIGITS) {
+        key = key * 10 + character - '0';
+        digits++;
+      } else {
+        key = -1;
+      }
+      significant++;
+    }
+    final int bicIndex;
+    if (key >= 0) {
+      bicIndex = table.find(key);
+    } else {
+      final Integer otherIndex = table.others.get(removeSeparators(piban, start, pos));
+      bicIndex = otherIndex == null ? -1 : otherIndex.intValue();
+    }
+    return bicIndex < 0 ? null : bicPool.get(bicIndex);
+  }
+
+  private int poolBic(final String pbic) {
+    final Integer existing = bicPoolIndex.get(pbic);
+    if (existing != null) {
+      return existing.intValue();
+    }
+    final int index = bicPool.size();
+    bicPool.add(pbic);
+    bicPoolIndex.put(pbic, Integer.valueOf(index));
+    return index;
+  }
+
+  /**
+   * numeric key of a bank number, a leading one keeps leading zeros apart.
+   *
+   * @return key or -1 if the bank number isn't numeric or too long
+   */
+  private static int numericKey(final String pbankNumber) {
+    if (pbankNumber.length() > MAX_NUMERIC_DIGITS) {
+      return -1;
+    }
+    int key = 1;
+    for (int pos = 0; pos < pbankNumber.length(); pos++) {
+      final char character = pbankNumber.charAt(pos);
+      if (character < '0' || character > '9') {
+        return -1;
+      }
+      key = key * 10 + character - '0';
+    }
+    return key;
+  }
+
+  private static String removeSeparators(final CharSequence piban, final int pstart,
+      final int pend) {
+    final StringBuilder result = new StringBuilder(pend - pstart);
+    for (int pos = pstart; pos < pend; pos++) {
+      if (piban.charAt(pos) != SEPARATOR) {
+        result.append(piban.charAt(pos));
+      }
+    }
+    return result.toString();
+  }
+
+  private static int countryIndex(final String pcountry) {
+    return pcountry == null || pcountry.length() != 2 ? -1
+        : countryIndex(pcountry.charAt(0), pcountry.charAt(1));
+  }
+
+  private static int countryIndex(final char pcountry1, final char pcountry2) {
+    if (pcountry1 < 'A' || pcountry1 > 'Z' || pcountry2 < 'A' || pcountry2 > 'Z') {
+      return -1;
+    }
+    return (pcountry1 - 'A') * LETTERS + pcountry2 - 'A';
+  }
+
+  private static class CountryTable {
+    private int[] keys = new int[0];
+    private int[] bics = new int[0];
+    private final Map<String, Integer> others = new HashMap<>();
+
+    /**
+     * merge new entries into the sorted arrays, new entries replace existing ones.
+     */
+    private void merge(final int[] pkeys, final int[] pbics, final int pcount) {
+      final long[] entries = new long[keys.length + pcount];
+      // key in the upper half, position in the lower half, so equal keys keep the add order
+      for (int pos = 0; pos < keys.length; pos++) {
+        entries[pos] = (long) keys[pos] << 32 | pos;
+      }
+      for (int pos = 0; pos < pcount; pos++) {
+        entries[keys.length + pos] = (long) pkeys[pos] << 32 | keys.length + pos;
+      }
+      Arrays.sort(entries);
+      final int[] newKeys = new int[entries.length];
+      final int[] newBics = new int[entries.length];
+      int count = 0;
+      for (final long entry : entries) {
+        final int key = (int) (entry >>> 32);
+        final int source = (int) entry;
+        final int bic = source < keys.length ? bics[source] : pbics[source - keys.length];
+        if (count > 0 && newKeys[count - 1] == key) {
+          newBics[count - 1] = bic;
+        } else {
+          newKeys[count] = key;
+          newBics[count] = bic;
+          count++;
+        }
+      }
+      keys = Arrays.copyOf(newKeys, count);
+      bics = Arrays.copyOf(newBics, count);
+    }
+
+    private int find(final int pkey) {
+      final int pos = Arrays.binarySearch(keys, pkey);
+      return pos < 0 ? -1 : bics[pos];
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import de.knightsoftnet.validators.shared.util.CountryCheckSum;
+import de.knightsoftnet.validators.shared.util.RegExPattern;
+
+/**
+ * immutable country meta data, holds all country dependent data the validators need, so a form
+ * with several country dependent fields looks up the country only once.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class CountryMetaData {
+  private final String countryCode;
+  private final CountryEnum country;
+  private final IbanLengthDefinition ibanLength;
+  private final RegExPattern postalCode;
+  private final RegExPattern vatId;
+  private final RegExPattern tin;
+  private final RegExPattern taxNumber;
+  private final CountryCheckSum vatIdCheckSum;
+  private final CountryCheckSum tinCheckSum;
+  private final CountryCheckSum taxNumberCheckSum;
+
+  /**
+   * constructor initializing fields.
+   *
+   * @param pcountryCode two letter iso code of the country
+   * @param pcountry country enumeration value, null for codes which are not part of the enum
+   * @param pibanLength iban length definition or null if the country has no iban
+   * @param ppostalCode postal code regular expression or null
+   * @param pvatId vat id regular expression or null
+   * @param ptin tax identification number regular expression or null
+   * @param ptaxNumber tax number regular expression or null
+   * @param pvatIdCheckSum vat id check sum or null if there is none
+   * @param ptinCheckSum tax identification number check sum or null if there is none
+   * @param ptaxNumberCheckSum tax number check sum or null if there is none
+   */
+  public CountryMetaData(final String pcountryCode, final CountryEnum pcountry,
+      final IbanLengthDefinition pibanLength, final RegExPattern ppostalCode,
+      final RegExPattern pvatId, final RegExPattern ptin, final RegExPattern ptaxNumber,
+      final CountryCheckSum pvatIdCheckSum, final CountryCheckSum ptinCheckSum,
+      final CountryCheckSum ptaxNumberCheckSum) {
+    super();
+    countryCode = pcountryCode;
+    country = pcountry;
+    ibanLength = pibanLength;
+    postalCode = ppostalCode;
+    vatId = pvatId;
+    tin = ptin;
+    taxNumber = ptaxNumber;
+    vatIdCheckSum = pvatIdCheckSum;
+    tinCheckSum = ptinCheckSum;
+    taxNumberCheckSum = ptaxNumberCheckSum;
+  }
+
+  public String getCountryCode() {
+    return countryCode;
+  }
+
+  public CountryEnum getCountry() {
+    return country;
+  }
+
+  public IbanLengthDefinition getIbanLength() {
+    return ibanLength;
+  }
+
+  public RegExPattern getPostalCode() {
+    return postalCode;
+  }
+
+  public RegExPattern getVatId() {
+    return vatId;
+  }
+
+  public RegExPattern getTin() {
+    return tin;
+  }
+
+  public RegExPattern getTaxNumber() {
+    return taxNumber;
+  }
+
+  public CountryCheckSum getVatIdCheckSum() {
+    return vatIdCheckSum;
+  }
+
+  public CountryCheckSum getTinCheckSum() {
+    return tinCheckSum;
+  }
+
+  public CountryCheckSum getTaxNumberCheckSum() {
+    return taxNumberCheckSum;
+  }
+
+  @Override
+  public String toString() {
+    return "CountryMetaData [countryCode=" + countryCode + "]";
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import de.knightsoftnet.validators.server.data.CreateIbanLengthMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreatePostalCodesMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateTaxNumberMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateTinMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateVatIdMapConstantsClass;
+import de.knightsoftnet.validators.shared.util.CountryCheckSum;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * table of the country meta data, indexed by the two letters of the iso country code, so a lookup
+ * is an array access without hashing. There is one entry for each {@link CountryEnum} value and
+ * for each additional country code found in the country data, the check sums are resolved from
+ * the descriptor table {@link CountryCheckSum}. The table is built once on first access, phone
+ * country data is reloadable and therefore not part of the table.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class CountryMetaDataTable {
+
+  private static final int LETTERS = 26;
+
+  private final CountryMetaData[] entries;
+
+  private CountryMetaDataTable() {
+    super();
+    entries = new CountryMetaData[LETTERS * LETTERS];
+
+    final CountryEnum[] countries = new CountryEnum[LETTERS * LETTERS];
+    final String[] countryCodes = new String[LETTERS * LETTERS];
+    for (final CountryEnum country : CountryEnum.values()) {
+      final int index = index(country.name());
+      countries[index] = country;
+      countryCodes[index] = country.name();
+    }
+    final Map<String, IbanLengthDefinition> ibanLengths =
+        CreateIbanLengthMapConstantsClass.create().ibanLengths();
+    addCountryCodes(countryCodes, ibanLengths.keySet());
+    addCountryCodes(countryCodes,
+        CreatePostalCodesMapConstantsClass.create().postalCodes().keySet());
+    addCountryCodes(countryCodes, CreateVatIdMapConstantsClass.create().vatIds().keySet());
+    addCountryCodes(countryCodes, CreateTinMapConstantsClass.create().tins().keySet());
+    addCountryCodes(countryCodes, CreateTaxNumberMapConstantsClass.create().taxNumbers().keySet());
+
+    final CountryRegExPatterns postalCodes = CreatePostalCodesMapConstantsClass.createPatterns();
+    final CountryRegExPatterns vatIds = CreateVatIdMapConstantsClass.createPatterns();
+    final CountryRegExPatterns tins = CreateTinMapConstantsClass.createPatterns();
+    final CountryRegExPatterns taxNumbers = CreateTaxNumberMapConstantsClass.createPatterns();
+    final CountryCheckSum[][] checkSums =
+        new CountryCheckSum[CountryCheckSum.Type.values().length][LETTERS * LETTERS];
+    for (final CountryCheckSum checkSum : CountryCheckSum.values()) {
+      for (final String countryCode : checkSum.getCountries()) {
+        checkSums[checkSum.getType().ordinal()][index(countryCode)] = checkSum;
+      }
+    }
+    for (int index = 0; index < countryCodes.length; index++) {
+      final String countryCode = countryCodes[index];
+      if (countryCode != null) {
+        entries[index] = new CountryMetaData(countryCode, countries[index],
+            ibanLengths.get(countryCode), postalCodes.get(countryCode), vatIds.get(countryCode),
+            tins.get(countryCode), taxNumbers.get(countryCode),
+            checkSums[CountryCheckSum.Type.VAT_ID.ordinal()][index],
+            checkSums[CountryCheckSum.Type.TIN.ordinal()][index],
+            checkSums[CountryCheckSum.Type.TAX_NUMBER.ordinal()][index]);
+      }
+    }
+  }
+
+  private static void addCountryCodes(final String[] pcountryCodes,
+      final Collection<String> pcountryCodesToAdd) {
+    for (final String countryCode : pcountryCodesToAdd) {
+      final int index = index(countryCode);
+      if (index >= 0 && pcountryCodes[index] == null) {
+        pcountryCodes[index] = countryCode;
+      }
+    }
+  }
+
+  /**
+   * get meta data of a country.
+   *
+   * @param pcountry1 first letter of the upper case country code
+   * @param pcountry2 second letter of the upper case country code
+   * @return meta data or null if the country is unknown
+   */
+  public static CountryMetaData get(final char pcountry1, final char pcountry2) {
+    final int index = index(pcountry1, pcountry2);
+    return index < 0 ? null : getTable().entries[index];
+  }
+
+  /**
+   * get meta data of a country.
+   *
+   * @param pcountryCode upper case two letter iso code of the country
+   * @return meta data or null if the country is unknown
+   */
+  public static CountryMetaData get(final CharSequence pcountryCode) {
+    if (pcountryCode == null || pcountryCode.length() != 2) {
+      return null;
+    }
+    return get(pcountryCode.charAt(0), pcountryCode.charAt(1));
+  }
+
+  /**
+   * get meta data of a country.
+   *
+   * @param pcountry country
+   * @return meta data or null if country is null
+   */
+  public static CountryMetaData get(final CountryEnum pcountry) {
+    return pcountry == null ? null : get(pcountry.name());
+  }
+
+  private static CountryMetaDataTable getTable() {
+    return TableHolder.TABLE;
+  }
+
+  private static int index(final String pcountryCode) {
+    return pcountryCode == null || pcountryCode.length() != 2 ? -1
+        : index(pcountryCode.charAt(0), pcountryCode.charAt(1));
+  }
+
+  private static int index(final char pcountry1, final char pcountry2) {
+    if (pcountry1 < 'A' || pcountry1 > 'Z' || pcountry2 < 'A' || pcountry2 > 'Z') {
+      return -1;
+    }
+    return (pcountry1 - 'A') * LETTERS + pcountry2 - 'A';
+  }
+
+  /**
+   * lazy holder, class initialization guarantees the table is built exactly once.
+   */
+  private static class TableHolder {
+    private static final CountryMetaDataTable TABLE = new CountryMetaDataTable();
+  }
+}
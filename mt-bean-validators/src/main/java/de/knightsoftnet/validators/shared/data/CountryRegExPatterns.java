@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import de.knightsoftnet.validators.shared.util.RegExPattern;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * registry of precompiled regular expressions for the countries, created once from the country
+ * keyed regular expression maps, so validators don't compile the expressions on each check.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class CountryRegExPatterns {
+  private final Map<String, RegExPattern> patterns;
+
+  /**
+   * constructor compiling the regular expressions.
+   *
+   * @param pregExMap map of country codes and regular expressions
+   */
+  public CountryRegExPatterns(final Map<String, String> pregExMap) {
+    super();
+    patterns = new HashMap<>();
+    for (final Entry<String, String> entry : pregExMap.entrySet()) {
+      if (entry.getValue() != null) {
+        patterns.put(entry.getKey(), new RegExPattern(entry.getValue()));
+      }
+    }
+  }
+
+  /**
+   * get the compiled regular expression of a country.
+   *
+   * @param pcountryCode country code
+   * @return pattern or null if there is no regular expression for the country
+   */
+  public RegExPattern get(final String pcountryCode) {
+    return patterns.get(pcountryCode);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import de.knightsoftnet.validators.shared.util.IbanCheckUtil;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+
+/**
+ * result of a iban analysis.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class IbanAnalyzeData implements ValidationInterface {
+
+  private String iban;
+  private IbanCheckUtil.Result checkResult;
+  private boolean valid;
+  private String countryCode;
+  private String bankNumber;
+  private String accountNumber;
+  private String bic;
+
+  /**
+   * default constructor.
+   */
+  public IbanAnalyzeData() {
+    super();
+  }
+
+  /**
+   * iban without separators.
+   *
+   * @return iban
+   */
+  public String getIban() {
+    return iban;
+  }
+
+  public void setIban(final String piban) {
+    iban = piban;
+  }
+
+  public IbanCheckUtil.Result getCheckResult() {
+    return checkResult;
+  }
+
+  public void setCheckResult(final IbanCheckUtil.Result pcheckResult) {
+    checkResult = pcheckResult;
+  }
+
+  @Override
+  public boolean isValid() {
+    return valid;
+  }
+
+  @Override
+  public void setValid(final boolean pvalid) {
+    valid = pvalid;
+  }
+
+  public String getCountryCode() {
+    return countryCode;
+  }
+
+  public void setCountryCode(final String pcountryCode) {
+    countryCode = pcountryCode;
+  }
+
+  public String getBankNumber() {
+    return bankNumber;
+  }
+
+  public void setBankNumber(final String pbankNumber) {
+    bankNumber = pbankNumber;
+  }
+
+  public String getAccountNumber() {
+    return accountNumber;
+  }
+
+  public void setAccountNumber(final String paccountNumber) {
+    accountNumber = paccountNumber;
+  }
+
+  public String getBic() {
+    return bic;
+  }
+
+  public void setBic(final String pbic) {
+    bic = pbic;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(iban, checkResult, countryCode, bankNumber, accountNumber, bic);
+  }
+
+  @Override
+  public boolean equals(final Object pobj) {
+    if (this == pobj) {
+      return true;
+    }
+    if (pobj == null || this.getClass() != pobj.getClass()) {
+      return false;
+    }
+    final IbanAnalyzeData other = (IbanAnalyzeData) pobj;
+    return StringUtils.equals(iban, other.iban) && checkResult == other.checkResult
+        && valid == other.valid && StringUtils.equals(countryCode, other.countryCode)
+        && StringUtils.equals(bankNumber, other.bankNumber)
+        && StringUtils.equals(accountNumber, other.accountNumber)
+        && StringUtils.equals(bic, other.bic);
+  }
+
+  @Override
+  public String toString() {
+    return "IbanAnalyzeData [iban=" + iban + ", checkResult=" + checkResult + ", valid=" + valid
+        + ", countryCode=" + countryCode + ", bankNumber=" + bankNumber + ", accountNumber="
+        + accountNumber + ", bic=" + bic + "]";
+  }
+}
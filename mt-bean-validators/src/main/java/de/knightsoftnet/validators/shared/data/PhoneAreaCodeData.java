@@ -15,6 +15,8 @@
 
 package de.knightsoftnet.validators.shared.data;
 
+import de.knightsoftnet.validators.shared.util.RegExPattern;
+
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
@@ -28,6 +30,7 @@ import java.util.Objects;
 public class PhoneAreaCodeData implements Comparable<PhoneAreaCodeData> {
   private final String areaCode;
   private final boolean regEx;
+  private final RegExPattern areaCodePattern;
   private final String areaName;
   private final int minLength;
   private final int maxLength;
@@ -44,6 +47,7 @@ public class PhoneAreaCodeData implements Comparable<PhoneAreaCodeData> {
     super();
     areaCode = StringUtils.replace(pareaCode, "u5b", "[");
     regEx = !StringUtils.isNumeric(pareaCode);
+    areaCodePattern = regEx ? new RegExPattern(areaCode) : null;
     if (StringUtils.contains(pareaName, '¡')) {
       final String[] splittedName = StringUtils.defaultString(pareaName).split("¡");
       areaName = splittedName[0];
@@ -64,6 +68,25 @@ public class PhoneAreaCodeData implements Comparable<PhoneAreaCodeData> {
     }
   }
 
+  /**
+   * constructor initializing fields with already prepared values.
+   *
+   * @param pareaCode area code
+   * @param pareaName area name
+   * @param pminLength minimal length of the line number
+   * @param pmaxLength maximal length of the line number
+   */
+  public PhoneAreaCodeData(final String pareaCode, final String pareaName, final int pminLength,
+      final int pmaxLength) {
+    super();
+    areaCode = pareaCode;
+    regEx = !StringUtils.isNumeric(pareaCode);
+    areaCodePattern = regEx ? new RegExPattern(areaCode) : null;
+    areaName = pareaName;
+    minLength = pminLength;
+    maxLength = pmaxLength;
+  }
+
   public String getAreaCode() {
     return areaCode;
   }
@@ -72,6 +95,41 @@ public class PhoneAreaCodeData implements Comparable<PhoneAreaCodeData> {
     return regEx;
   }
 
+  /**
+   * check if the phone number starts with this area code.
+   *
+   * @param pphoneNumber phone number without country code
+   * @return length of the area code part of the phone number or -1 if it doesn't match
+   */
+  public int matchAreaCode(final CharSequence pphoneNumber) {
+    if (regEx) {
+      return areaCodePattern.matchesAtStart(pphoneNumber);
+    }
+    return StringUtils.startsWith(pphoneNumber, areaCode) ? StringUtils.length(areaCode) : -1;
+  }
+
+  /**
+   * check if the phone number starts with this area code at the given position.
+   *
+   * @param pphoneNumber phone number
+   * @param pstart position where the area code has to start
+   * @return length of the area code part of the phone number or -1 if it doesn't match
+   */
+  public int matchAreaCode(final CharSequence pphoneNumber, final int pstart) {
+    if (regEx) {
+      return areaCodePattern.matchesAtStart(pphoneNumber, pstart);
+    }
+    if (pphoneNumber == null || pphoneNumber.length() - pstart < areaCode.length()) {
+      return -1;
+    }
+    for (int pos = 0; pos < areaCode.length(); pos++) {
+      if (pphoneNumber.charAt(pstart + pos) != areaCode.charAt(pos)) {
+        return -1;
+      }
+    }
+    return areaCode.length();
+  }
+
   public String getAreaName() {
     return areaName;
   }
@@ -17,10 +17,14 @@ package de.knightsoftnet.validators.shared.data;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 /**
  * phone number region/country code data.
@@ -32,7 +36,10 @@ public class PhoneCountryCodeData implements Comparable<PhoneCountryCodeData> {
   private final String countryCode;
   private final String countryCodeName;
   private PhoneCountryData phoneCountryData;
-  private final Set<PhoneAreaCodeData> areaCodeData;
+  private Set<PhoneAreaCodeData> areaCodeData;
+  private Supplier<? extends Collection<PhoneAreaCodeData>> areaCodeLoader;
+  private PhoneCountryCodeData areaCodeSource;
+  private volatile AreaCodeIndex areaCodeIndex;
 
   /**
    * constructor initializing fields.
@@ -45,6 +52,46 @@ public class PhoneCountryCodeData implements Comparable<PhoneCountryCodeData> {
     countryCode = pcountryCode;
     countryCodeName = pcountryCodeName;
     areaCodeData = new TreeSet<>();
+    areaCodeLoader = null;
+    areaCodeSource = null;
+  }
+
+  /**
+   * constructor initializing fields, the area codes are loaded on first use by the given loader.
+   *
+   * @param pcountryCode country code
+   * @param pcountryCodeName country code name
+   * @param pareaCodeLoader loader which reads the area codes of the country
+   */
+  public PhoneCountryCodeData(final String pcountryCode, final String pcountryCodeName,
+      final Supplier<? extends Collection<PhoneAreaCodeData>> pareaCodeLoader) {
+    super();
+    countryCode = pcountryCode;
+    countryCodeName = pcountryCodeName;
+    areaCodeData = null;
+    areaCodeLoader = pareaCodeLoader;
+    areaCodeSource = null;
+  }
+
+  /**
+   * constructor initializing fields, the area codes and their lookup index are shared with the
+   * given country code data, so the locale independent structure exists only once for all
+   * languages. If the source loads its area codes on first use, they are loaded once for all
+   * entries sharing them.
+   *
+   * @param pcountryCode country code
+   * @param pcountryCodeName country code name
+   * @param pareaCodeSource country code data to share the area codes with
+   */
+  public PhoneCountryCodeData(final String pcountryCode, final String pcountryCodeName,
+      final PhoneCountryCodeData pareaCodeSource) {
+    super();
+    countryCode = pcountryCode;
+    countryCodeName = pcountryCodeName;
+    areaCodeData = null;
+    areaCodeLoader = null;
+    areaCodeSource = pareaCodeSource.areaCodeSource == null ? pareaCodeSource
+        : pareaCodeSource.areaCodeSource;
   }
 
   public String getCountryCode() {
@@ -63,12 +110,111 @@ public class PhoneCountryCodeData implements Comparable<PhoneCountryCodeData> {
     phoneCountryData = pphoneCountryData;
   }
 
+  /**
+   * get area codes of the country, if they are loaded on demand, this loads them.
+   *
+   * @return unmodifiable set of area code data
+   */
   public Set<PhoneAreaCodeData> getAreaCodeData() {
-    return Collections.unmodifiableSet(areaCodeData);
+    if (areaCodeData != null) {
+      return Collections.unmodifiableSet(areaCodeData);
+    }
+    return getAreaCodeIndex().areaCodeData;
   }
 
+  /**
+   * add area code data. If area codes are loaded on demand or shared, they are copied into a
+   * private set of this entry first, so other entries are not changed.
+   *
+   * @param pareaCodeData area code data to add
+   */
   public void addAreaCodeData(final PhoneAreaCodeData pareaCodeData) {
+    if (areaCodeData == null) {
+      areaCodeData = new TreeSet<>(getAreaCodeIndex().areaCodeData);
+      areaCodeLoader = null;
+      areaCodeSource = null;
+    }
     areaCodeData.add(pareaCodeData);
+    areaCodeIndex = null;
+  }
+
+  /**
+   * check if area codes are already loaded and indexed.
+   *
+   * @return true if area codes are available without loading
+   */
+  public boolean isAreaCodeDataLoaded() {
+    return areaCodeSource == null ? areaCodeIndex != null : areaCodeSource.isAreaCodeDataLoaded();
+  }
+
+  /**
+   * find the longest numeric area code the given phone number starts with.
+   *
+   * @param pphoneNumber phone number without country code
+   * @return area code data or null if no numeric area code matches
+   */
+  public PhoneAreaCodeData findAreaCode(final CharSequence pphoneNumber) {
+    return getAreaCodeIndex().areaCodeTree.findLongestPrefix(pphoneNumber);
+  }
+
+  /**
+   * find the longest numeric area code the given phone number contains at the given position.
+   *
+   * @param pphoneNumber phone number
+   * @param pstart position where the area code has to start
+   * @return area code data or null if no numeric area code matches
+   */
+  public PhoneAreaCodeData findAreaCode(final CharSequence pphoneNumber, final int pstart) {
+    return getAreaCodeIndex().areaCodeTree.findLongestPrefix(pphoneNumber, pstart);
+  }
+
+  /**
+   * get the area codes which are defined as regular expressions in the order to check them.
+   *
+   * @return unmodifiable list of regular expression area codes
+   */
+  public List<PhoneAreaCodeData> getRegExAreaCodeData() {
+    return getAreaCodeIndex().regExAreaCodeData;
+  }
+
+  /**
+   * find numeric area codes starting with the given prefix, shorter area codes first and area
+   * codes of the same length sorted by alphabet.
+   *
+   * @param pprefix prefix of the area code, empty string matches all area codes
+   * @param plimit maximum number of entries to return
+   * @return list of area code data
+   */
+  public List<PhoneAreaCodeData> findAreaCodesByPrefix(final String pprefix, final int plimit) {
+    return getAreaCodeIndex().areaCodePrefixIndex.findByPrefix(pprefix, plimit);
+  }
+
+  /**
+   * create the lookup index of the area codes and load them if they are loaded on demand, is done
+   * automatically on first use if not called. Area codes loaded on demand are loaded only once.
+   */
+  public void createAreaCodeIndex() {
+    if (areaCodeSource != null) {
+      areaCodeSource.createAreaCodeIndex();
+    } else if (areaCodeLoader == null) {
+      areaCodeIndex = new AreaCodeIndex(areaCodeData);
+    } else if (areaCodeIndex == null) {
+      areaCodeIndex = new AreaCodeIndex(new TreeSet<>(areaCodeLoader.get()));
+    }
+  }
+
+  private AreaCodeIndex getAreaCodeIndex() {
+    if (areaCodeSource != null) {
+      return areaCodeSource.getAreaCodeIndex();
+    }
+    // no locking, concurrent first calls may both create the index, they are equal and the
+    // immutable index is published through the volatile field
+    final AreaCodeIndex index = areaCodeIndex;
+    if (index != null) {
+      return index;
+    }
+    createAreaCodeIndex();
+    return areaCodeIndex;
   }
 
   @Override
@@ -110,4 +256,28 @@ public class PhoneCountryCodeData implements Comparable<PhoneCountryCodeData> {
     }
     return countryCode.compareTo(pcompare.countryCode);
   }
+
+  private static class AreaCodeIndex {
+    private final Set<PhoneAreaCodeData> areaCodeData;
+    private final PhonePrefixTree<PhoneAreaCodeData> areaCodeTree;
+    private final PhonePrefixIndex<PhoneAreaCodeData> areaCodePrefixIndex;
+    private final List<PhoneAreaCodeData> regExAreaCodeData;
+
+    AreaCodeIndex(final Set<PhoneAreaCodeData> pareaCodeData) {
+      areaCodeData = Collections.unmodifiableSet(pareaCodeData);
+      final List<PhoneAreaCodeData> numericAreaCodes = new ArrayList<>();
+      final List<PhoneAreaCodeData> regExAreaCodes = new ArrayList<>();
+      for (final PhoneAreaCodeData areaCode : pareaCodeData) {
+        if (areaCode.isRegEx()) {
+          regExAreaCodes.add(areaCode);
+        } else {
+          numericAreaCodes.add(areaCode);
+        }
+      }
+      areaCodeTree = new PhonePrefixTree<>(numericAreaCodes, PhoneAreaCodeData::getAreaCode);
+      areaCodePrefixIndex =
+          new PhonePrefixIndex<>(numericAreaCodes, PhoneAreaCodeData::getAreaCode);
+      regExAreaCodeData = Collections.unmodifiableList(regExAreaCodes);
+    }
+  }
 }
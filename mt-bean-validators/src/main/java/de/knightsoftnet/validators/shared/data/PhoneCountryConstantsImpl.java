@@ -15,6 +15,7 @@
 
 package de.knightsoftnet.validators.shared.data;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -23,6 +24,8 @@ import java.util.TreeSet;
 public class PhoneCountryConstantsImpl implements PhoneCountrySharedConstants {
   private final Set<PhoneCountryCodeData> countryCode;
   private final Map<String, PhoneCountryData> countriesMap;
+  private final PhonePrefixTree<PhoneCountryCodeData> countryCodeTree;
+  private final PhonePrefixIndex<PhoneCountryCodeData> countryCodeIndex;
 
   /**
    * default constructor.
@@ -31,6 +34,8 @@ public class PhoneCountryConstantsImpl implements PhoneCountrySharedConstants {
     super();
     countryCode = new TreeSet<>();
     countriesMap = new HashMap<>();
+    countryCodeTree = new PhonePrefixTree<>(countryCode, PhoneCountryCodeData::getCountryCode);
+    countryCodeIndex = new PhonePrefixIndex<>(countryCode, PhoneCountryCodeData::getCountryCode);
   }
 
   /**
@@ -44,6 +49,8 @@ public class PhoneCountryConstantsImpl implements PhoneCountrySharedConstants {
     super();
     countryCode = pcountryCode;
     countriesMap = pcountryMap;
+    countryCodeTree = new PhonePrefixTree<>(countryCode, PhoneCountryCodeData::getCountryCode);
+    countryCodeIndex = new PhonePrefixIndex<>(countryCode, PhoneCountryCodeData::getCountryCode);
   }
 
   @Override
@@ -55,4 +62,37 @@ public class PhoneCountryConstantsImpl implements PhoneCountrySharedConstants {
   public Map<String, PhoneCountryData> countryMap() {
     return countriesMap;
   }
+
+  @Override
+  public PhonePrefixTree<PhoneCountryCodeData> countryCodeTree() {
+    return countryCodeTree;
+  }
+
+  @Override
+  public PhonePrefixIndex<PhoneCountryCodeData> countryCodeIndex() {
+    return countryCodeIndex;
+  }
+
+  /**
+   * load the area codes of the given countries now, instead of on first use.
+   *
+   * @param pcountries phone country codes (like 49) or iso country codes (like DE), a single "*"
+   *        loads all countries
+   */
+  public void preloadAreaCodes(final Collection<String> pcountries) {
+    if (pcountries == null) {
+      return;
+    }
+    for (final String country : pcountries) {
+      if ("*".equals(country)) {
+        for (final PhoneCountryCodeData countryCodeData : countryCode) {
+          countryCodeData.createAreaCodeIndex();
+        }
+      } else if (countriesMap.containsKey(country)) {
+        countriesMap.get(country).getCountryCodeData().createAreaCodeIndex();
+      } else if (countryCodeTree.get(country) != null) {
+        countryCodeTree.get(country).createAreaCodeIndex();
+      }
+    }
+  }
 }
@@ -28,4 +28,8 @@ public interface PhoneCountrySharedConstants {
   Set<PhoneCountryCodeData> countryCodeData();
 
   Map<String, PhoneCountryData> countryMap();
+
+  PhonePrefixTree<PhoneCountryCodeData> countryCodeTree();
+
+  PhonePrefixIndex<PhoneCountryCodeData> countryCodeIndex();
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.knightsoftnet.validators.shared.data;
+
+/**
+ * interface for phone number data including formated values.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public interface PhoneNumberFormatsInterface extends PhoneNumberInterface {
+
+  String getDin5008National();
+
+  void setDin5008National(String pdin5008National);
+
+  String getDin5008International();
+
+  void setDin5008International(String pdin5008International);
+
+  String getE123National();
+
+  void setE123National(String pe123National);
+
+  String getE123International();
+
+  void setE123International(String pe123International);
+
+  String getUrl();
+
+  void setUrl(String purl);
+
+  String getMs();
+
+  void setMs(String pms);
+
+  String getCommonNational();
+
+  void setCommonNational(String pcommonNational);
+
+  String getCommonInternational();
+
+  void setCommonInternational(String pcommonInternational);
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * immutable index for prefix searches of country and area codes. The entries are grouped by key
+ * length and sorted by key inside the groups, so the entries starting with a prefix are found by
+ * binary search and are returned in suggestion order (shorter keys first, same length by
+ * alphabet) without sorting the matches.
+ *
+ * @author Manfred Tremmel
+ *
+ * @param <T> type of the entries
+ */
+public class PhonePrefixIndex<T> {
+  private final String[][] keys;
+  private final Object[][] entries;
+
+  /**
+   * constructor building the index, entries with empty keys are ignored.
+   *
+   * @param pentries entries to add
+   * @param pkeyFunction function which returns the key of a entry
+   */
+  public PhonePrefixIndex(final Collection<T> pentries, final Function<T, String> pkeyFunction) {
+    super();
+    final List<List<T>> groups = new ArrayList<>();
+    if (pentries != null) {
+      for (final T entry : pentries) {
+        final String key = pkeyFunction.apply(entry);
+        if (key == null || key.isEmpty()) {
+          continue;
+        }
+        while (groups.size() < key.length()) {
+          groups.add(new ArrayList<>());
+        }
+        groups.get(key.length() - 1).add(entry);
+      }
+    }
+    keys = new String[groups.size()][];
+    entries = new Object[groups.size()][];
+    for (int length = 0; length < groups.size(); length++) {
+      final List<T> group = groups.get(length);
+      // stable sort, entries with the same key keep the order of the collection
+      Collections.sort(group,
+          (entry1, entry2) -> pkeyFunction.apply(entry1).compareTo(pkeyFunction.apply(entry2)));
+      keys[length] = new String[group.size()];
+      entries[length] = group.toArray();
+      for (int pos = 0; pos < group.size(); pos++) {
+        keys[length][pos] = pkeyFunction.apply(group.get(pos));
+      }
+    }
+  }
+
+  /**
+   * find entries with keys starting with the given prefix, shorter keys first and keys of the
+   * same length sorted by alphabet.
+   *
+   * @param pprefix prefix to search for, empty string matches all entries
+   * @param plimit maximum number of entries to return
+   * @return list of entries, never null
+   */
+  @SuppressWarnings("unchecked")
+  public List<T> findByPrefix(final String pprefix, final int plimit) {
+    final String prefix = pprefix == null ? "" : pprefix;
+    final List<T> result = new ArrayList<>(Math.max(0, Math.min(plimit, 16)));
+    for (int length = Math.max(prefix.length(), 1) - 1; length < keys.length
+        && result.size() < plimit; length++) {
+      final String[] groupKeys = keys[length];
+      for (int pos = lowerBound(groupKeys, prefix); pos < groupKeys.length
+          && groupKeys[pos].startsWith(prefix) && result.size() < plimit; pos++) {
+        result.add((T) entries[length][pos]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * position of the first key which is not smaller then the given key.
+   */
+  private static int lowerBound(final String[] pkeys, final String pkey) {
+    int low = 0;
+    int high = pkeys.length;
+    while (low < high) {
+      final int middle = low + high >>> 1;
+      if (pkeys[middle].compareTo(pkey) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * immutable digit tree for longest prefix lookups of country and area codes.
+ *
+ * @author Manfred Tremmel
+ *
+ * @param <T> type of the entries
+ */
+public class PhonePrefixTree<T> {
+  private static final int DIGITS = 10;
+
+  private final Node<T> root;
+
+  /**
+   * constructor building the tree, entries with non numeric keys are ignored.
+   *
+   * @param pentries entries to add
+   * @param pkeyFunction function which returns the digit key of a entry
+   */
+  public PhonePrefixTree(final Collection<T> pentries, final Function<T, String> pkeyFunction) {
+    super();
+    root = new Node<>();
+    if (pentries != null) {
+      for (final T entry : pentries) {
+        add(pkeyFunction.apply(entry), entry);
+      }
+    }
+  }
+
+  private void add(final String pkey, final T pentry) {
+    if (pkey == null || pkey.isEmpty()) {
+      return;
+    }
+    for (int pos = 0; pos < pkey.length(); pos++) {
+      if (digit(pkey.charAt(pos)) < 0) {
+        return;
+      }
+    }
+    Node<T> node = root;
+    for (int pos = 0; pos < pkey.length(); pos++) {
+      node = node.createChild(digit(pkey.charAt(pos)));
+    }
+    if (node.entry == null) {
+      // keep the first entry on duplicate keys
+      node.entry = pentry;
+    }
+  }
+
+  /**
+   * get entry with exactly the given key.
+   *
+   * @param pkey key to search for
+   * @return entry or null if not found
+   */
+  public T get(final CharSequence pkey) {
+    if (pkey == null || pkey.length() == 0) {
+      return null;
+    }
+    Node<T> node = root;
+    for (int pos = 0; pos < pkey.length() && node != null; pos++) {
+      node = node.getChild(digit(pkey.charAt(pos)));
+    }
+    return node == null ? null : node.entry;
+  }
+
+  /**
+   * find entry with the longest key the given number starts with.
+   *
+   * @param pnumber number to search in
+   * @return entry or null if no key matches
+   */
+  public T findLongestPrefix(final CharSequence pnumber) {
+    return this.findLongestPrefix(pnumber, 0);
+  }
+
+  /**
+   * find entry with the longest key the given number starts with at the given position.
+   *
+   * @param pnumber number to search in
+   * @param pstart position to start search
+   * @return entry or null if no key matches
+   */
+  public T findLongestPrefix(final CharSequence pnumber, final int pstart) {
+    if (pnumber == null) {
+      return null;
+    }
+    T found = null;
+    Node<T> node = root;
+    for (int pos = pstart; pos < pnumber.length(); pos++) {
+      node = node.getChild(digit(pnumber.charAt(pos)));
+      if (node == null) {
+        break;
+      }
+      if (node.entry != null) {
+        found = node.entry;
+      }
+    }
+    return found;
+  }
+
+  private static int digit(final char pcharacter) {
+    return pcharacter >= '0' && pcharacter <= '9' ? pcharacter - '0' : -1;
+  }
+
+  private static class Node<T> {
+    private Node<T>[] children;
+    private T entry;
+
+    @SuppressWarnings("unchecked")
+    private Node<T> createChild(final int pdigit) {
+      if (children == null) {
+        children = new Node[DIGITS];
+      }
+      if (children[pdigit] == null) {
+        children[pdigit] = new Node<>();
+      }
+      return children[pdigit];
+    }
+
+    private Node<T> getChild(final int pdigit) {
+      if (pdigit < 0 || children == null) {
+        return null;
+      }
+      return children[pdigit];
+    }
+  }
+}
@@ -18,27 +18,56 @@ package de.knightsoftnet.validators.shared.impl;
 import de.knightsoftnet.validators.shared.AgeLimitCheck;
 import de.knightsoftnet.validators.shared.interfaces.HasGetTime;
 
-import org.apache.commons.lang3.time.DateUtils;
-
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 /**
- * Check if a given date is minYears years ago.
+ * Check if a given date is minYears years ago. The limit day is computed once a day for each
+ * minYears value and shared by all validator instances, the gwt client uses a super source
+ * implementation without java.time support.
  *
  * @author Manfred Tremmel
  *
  */
 public class AgeLimitCheckValidator implements ConstraintValidator<AgeLimitCheck, Object> {
 
+  private static final ConcurrentMap<Integer, DateLimit> DATE_LIMITS = new ConcurrentHashMap<>();
+
+  /**
+   * clock replacing the system clock, null uses the system clock in the current default zone.
+   */
+  private static volatile Clock clock;
+
+  /**
+   * system clock in the default zone of the last computed limit.
+   */
+  private static volatile Clock systemClock;
+
   /**
    * minimum years.
    */
   private int minYears;
 
+  /**
+   * replace the clock which determines the current day and the time zone of dates.
+   *
+   * @param pclock clock to use, null resets to the system clock in the default time zone
+   */
+  static void setClock(final Clock pclock) {
+    clock = pclock;
+  }
+
   /**
    * {@inheritDoc} initialize the validator.
    *
@@ -60,21 +89,75 @@ public class AgeLimitCheckValidator implements ConstraintValidator<AgeLimitCheck
     if (pvalue == null) {
       return true;
     }
-    final Date value;
+    final DateLimit dateLimit = getDateLimit();
     if (pvalue instanceof Date) {
-      value = (Date) pvalue;
+      return ((Date) pvalue).getTime() < dateLimit.endMillis;
     } else if (pvalue instanceof Calendar) {
-      value = ((Calendar) pvalue).getTime();
+      return ((Calendar) pvalue).getTimeInMillis() < dateLimit.endMillis;
     } else if (pvalue instanceof HasGetTime) {
-      value = ((HasGetTime) pvalue).getTime();
-    } else {
-      throw new IllegalArgumentException(
-          "Object for validation with AgeLimitCheckValidator must be of type "
-              + "Date, Calendar or HasGetTime.");
+      return ((HasGetTime) pvalue).getTime().getTime() < dateLimit.endMillis;
+    } else if (pvalue instanceof LocalDate) {
+      return !((LocalDate) pvalue).isAfter(dateLimit.limit);
+    } else if (pvalue instanceof LocalDateTime) {
+      return !((LocalDateTime) pvalue).toLocalDate().isAfter(dateLimit.limit);
+    } else if (pvalue instanceof ZonedDateTime) {
+      return !((ZonedDateTime) pvalue).toLocalDate().isAfter(dateLimit.limit);
+    } else if (pvalue instanceof Instant) {
+      return ((Instant) pvalue).isBefore(dateLimit.end);
+    }
+    throw new IllegalArgumentException(
+        "Object for validation with AgeLimitCheckValidator must be of type Date, Calendar, "
+            + "HasGetTime, LocalDate, LocalDateTime, ZonedDateTime or Instant.");
+  }
+
+  private DateLimit getDateLimit() {
+    final Clock fixedClock = clock;
+    final ZoneId zone = fixedClock == null ? ZoneId.systemDefault() : fixedClock.getZone();
+    final long millis = fixedClock == null ? System.currentTimeMillis() : fixedClock.millis();
+    final Integer key = Integer.valueOf(minYears);
+    DateLimit dateLimit = DATE_LIMITS.get(key);
+    if (dateLimit == null || !dateLimit.isValidFor(zone, millis)) {
+      dateLimit = new DateLimit(fixedClock == null ? getSystemClock(zone) : fixedClock, minYears);
+      DATE_LIMITS.put(key, dateLimit);
+    }
+    return dateLimit;
+  }
+
+  /**
+   * system clock of the given zone, it's reused until the default zone changes.
+   */
+  private static Clock getSystemClock(final ZoneId pzone) {
+    Clock currentSystemClock = systemClock;
+    if (currentSystemClock == null || !pzone.equals(currentSystemClock.getZone())) {
+      currentSystemClock = Clock.system(pzone);
+      systemClock = currentSystemClock;
+    }
+    return currentSystemClock;
+  }
+
+  /**
+   * last allowed birthday for one minYears value, valid for the day and zone it was computed for.
+   */
+  private static class DateLimit {
+    private final ZoneId zone;
+    private final long validFromMillis;
+    private final long validUntilMillis;
+    private final LocalDate limit;
+    private final Instant end;
+    private final long endMillis;
+
+    DateLimit(final Clock pclock, final int pminYears) {
+      zone = pclock.getZone();
+      final LocalDate today = LocalDate.now(pclock);
+      validFromMillis = today.atStartOfDay(zone).toInstant().toEpochMilli();
+      validUntilMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+      limit = today.minusYears(pminYears);
+      end = limit.plusDays(1).atStartOfDay(zone).toInstant();
+      endMillis = end.toEpochMilli();
+    }
+
+    boolean isValidFor(final ZoneId pzone, final long pmillis) {
+      return zone.equals(pzone) && pmillis >= validFromMillis && pmillis < validUntilMillis;
     }
-    final Date dateLimit =
-        DateUtils.truncate(DateUtils.addYears(new Date(), 0 - minYears), Calendar.DAY_OF_MONTH);
-    final Date birthday = DateUtils.truncate(value, Calendar.DAY_OF_MONTH);
-    return !dateLimit.before(birthday);
   }
 }
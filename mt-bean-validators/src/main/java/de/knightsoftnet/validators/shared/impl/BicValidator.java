@@ -15,10 +15,9 @@
 
 package de.knightsoftnet.validators.shared.impl;
 
-import de.knightsoftnet.validators.server.data.CreateIbanLengthMapConstantsClass;
 import de.knightsoftnet.validators.shared.Bic;
-import de.knightsoftnet.validators.shared.data.IbanLengthDefinition;
-import de.knightsoftnet.validators.shared.data.IbanLengthMapSharedConstants;
+import de.knightsoftnet.validators.shared.data.CountryMetaData;
+import de.knightsoftnet.validators.shared.data.CountryMetaDataTable;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -48,12 +47,6 @@ public class BicValidator implements ConstraintValidator<Bic, Object> {
   public static final String BIC_REGEX =
       "^[A-Z]{4}[A-Z]{2}([01][A-Z]|[A-Z2-9][A-Z0-9])(XXX|[A-WYZ0-9][A-Z0-9]{2}|)$";
 
-  /**
-   * map of swift countries and the length of the ibans.
-   */
-  private static final IbanLengthMapSharedConstants IBAN_LENGTH_MAP =
-      CreateIbanLengthMapConstantsClass.create();
-
   /**
    * should whitespaces be ignored (true/false).
    */
@@ -96,9 +89,9 @@ public class BicValidator implements ConstraintValidator<Bic, Object> {
       // format is wrong!
       return false;
     }
-    final String countryCode = valueAsString.substring(4, 6);
-    final IbanLengthDefinition validBicLength = IBAN_LENGTH_MAP.ibanLengths().get(countryCode);
+    final CountryMetaData countryData =
+        CountryMetaDataTable.get(valueAsString.charAt(4), valueAsString.charAt(5));
 
-    return validBicLength != null;
+    return countryData != null && countryData.getIbanLength() != null;
   }
 }
@@ -15,14 +15,8 @@
 
 package de.knightsoftnet.validators.shared.impl;
 
-import de.knightsoftnet.validators.server.data.CreateIbanLengthMapConstantsClass;
 import de.knightsoftnet.validators.shared.IbanFormated;
-import de.knightsoftnet.validators.shared.data.IbanLengthDefinition;
-import de.knightsoftnet.validators.shared.data.IbanLengthMapSharedConstants;
-import de.knightsoftnet.validators.shared.util.IbanUtil;
-
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.validator.routines.checkdigit.IBANCheckDigit;
+import de.knightsoftnet.validators.shared.util.IbanCheckUtil;
 
 import java.util.Objects;
 
@@ -39,22 +33,11 @@ public class IbanFormatedValidator implements ConstraintValidator<IbanFormated,
   /**
    * definition of IBAN length minimum.
    */
-  public static final int IBAN_LENGTH_MIN = 19;
+  public static final int IBAN_LENGTH_MIN = IbanCheckUtil.IBAN_FORMATED_LENGTH_MIN;
   /**
    * definition of IBAN length maximum.
    */
-  public static final int IBAN_LENGTH_MAX = 42;
-
-  /**
-   * map of swift countries and the length of the ibans.
-   */
-  private static final IbanLengthMapSharedConstants IBAN_LENGTH_MAP =
-      CreateIbanLengthMapConstantsClass.create();
-
-  /**
-   * apache commons class to check/calculate IBAN check sums.
-   */
-  private static final IBANCheckDigit CHECK_IBAN = new IBANCheckDigit();
+  public static final int IBAN_LENGTH_MAX = IbanCheckUtil.IBAN_FORMATED_LENGTH_MAX;
 
   /**
    * {@inheritDoc} initialize the validator.
@@ -74,27 +57,8 @@ public class IbanFormatedValidator implements ConstraintValidator<IbanFormated,
    */
   @Override
   public final boolean isValid(final Object pvalue, final ConstraintValidatorContext pcontext) {
-    final String valueAsString = Objects.toString(pvalue, null);
-    if (StringUtils.isEmpty(valueAsString)) {
-      // empty field is ok
-      return true;
-    }
-    if (valueAsString.length() < IBAN_LENGTH_MIN || valueAsString.length() > IBAN_LENGTH_MAX) {
-      // to short or to long, but it's handled by size validator!
-      return true;
-    }
-    final String countryCode = valueAsString.substring(0, 2);
-    final IbanLengthDefinition validIbanLength = IBAN_LENGTH_MAP.ibanLengths().get(countryCode);
-    if (validIbanLength == null || valueAsString.replaceAll("\\s", StringUtils.EMPTY)
-        .length() != validIbanLength.getLength()) {
-      // unknown country or wrong length for the country!
-      return false;
-    }
-    if (!valueAsString.matches("^[A-Z]{2}[0-9A-Z]{2} ([0-9A-Z]{4}[ ])+[0-9A-Z]{1,4}$")) {
-      // wrong format
-      return false;
-    }
-
-    return CHECK_IBAN.isValid(IbanUtil.ibanCompress(valueAsString));
+    // empty, to short or to long fields are ok, they are handled by size validator!
+    return IbanCheckUtil.checkFormatedIban(pvalue instanceof CharSequence ? (CharSequence) pvalue
+        : Objects.toString(pvalue, null)).isAccepted();
   }
 }
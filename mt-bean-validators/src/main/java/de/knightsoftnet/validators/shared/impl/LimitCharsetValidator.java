@@ -16,11 +16,11 @@
 package de.knightsoftnet.validators.shared.impl;
 
 import de.knightsoftnet.validators.shared.LimitCharset;
+import de.knightsoftnet.validators.shared.util.CharsetCheckUtil;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.nio.charset.Charset;
-import java.nio.charset.CharsetEncoder;
+import java.util.function.Predicate;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
@@ -34,9 +34,9 @@ import javax.validation.ConstraintValidatorContext;
 public class LimitCharsetValidator implements ConstraintValidator<LimitCharset, String> {
 
   /**
-   * encoder for the given charset.
+   * thread safe check if a text can be encoded in the given charset.
    */
-  private CharsetEncoder charsetEncoder;
+  private Predicate<CharSequence> charsetCheck;
 
   /**
    * {@inheritDoc} initialize the validator.
@@ -45,7 +45,7 @@ public class LimitCharsetValidator implements ConstraintValidator<LimitCharset,
    */
   @Override
   public final void initialize(final LimitCharset pconstraintAnnotation) {
-    charsetEncoder = Charset.forName(pconstraintAnnotation.charset()).newEncoder();
+    charsetCheck = CharsetCheckUtil.forCharset(pconstraintAnnotation.charset());
   }
 
   /**
@@ -59,6 +59,6 @@ public class LimitCharsetValidator implements ConstraintValidator<LimitCharset,
     if (StringUtils.isEmpty(pvalue)) {
       return true;
     }
-    return charsetEncoder.canEncode(pvalue);
+    return charsetCheck.test(pvalue);
   }
 }
@@ -15,15 +15,16 @@
 
 package de.knightsoftnet.validators.shared.impl;
 
+import de.knightsoftnet.validators.server.data.CreatePasswordBlacklistClass;
 import de.knightsoftnet.validators.shared.Password;
+import de.knightsoftnet.validators.shared.util.AhoCorasickMatcher;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
@@ -37,7 +38,8 @@ import javax.validation.ConstraintValidatorContext;
  * <li>special character</li>
  * </ul>
  * Using <code>blacklist</code> you can give a comma separated list of words which are not allowed
- * to be part of the password. Default is no entry.<br>
+ * to be part of the password, <code>blacklistResource</code> names a class path resource with one
+ * word per line. Default is no entry.<br>
  * Using <code>disalowedStartChars</code> you can define characters which are not allowed as first
  * character in the password. Default is no entry.<br>
  * With <code>maxRepeatChar</code> you can limit the repeat of a single character, default is 0
@@ -49,10 +51,11 @@ import javax.validation.ConstraintValidatorContext;
  */
 public class PasswordValidator implements ConstraintValidator<Password, Object> {
 
-  /**
-   * patterns to check.
-   */
-  private static final String[] PATTERNS = new String[] {"[a-z]", "[A-Z]", "[0-9]", "[^\\s]"};
+  private static final int LOWERCASE = 0x01;
+  private static final int UPPERCASE = 0x02;
+  private static final int DIGIT = 0x04;
+  private static final int SPECIAL_CHARACTER = 0x08;
+  private static final int ALL_CRITERIAS = 0x0f;
 
   /**
    * localized message if blacklisted.
@@ -75,9 +78,14 @@ public class PasswordValidator implements ConstraintValidator<Password, Object>
   private int minRules;
 
   /**
-   * Comma separated list of words which are not allowed as part of the password.
+   * automaton of the annotation words which are not allowed as part of the password.
+   */
+  private AhoCorasickMatcher blacklist;
+
+  /**
+   * shared automaton of the blacklist resource words, null if no resource is given.
    */
-  private List<String> blacklist;
+  private AhoCorasickMatcher resourceBlacklist;
 
   /**
    * Characters which are not allowed at the beginning of a password.
@@ -100,12 +108,18 @@ public class PasswordValidator implements ConstraintValidator<Password, Object>
     messageStartCharacters = pconstraintAnnotation.messageStartCharacters();
     messageMaxRepeat = pconstraintAnnotation.messageMaxRepeat();
     minRules = pconstraintAnnotation.minRules();
-    if (pconstraintAnnotation.blacklist() == null) {
-      blacklist = Collections.emptyList();
+    final List<String> blacklistWords = new ArrayList<>();
+    if (pconstraintAnnotation.blacklist() != null) {
+      Arrays.stream(StringUtils.split(pconstraintAnnotation.blacklist(), ','))
+          .filter(entry -> StringUtils.isNotEmpty(entry))
+          .forEach(entry -> blacklistWords.add(entry.trim().toLowerCase()));
+    }
+    blacklist = new AhoCorasickMatcher(blacklistWords);
+    if (StringUtils.isEmpty(pconstraintAnnotation.blacklistResource())) {
+      resourceBlacklist = null;
     } else {
-      blacklist = Arrays.asList(StringUtils.split(pconstraintAnnotation.blacklist(), ',')).stream()
-          .filter(entry -> StringUtils.isNotEmpty(entry)).map(entry -> entry.trim().toLowerCase())
-          .collect(Collectors.toList());
+      resourceBlacklist = CreatePasswordBlacklistClass
+          .getBlacklistMatcher(pconstraintAnnotation.blacklistResource());
     }
     if (StringUtils.isEmpty(pconstraintAnnotation.disalowedStartChars())) {
       disalowedStartChars = null;
@@ -130,29 +144,43 @@ public class PasswordValidator implements ConstraintValidator<Password, Object>
             && !maxRepeatCharacterExceded(pcontext, valueAsString);
   }
 
+  /**
+   * count the fulfilled character class rules in one scan: lowercase and uppercase ascii letters,
+   * digits and special characters, which are all other characters except white spaces.
+   */
   private int countCriteriaMatches(final String ppassword) {
-    String password = ppassword;
-    int fulFilledCriterias = 0;
-    for (final String pattern : PasswordValidator.PATTERNS) {
-      if (password.matches(".*" + pattern + ".*")) {
-        fulFilledCriterias += 1;
-        password = password.replaceAll(pattern, StringUtils.EMPTY);
+    int criterias = 0;
+    for (int pos = 0; pos < ppassword.length() && criterias != ALL_CRITERIAS; pos++) {
+      final char character = ppassword.charAt(pos);
+      if (character >= 'a' && character <= 'z') {
+        criterias |= LOWERCASE;
+      } else if (character >= 'A' && character <= 'Z') {
+        criterias |= UPPERCASE;
+      } else if (character >= '0' && character <= '9') {
+        criterias |= DIGIT;
+      } else if (!isWhiteSpace(character)) {
+        criterias |= SPECIAL_CHARACTER;
       }
     }
-    return fulFilledCriterias;
+    return Integer.bitCount(criterias);
+  }
+
+  /**
+   * white space like {@code \s} of java regular expressions.
+   */
+  private static boolean isWhiteSpace(final char pchar) {
+    return pchar == ' ' || pchar >= '\t' && pchar <= '\r';
   }
 
   private boolean isBlacklist(final ConstraintValidatorContext pcontext,
       final String pvalueAsString) {
-    if (!blacklist.isEmpty()) {
-      final String valueLowerCase = pvalueAsString.toLowerCase();
-      for (final String blacklistEntry : blacklist) {
-        if (valueLowerCase.contains(blacklistEntry)) {
-          pcontext.disableDefaultConstraintViolation();
-          pcontext.buildConstraintViolationWithTemplate(messageBlacklist).addConstraintViolation();
-          return true;
-        }
-      }
+    final String lowerCaseValue = pvalueAsString.toLowerCase();
+    if (!blacklist.isEmpty() && blacklist.containsAny(lowerCaseValue)
+        || resourceBlacklist != null && !resourceBlacklist.isEmpty()
+            && resourceBlacklist.containsAny(lowerCaseValue)) {
+      pcontext.disableDefaultConstraintViolation();
+      pcontext.buildConstraintViolationWithTemplate(messageBlacklist).addConstraintViolation();
+      return true;
     }
     return false;
   }
@@ -16,6 +16,7 @@
 package de.knightsoftnet.validators.shared.impl;
 
 import de.knightsoftnet.validators.shared.PhoneNumber;
+import de.knightsoftnet.validators.shared.util.PhoneNumberFormatRecognizer;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -33,56 +34,9 @@ import javax.validation.ConstraintValidatorContext;
 public class PhoneNumberValidator implements ConstraintValidator<PhoneNumber, Object> {
 
   /**
-   * phone number format din 5008.
+   * allowed formats, combination of the {@link PhoneNumberFormatRecognizer} format constants.
    */
-  private static final String PHONE_NUMBER_DIN5008 =
-      "^(\\+[1-9]\\d{0,3}\\s{0,2}|0)\\d{1,7}\\s{0,2}\\d{2,12}(\\s{0,2}\\-\\s{0,2}\\d{1,9}$|$)";
-  /**
-   * phone number format E123.
-   */
-  private static final String PHONE_NUMBER_E123 =
-      "^(\\+[1-9]\\d{0,3}\\s{0,2}|\\(0\\d{1,7}\\))\\s{0,2}\\d{2,12}(\\s{0,2}\\d{1,9}$|$)";
-  /**
-   * phone number format uri.
-   */
-  private static final String PHONE_NUMBER_URI =
-      "^\\+[1-9]\\d{0,3}\\-\\d{1,7}\\-\\d{2,12}(\\-\\d{1,9}$|$)";
-  /**
-   * phone number format microsoft.
-   */
-  private static final String PHONE_NUMBER_MS =
-      "^\\+[1-9]\\d{0,3}\\s{0,2}\\(\\d{1,7}\\)\\s{0,2}\\d{2,12}(\\s{0,2}\\-\\s{0,2}\\d{1,9}$|$)";
-  /**
-   * phone number not standardized, but common writing.
-   */
-  private static final String PHONE_NUMBER_COMMON =
-      "^(\\+[1-9]\\d{0,3}\\s{0,2}(\\(0\\)){0,1}|0)(\\s{0,2}\\d{1,2}){1,4}(\\s{0,2}\\/){0,1}"
-          + "(\\s{0,2}\\d{1,2}){2,6}(\\s{0,2}\\-(\\s{0,2}\\d{1,2})*$|$)";
-
-  /**
-   * allow din 5008 format (true/false).
-   */
-  private boolean allowDin5008;
-
-  /**
-   * allow E123 format (true/false).
-   */
-  private boolean allowE123;
-
-  /**
-   * allow uri format (true/false).
-   */
-  private boolean allowUri;
-
-  /**
-   * allow microsoft format (true/false).
-   */
-  private boolean allowMs;
-
-  /**
-   * allow not standardized but common format (true/false).
-   */
-  private boolean allowCommon;
+  private int allowedFormats;
 
   /**
    * {@inheritDoc} initialize the validator.
@@ -91,11 +45,12 @@ public class PhoneNumberValidator implements ConstraintValidator<PhoneNumber, Ob
    */
   @Override
   public final void initialize(final PhoneNumber pconstraintAnnotation) {
-    allowDin5008 = pconstraintAnnotation.allowDin5008();
-    allowE123 = pconstraintAnnotation.allowE123();
-    allowUri = pconstraintAnnotation.allowUri();
-    allowMs = pconstraintAnnotation.allowMs();
-    allowCommon = pconstraintAnnotation.allowCommon();
+    allowedFormats =
+        (pconstraintAnnotation.allowDin5008() ? PhoneNumberFormatRecognizer.DIN5008 : 0)
+        | (pconstraintAnnotation.allowE123() ? PhoneNumberFormatRecognizer.E123 : 0)
+        | (pconstraintAnnotation.allowUri() ? PhoneNumberFormatRecognizer.URI : 0)
+        | (pconstraintAnnotation.allowMs() ? PhoneNumberFormatRecognizer.MS : 0)
+        | (pconstraintAnnotation.allowCommon() ? PhoneNumberFormatRecognizer.COMMON : 0);
   }
 
   /**
@@ -112,10 +67,6 @@ public class PhoneNumberValidator implements ConstraintValidator<PhoneNumber, Ob
       // empty field is ok
       return true;
     }
-    return allowDin5008 && valueAsString.matches(PHONE_NUMBER_DIN5008) //
-        || allowE123 && valueAsString.matches(PHONE_NUMBER_E123) //
-        || allowUri && valueAsString.matches(PHONE_NUMBER_URI) //
-        || allowMs && valueAsString.matches(PHONE_NUMBER_MS) //
-        || allowCommon && valueAsString.matches(PHONE_NUMBER_COMMON);
+    return PhoneNumberFormatRecognizer.recognize(valueAsString, allowedFormats) != 0;
   }
 }
@@ -15,10 +15,11 @@
 
 package de.knightsoftnet.validators.shared.impl;
 
-import de.knightsoftnet.validators.server.data.CreatePostalCodesMapConstantsClass;
 import de.knightsoftnet.validators.shared.PostalCode;
-import de.knightsoftnet.validators.shared.data.PostalCodesMapSharedConstants;
+import de.knightsoftnet.validators.shared.data.CountryMetaData;
+import de.knightsoftnet.validators.shared.data.CountryMetaDataTable;
 import de.knightsoftnet.validators.shared.util.BeanPropertyReaderUtil;
+import de.knightsoftnet.validators.shared.util.RegExPattern;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -33,12 +34,6 @@ import javax.validation.ConstraintValidatorContext;
  */
 public class PostalCodeValidator implements ConstraintValidator<PostalCode, Object> {
 
-  /**
-   * map of the postal code values.
-   */
-  private static final PostalCodesMapSharedConstants POSTAL_CODE_MAP =
-      CreatePostalCodesMapConstantsClass.create();
-
   /**
    * error message key.
    */
@@ -96,11 +91,12 @@ public class PostalCodeValidator implements ConstraintValidator<PostalCode, Obje
         countryCode = StringUtils.upperCase(countryCode);
       }
 
-      final String regExCheck = POSTAL_CODE_MAP.postalCodes().get(countryCode);
+      final CountryMetaData countryData = CountryMetaDataTable.get(countryCode);
+      final RegExPattern regExCheck = countryData == null ? null : countryData.getPostalCode();
       if (regExCheck == null) {
         return true;
       }
-      if (postalCode.matches(regExCheck)) {
+      if (regExCheck.matches(postalCode)) {
         return true;
       }
       switchContext(pcontext);
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * immutable Aho-Corasick automaton, which finds out in one scan if a text contains one of many
+ * words. The trie is stored in flat arrays, the transitions of each node are sorted by character
+ * and found by binary search, so also large word lists like leaked password lists need only little
+ * memory. It only uses classes which are also available in GWT.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class AhoCorasickMatcher {
+
+  private static final int ROOT = 0;
+
+  /**
+   * transitions of node n are {@code edgeChars/edgeTargets[edgeStart[n] .. edgeStart[n + 1]]}.
+   */
+  private final int[] edgeStart;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+  private final int[] fail;
+  /**
+   * true if a word ends in the node or in one of its failure nodes.
+   */
+  private final boolean[] output;
+
+  /**
+   * constructor building the automaton.
+   *
+   * @param pwords words to search for, null entries are ignored
+   */
+  public AhoCorasickMatcher(final Collection<String> pwords) {
+    super();
+    int capacity = 1;
+    for (final String word : pwords) {
+      if (word != null) {
+        capacity += word.length();
+      }
+    }
+
+    // build the trie with one linked list of transitions per node
+    final int[] firstEdge = new int[capacity];
+    Arrays.fill(firstEdge, -1);
+    final int[] nextEdge = new int[capacity];
+    final char[] chars = new char[capacity];
+    final int[] targets = new int[capacity];
+    final boolean[] terminal = new boolean[capacity];
+    int nodes = 1;
+    for (final String word : pwords) {
+      if (word == null) {
+        continue;
+      }
+      int node = ROOT;
+      for (int pos = 0; pos < word.length(); pos++) {
+        final char character = word.charAt(pos);
+        int edge = firstEdge[node];
+        while (edge >= 0 && chars[edge] != character) {
+          edge = nextEdge[edge];
+        }
+        if (edge < 0) {
+          // node n is reached by edge n - 1
+          edge = nodes - 1;
+          chars[edge] = character;
+          targets[edge] = nodes;
+          nextEdge[edge] = firstEdge[node];
+          firstEdge[node] = edge;
+          nodes++;
+        }
+        node = targets[edge];
+      }
+      terminal[node] = true;
+    }
+
+    // flatten the transitions sorted by character
+    edgeStart = new int[nodes + 1];
+    edgeChars = new char[nodes - 1];
+    edgeTargets = new int[nodes - 1];
+    int pos = 0;
+    for (int node = 0; node < nodes; node++) {
+      edgeStart[node] = pos;
+      for (int edge = firstEdge[node]; edge >= 0; edge = nextEdge[edge]) {
+        int insert = pos++;
+        while (insert > edgeStart[node] && edgeChars[insert - 1] > chars[edge]) {
+          edgeChars[insert] = edgeChars[insert - 1];
+          edgeTargets[insert] = edgeTargets[insert - 1];
+          insert--;
+        }
+        edgeChars[insert] = chars[edge];
+        edgeTargets[insert] = targets[edge];
+      }
+    }
+    edgeStart[nodes] = pos;
+
+    // failure links in breadth first order, so the failure node is always finished before
+    fail = new int[nodes];
+    output = Arrays.copyOf(terminal, nodes);
+    final int[] queue = new int[nodes];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = ROOT;
+    while (head < tail) {
+      final int node = queue[head++];
+      for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+        final int child = edgeTargets[edge];
+        if (node != ROOT) {
+          int failNode = fail[node];
+          int next = transition(failNode, edgeChars[edge]);
+          while (next < 0 && failNode != ROOT) {
+            failNode = fail[failNode];
+            next = transition(failNode, edgeChars[edge]);
+          }
+          fail[child] = next < 0 ? ROOT : next;
+          output[child] |= output[fail[child]];
+        }
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  /**
+   * check if the text contains at least one of the words.
+   *
+   * @param ptext text to check
+   * @return true if one of the words is part of the text
+   */
+  public boolean containsAny(final CharSequence ptext) {
+    if (output[ROOT]) {
+      // empty word is part of every text
+      return true;
+    }
+    if (ptext == null || edgeChars.length == 0) {
+      return false;
+    }
+    int node = ROOT;
+    for (int pos = 0; pos < ptext.length(); pos++) {
+      final char character = ptext.charAt(pos);
+      int next = transition(node, character);
+      while (next < 0 && node != ROOT) {
+        node = fail[node];
+        next = transition(node, character);
+      }
+      node = next < 0 ? ROOT : next;
+      if (output[node]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * check if the automaton contains no words.
+   *
+   * @return true if no words are given
+   */
+  public boolean isEmpty() {
+    return edgeChars.length == 0 && !output[ROOT];
+  }
+
+  private int transition(final int pnode, final char pchar) {
+    int low = edgeStart[pnode];
+    int high = edgeStart[pnode + 1] - 1;
+    while (low <= high) {
+      final int middle = low + high >>> 1;
+      final char character = edgeChars[middle];
+      if (character < pchar) {
+        low = middle + 1;
+      } else if (character > pchar) {
+        high = middle - 1;
+      } else {
+        return edgeTargets[middle];
+      }
+    }
+    return -1;
+  }
+}
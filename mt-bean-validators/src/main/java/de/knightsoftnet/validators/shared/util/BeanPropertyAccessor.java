@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import java.util.function.Function;
+
+/**
+ * typed accessor for the properties of a bean which are referenced by cross field constraints.
+ * Implementations are generated by the {@code BeanPropertyAccessorProcessor} and registered as
+ * service, {@link BeanPropertyReaderUtil} uses them instead of reflection when present.
+ *
+ * @author Manfred Tremmel
+ *
+ * @param <T> type of the bean
+ */
+public interface BeanPropertyAccessor<T> {
+
+  /**
+   * class of the bean the accessor reads.
+   *
+   * @return bean class
+   */
+  Class<T> getBeanClass();
+
+  /**
+   * getter for a simple or nested property, null values in the path hierarchy are returned as
+   * null.
+   *
+   * @param ppropertyPath name of the property, nested properties separated by dots
+   * @return getter function or null if the property is not known by the accessor
+   */
+  Function<T, Object> getGetter(String ppropertyPath);
+}
@@ -15,21 +15,78 @@
 
 package de.knightsoftnet.validators.shared.util;
 
-import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.NestedNullException;
 import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.lang3.StringUtils;
 
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
- * Bean Property Util, read bean property.
+ * Bean Property Util, read bean property. Properties of beans with a generated
+ * {@link BeanPropertyAccessor} are read without reflection. Otherwise getters of simple and nested
+ * properties are looked up once per class and property name and cached as method handles, null
+ * values in the path hierarchy are detected without exceptions. Indexed and mapped properties, maps
+ * and dyna beans are read using the bean utils.
  *
  * @author Manfred Tremmel
  *
  */
 public final class BeanPropertyReaderUtil {
 
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /**
+   * property path split at the dots, empty array if the bean utils have to be used.
+   */
+  private static final Map<String, String[]> PATHS = new ConcurrentHashMap<>();
+
+  /**
+   * getters by property name of each class, empty if the bean utils have to be used.
+   */
+  private static final ClassValue<Map<String, Optional<MethodHandle>>> GETTERS =
+      new ClassValue<Map<String, Optional<MethodHandle>>>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(final Class<?> ptype) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * generated accessor of each class or of its nearest super class.
+   */
+  private static final ClassValue<Optional<BeanPropertyAccessor<Object>>> ACCESSORS =
+      new ClassValue<Optional<BeanPropertyAccessor<Object>>>() {
+        @Override
+        protected Optional<BeanPropertyAccessor<Object>> computeValue(final Class<?> ptype) {
+          for (Class<?> type = ptype; type != null; type = type.getSuperclass()) {
+            final BeanPropertyAccessor<Object> accessor = GeneratedAccessors.ACCESSORS.get(type);
+            if (accessor != null) {
+              return Optional.of(accessor);
+            }
+          }
+          return Optional.empty();
+        }
+      };
+
   /**
    * private constructor for final utility class.
    */
@@ -43,7 +100,7 @@ public final class BeanPropertyReaderUtil {
    * reference format is used, as a String.
    * </p>
    * <p>
-   * If there is a null value in path hierarchy, exception is cached and null returned.
+   * If there is a null value in path hierarchy, null is returned.
    * </p>
    *
    * @param pbean Bean whose property is to be extracted
@@ -58,42 +115,149 @@ public final class BeanPropertyReaderUtil {
    */
   public static String getNullSaveStringProperty(final Object pbean, final String pname)
       throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-    String property;
-    try {
-      property = BeanUtils.getProperty(pbean, pname);
-    } catch (final NestedNullException pexception) {
-      property = null;
+    final Object property = getNullSaveProperty(pbean, pname);
+    if (property == null || property instanceof String) {
+      return (String) property;
     }
-    return property;
+    return BeanUtilsBean.getInstance().getConvertUtils().convert(property);
   }
 
   /**
    * <p>
    * Return the value of the specified property of the specified bean, no matter which property
-   * reference format is used, as a String.
+   * reference format is used, with no type conversions.
    * </p>
    * <p>
-   * If there is a null value in path hierarchy, exception is cached and null returned.
+   * If there is a null value in path hierarchy, null is returned.
    * </p>
    *
    * @param pbean Bean whose property is to be extracted
    * @param pname Possibly indexed and/or nested name of the property to be extracted
-   * @return The property's value, converted to a String
+   * @return The property's value
    *
    * @exception IllegalAccessException if the caller does not have access to the property accessor
    *            method
    * @exception InvocationTargetException if the property accessor method throws an exception
    * @exception NoSuchMethodException if an accessor method for this property cannot be found
-   * @see BeanUtilsBean#getProperty
+   * @see PropertyUtils#getProperty
    */
   public static Object getNullSaveProperty(final Object pbean, final String pname)
       throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-    Object property;
+    if (pbean == null || pname == null) {
+      return getPropertyWithBeanUtils(pbean, pname);
+    }
+    final Optional<BeanPropertyAccessor<Object>> accessor = ACCESSORS.get(pbean.getClass());
+    final Function<Object, Object> generatedGetter =
+        accessor.isPresent() ? accessor.get().getGetter(pname) : null;
+    if (generatedGetter != null) {
+      try {
+        return generatedGetter.apply(pbean);
+      } catch (final RuntimeException e) {
+        throw new InvocationTargetException(e);
+      }
+    }
+    final String[] path = PATHS.computeIfAbsent(pname, BeanPropertyReaderUtil::splitPath);
+    if (path.length == 0) {
+      return getPropertyWithBeanUtils(pbean, pname);
+    }
+    Object property = pbean;
+    for (int i = 0; i < path.length; i++) {
+      final Class<?> type = property.getClass();
+      final Optional<MethodHandle> getter =
+          GETTERS.get(type).computeIfAbsent(path[i], name -> findGetter(type, name));
+      if (!getter.isPresent()) {
+        return getPropertyWithBeanUtils(property,
+            StringUtils.join(Arrays.copyOfRange(path, i, path.length), '.'));
+      }
+      property = invoke(getter.get(), property);
+      if (property == null) {
+        return null;
+      }
+    }
+    return property;
+  }
+
+  private static Object getPropertyWithBeanUtils(final Object pbean, final String pname)
+      throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
     try {
-      property = PropertyUtils.getProperty(pbean, pname);
+      return PropertyUtils.getProperty(pbean, pname);
     } catch (final NestedNullException pexception) {
-      property = null;
+      return null;
+    }
+  }
+
+  private static Object invoke(final MethodHandle pgetter, final Object pbean)
+      throws InvocationTargetException {
+    try {
+      return (Object) pgetter.invokeExact(pbean);
+    } catch (final Error e) {
+      throw e;
+    } catch (final Throwable e) { // NOPMD getter exceptions are wrapped like reflection does
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * split simple and nested property paths, indexed and mapped properties return a empty array.
+   */
+  private static String[] splitPath(final String pname) {
+    if (StringUtils.containsAny(pname, '[', ']', '(', ')')) {
+      return new String[0];
+    }
+    final String[] path = StringUtils.splitPreserveAllTokens(pname, '.');
+    for (final String name : path) {
+      if (name.isEmpty()) {
+        return new String[0];
+      }
+    }
+    return path;
+  }
+
+  /**
+   * find the public getter of a property.
+   */
+  private static Optional<MethodHandle> findGetter(final Class<?> ptype, final String pname) {
+    if (Map.class.isAssignableFrom(ptype) || DynaBean.class.isAssignableFrom(ptype)) {
+      return Optional.empty();
+    }
+    try {
+      for (final PropertyDescriptor descriptor : Introspector.getBeanInfo(ptype)
+          .getPropertyDescriptors()) {
+        final Method readMethod = descriptor.getReadMethod();
+        if (pname.equals(descriptor.getName()) && readMethod != null
+            && Modifier.isPublic(readMethod.getDeclaringClass().getModifiers())) {
+          return Optional
+              .of(MethodHandles.publicLookup().unreflect(readMethod).asType(GETTER_TYPE));
+        }
+      }
+    } catch (final IntrospectionException | IllegalAccessException e) {
+      // the bean utils report the problem
+      return Optional.empty();
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * generated accessors registered as service, loaded on first use.
+   */
+  private static class GeneratedAccessors {
+    private static final Map<Class<?>, BeanPropertyAccessor<Object>> ACCESSORS = load();
+
+    @SuppressWarnings("unchecked")
+    private static Map<Class<?>, BeanPropertyAccessor<Object>> load() {
+      final Map<Class<?>, BeanPropertyAccessor<Object>> accessors = new HashMap<>();
+      final Iterator<BeanPropertyAccessor> iterator =
+          ServiceLoader.load(BeanPropertyAccessor.class).iterator();
+      while (true) {
+        try {
+          if (!iterator.hasNext()) {
+            return accessors;
+          }
+          final BeanPropertyAccessor<Object> accessor = iterator.next();
+          accessors.put(accessor.getBeanClass(), accessor);
+        } catch (final ServiceConfigurationError e) { // NOPMD stale entry, reflection is used
+        }
+      }
     }
-    return property;
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+/**
+ * check sum kernels working on character positions of the value, they don't create objects and
+ * don't throw exceptions, illegal characters or positions are reported by a negative result.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class CheckSumUtil {
+
+  private static final int MAX_NUMBER_DIGITS = 9;
+
+  private CheckSumUtil() {
+    super();
+  }
+
+  /**
+   * get digit at a position.
+   *
+   * @param pvalue value to read from
+   * @param ppos position of the digit
+   * @return digit value or -1 if it's no digit or position is out of range
+   */
+  public static int digit(final CharSequence pvalue, final int ppos) {
+    if (ppos < 0 || ppos >= pvalue.length()) {
+      return -1;
+    }
+    final char character = pvalue.charAt(ppos);
+    return character >= '0' && character <= '9' ? character - '0' : -1;
+  }
+
+  /**
+   * read a number of up to nine digits.
+   *
+   * @param pvalue value to read from
+   * @param pstart position of the first digit
+   * @param pend position behind the last digit
+   * @return number or -1 if there are other characters or positions are out of range
+   */
+  public static int number(final CharSequence pvalue, final int pstart, final int pend) {
+    if (pstart >= pend || pend - pstart > MAX_NUMBER_DIGITS) {
+      return -1;
+    }
+    int number = 0;
+    for (int pos = pstart; pos < pend; pos++) {
+      final int digit = digit(pvalue, pos);
+      if (digit < 0) {
+        return -1;
+      }
+      number = number * 10 + digit;
+    }
+    return number;
+  }
+
+  /**
+   * calculate the remainder of a decimal number of any length, with a modulus of 97 it's the
+   * kernel of the mod 97 check sums.
+   *
+   * @param pvalue value to read from
+   * @param pstart position of the first digit
+   * @param pend position behind the last digit
+   * @param pmodulus modulus
+   * @return remainder or -1 if there are other characters or positions are out of range
+   */
+  public static int modulo(final CharSequence pvalue, final int pstart, final int pend,
+      final int pmodulus) {
+    if (pstart >= pend) {
+      return -1;
+    }
+    int remainder = 0;
+    for (int pos = pstart; pos < pend; pos++) {
+      final int digit = digit(pvalue, pos);
+      if (digit < 0) {
+        return -1;
+      }
+      remainder = (remainder * 10 + digit) % pmodulus;
+    }
+    return remainder;
+  }
+
+  /**
+   * calculate weighted sum of digits, the kernel of the weighted mod 11 check sums.
+   *
+   * @param pvalue value to read from
+   * @param pstart position of the first digit
+   * @param pweights weights of the digits, starting at the first position
+   * @return weighted sum or -1 if there are other characters or positions are out of range
+   */
+  public static int weightedSum(final CharSequence pvalue, final int pstart,
+      final int[] pweights) {
+    int sum = 0;
+    for (int pos = 0; pos < pweights.length; pos++) {
+      final int digit = digit(pvalue, pstart + pos);
+      if (digit < 0) {
+        return -1;
+      }
+      sum += digit * pweights[pos];
+    }
+    return sum;
+  }
+
+  /**
+   * calculate luhn sum of digits, every second digit is doubled and the digits of the product are
+   * added.
+   *
+   * @param pvalue value to read from
+   * @param pstart position of the first digit
+   * @param pend position behind the last digit
+   * @param pdoubleFirst true if the first digit is doubled
+   * @return luhn sum or -1 if there are other characters or positions are out of range
+   */
+  public static int luhnSum(final CharSequence pvalue, final int pstart, final int pend,
+      final boolean pdoubleFirst) {
+    int sum = 0;
+    boolean doubleDigit = pdoubleFirst;
+    for (int pos = pstart; pos < pend; pos++) {
+      final int digit = digit(pvalue, pos);
+      if (digit < 0) {
+        return -1;
+      }
+      if (doubleDigit) {
+        sum += digit < 5 ? digit * 2 : digit * 2 - 9;
+      } else {
+        sum += digit;
+      }
+      doubleDigit = !doubleDigit;
+    }
+    return sum;
+  }
+
+  /**
+   * calculate check digit using ISO 7064 MOD 11,10.
+   *
+   * @param pvalue value to read from
+   * @param pstart position of the first digit
+   * @param pend position behind the last digit
+   * @return check digit or -1 if there are other characters or positions are out of range
+   */
+  public static int iso7064Mod11And10(final CharSequence pvalue, final int pstart,
+      final int pend) {
+    int product = 10;
+    for (int pos = pstart; pos < pend; pos++) {
+      final int digit = digit(pvalue, pos);
+      if (digit < 0) {
+        return -1;
+      }
+      int sum = (digit + product) % 10;
+      if (sum == 0) {
+        sum = 10;
+      }
+      product = 2 * sum % 11;
+    }
+    final int checkDigit = 11 - product;
+    return checkDigit == 10 ? 0 : checkDigit;
+  }
+}
@@ -0,0 +1,512 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * descriptor table of the country specific check sums of vat ids, tax identification numbers and
+ * tax numbers. Each entry describes which value type of which countries it checks and implements
+ * the check with the kernels of {@link CheckSumUtil}, so checks don't create objects and don't
+ * throw exceptions. The entries are resolved once per country in the country meta data table.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public enum CountryCheckSum {
+
+  VAT_ID_AT(Type.VAT_ID, "AT") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.luhnSum(pvalue, 3, 10, false);
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 10) == (96 - sum) % 10;
+    }
+  },
+
+  VAT_ID_BE(Type.VAT_ID, "BE") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int remainder = CheckSumUtil.modulo(pvalue, 2, 10, MODULO_97);
+      return remainder >= 0
+          && CheckSumUtil.number(pvalue, 10, pvalue.length()) == MODULO_97 - remainder;
+    }
+  },
+
+  VAT_ID_DE(Type.VAT_ID, "DE") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int checkDigit = CheckSumUtil.iso7064Mod11And10(pvalue, 2, 10);
+      return checkDigit >= 0 && CheckSumUtil.digit(pvalue, 10) == checkDigit;
+    }
+  },
+
+  VAT_ID_DK(Type.VAT_ID, "DK") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_DK_VAT_ID);
+      return sum >= 0 && sum % MODULO_11 == 0;
+    }
+  },
+
+  // ES vat ids are not checked, the known routine doesn't work for alphabetic check sums
+
+  VAT_ID_FI(Type.VAT_ID, "FI") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_FI_VAT_ID);
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 9) == MODULO_11 - sum % MODULO_11;
+    }
+  },
+
+  VAT_ID_FR(Type.VAT_ID, "FR") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int checkSum = CheckSumUtil.number(pvalue, 2, 4);
+      final int remainder = CheckSumUtil.modulo(pvalue, 4, pvalue.length(), MODULO_97);
+      return checkSum >= 0 && remainder >= 0 && checkSum == (12 + 3 * remainder) % MODULO_97;
+    }
+  },
+
+  VAT_ID_GR(Type.VAT_ID, "GR") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_GR_VAT_ID);
+      if (sum < 0) {
+        return false;
+      }
+      final int calculatedCheckSum = sum % MODULO_11;
+      return CheckSumUtil.digit(pvalue, 10) == (calculatedCheckSum > 9 ? 0 : calculatedCheckSum);
+    }
+  },
+
+  VAT_ID_IE(Type.VAT_ID, "IE") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      if (pvalue.length() < 10) {
+        return false;
+      }
+      final int sum;
+      if (pvalue.charAt(3) >= 'A' && pvalue.charAt(3) <= 'Z') {
+        // old id, the digit at position 2 moves behind the others
+        final int movedDigit = CheckSumUtil.digit(pvalue, 2);
+        final int otherDigits = CheckSumUtil.weightedSum(pvalue, 4, WEIGHTS_IE_OLD_VAT_ID);
+        sum = movedDigit < 0 || otherDigits < 0 ? -1 : movedDigit * 2 + otherDigits;
+      } else {
+        sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_IE_VAT_ID);
+      }
+      if (sum < 0) {
+        return false;
+      }
+      final int calculatedCheckSum = sum % 23;
+      return pvalue.charAt(9) == (calculatedCheckSum == 0 ? 'W'
+          : (char) ('A' + calculatedCheckSum - 1));
+    }
+  },
+
+  VAT_ID_IT(Type.VAT_ID, "IT") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.luhnSum(pvalue, 2, 12, false);
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 12) == 10 - sum % 10;
+    }
+  },
+
+  VAT_ID_LU(Type.VAT_ID, "LU") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int remainder = CheckSumUtil.modulo(pvalue, 2, 8, 89);
+      return remainder >= 0 && CheckSumUtil.number(pvalue, 8, pvalue.length()) == remainder;
+    }
+  },
+
+  VAT_ID_NL(Type.VAT_ID, "NL") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_9_TO_2);
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 10) == sum % MODULO_11;
+    }
+  },
+
+  VAT_ID_NO(Type.VAT_ID, "NO") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_NO_VAT_ID);
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 10) == MODULO_11 - sum % MODULO_11;
+    }
+  },
+
+  VAT_ID_PL(Type.VAT_ID, "PL") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_PL_NIP);
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 11) == sum % MODULO_11;
+    }
+  },
+
+  VAT_ID_PT(Type.VAT_ID, "PT") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_9_TO_2);
+      if (sum < 0) {
+        return false;
+      }
+      final int calculatedCheckSum = MODULO_11 - sum % MODULO_11;
+      return CheckSumUtil.digit(pvalue, 10) == (calculatedCheckSum > 9 ? 0 : calculatedCheckSum);
+    }
+  },
+
+  VAT_ID_SE(Type.VAT_ID, "SE") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.luhnSum(pvalue, 2, 11, true);
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 11) == (10 - sum % 10) % 10;
+    }
+  },
+
+  VAT_ID_SI(Type.VAT_ID, "SI") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_8_TO_2);
+      if (sum < 0) {
+        return false;
+      }
+      final int calculatedCheckSum = MODULO_11 - sum % MODULO_11;
+      return calculatedCheckSum != 11
+          && CheckSumUtil.digit(pvalue, 9) == (calculatedCheckSum == 10 ? 0 : calculatedCheckSum);
+    }
+  },
+
+  TIN_AT(Type.TIN, "AT") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkAt(pvalue);
+    }
+  },
+
+  TIN_ISO_7064(Type.TIN, "DE", "HR") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkIso7064(pvalue);
+    }
+  },
+
+  TIN_DK(Type.TIN, "DK") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkDk(pvalue);
+    }
+  },
+
+  TIN_EE(Type.TIN, "EE", "LT") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkEe(pvalue);
+    }
+  },
+
+  TIN_ES(Type.TIN, "ES") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkEs(pvalue);
+    }
+  },
+
+  TIN_UMCN(Type.TIN, "BA", "ME", "MK") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkUniqueMasterCitizenNumber(pvalue);
+    }
+  },
+
+  TIN_NL(Type.TIN, "NL") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkNl(pvalue);
+    }
+  },
+
+  TIN_PL(Type.TIN, "PL") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkPl(pvalue);
+    }
+  },
+
+  TAX_NUMBER_AT(Type.TAX_NUMBER, "AT") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkAt(pvalue);
+    }
+  },
+
+  TAX_NUMBER_DE(Type.TAX_NUMBER, "DE") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      final int fa = CheckSumUtil.number(pvalue, 2, 4);
+      final int sb = CheckSumUtil.number(pvalue, 5, 8);
+      if (fa < 0 || sb < 0 || pvalue.length() <= 12) {
+        return false;
+      }
+      if (pvalue.charAt(0) != '1' || pvalue.charAt(1) != '1') {
+        // only the check sum of Berlin tax numbers (prefix 11) is checked, others pass
+        return true;
+      }
+      // Berlin
+      final int sum;
+      if (fa >= 27 && fa <= 30 //
+          || fa < 31 && (sb < 201 || sb > 693) //
+          || fa == 19 && (sb < 200 || sb > 639 && sb < 680 || sb > 680 && sb < 684 || sb > 684) //
+          || fa == 37) {
+        sum = CheckSumUtil.weightedSum(pvalue, 5, WEIGHTS_DE_BERLIN_A_TAX_NUMBER);
+      } else {
+        sum = CheckSumUtil.weightedSum(pvalue, 2, WEIGHTS_DE_BERLIN_B_TAX_NUMBER);
+      }
+      return sum >= 0 && CheckSumUtil.digit(pvalue, 12) == sum % MODULO_11;
+    }
+  },
+
+  TAX_NUMBER_ISO_7064(Type.TAX_NUMBER, "HR") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkIso7064(pvalue);
+    }
+  },
+
+  TAX_NUMBER_DK(Type.TAX_NUMBER, "DK") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkDk(pvalue);
+    }
+  },
+
+  TAX_NUMBER_EE(Type.TAX_NUMBER, "EE", "LT") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkEe(pvalue);
+    }
+  },
+
+  TAX_NUMBER_ES(Type.TAX_NUMBER, "ES") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkEs(pvalue);
+    }
+  },
+
+  TAX_NUMBER_UMCN(Type.TAX_NUMBER, "BA", "ME", "MK") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkUniqueMasterCitizenNumber(pvalue);
+    }
+  },
+
+  TAX_NUMBER_NL(Type.TAX_NUMBER, "NL") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkNl(pvalue);
+    }
+  },
+
+  TAX_NUMBER_PL(Type.TAX_NUMBER, "PL") {
+    @Override
+    public boolean isValid(final CharSequence pvalue) {
+      return checkPl(pvalue);
+    }
+  };
+
+  /**
+   * type of the checked value.
+   */
+  public enum Type {
+    /**
+     * vat identification number, starting with the country prefix.
+     */
+    VAT_ID,
+
+    /**
+     * tax identification number.
+     */
+    TIN,
+
+    /**
+     * tax number.
+     */
+    TAX_NUMBER
+  }
+
+  private static final int MODULO_11 = 11;
+  private static final int MODULO_97 = 97;
+
+  private static final int[] WEIGHTS_9_TO_2 = {9, 8, 7, 6, 5, 4, 3, 2};
+  private static final int[] WEIGHTS_8_TO_2 = {8, 7, 6, 5, 4, 3, 2};
+  private static final int[] WEIGHTS_DK_VAT_ID = {2, 7, 6, 5, 4, 3, 2, 1};
+  private static final int[] WEIGHTS_FI_VAT_ID = {7, 9, 10, 5, 8, 4, 2};
+  private static final int[] WEIGHTS_GR_VAT_ID = {256, 128, 64, 32, 16, 8, 4, 2};
+  private static final int[] WEIGHTS_IE_OLD_VAT_ID = {7, 6, 5, 4, 3};
+  private static final int[] WEIGHTS_IE_VAT_ID = WEIGHTS_8_TO_2;
+  private static final int[] WEIGHTS_NO_VAT_ID = {3, 2, 7, 6, 5, 4, 3, 2};
+  private static final int[] WEIGHTS_PL_NIP = {6, 5, 7, 2, 3, 4, 5, 6, 7};
+  private static final int[] WEIGHTS_PL_PESEL = {1, 3, 7, 9, 1, 3, 7, 9, 1, 3};
+  private static final int[] WEIGHTS_DK = {4, 2, 3, 7, 6, 5, 4, 3, 2};
+  private static final int[] WEIGHTS_EE_1 = {1, 2, 3, 4, 5, 6, 7, 8, 9, 1};
+  private static final int[] WEIGHTS_EE_2 = {3, 4, 5, 6, 7, 8, 9, 1, 2, 3};
+  private static final int[] WEIGHTS_UMCN = {7, 6, 5, 4, 3, 2, 7, 6, 5, 4, 3, 2};
+  private static final int[] WEIGHTS_DE_BERLIN_A_TAX_NUMBER = {7, 6, 5, 8, 4, 3, 2};
+  private static final int[] WEIGHTS_DE_BERLIN_B_TAX_NUMBER = {3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+  private static final String ES_DNI_LETTERS = "TRWAGMYFPDXBNJZSQVHLCKE";
+  private static final String ES_CIF_LETTERS = "JABCDEFGHI";
+
+  private final Type type;
+  private final List<String> countries;
+
+  CountryCheckSum(final Type ptype, final String... pcountries) {
+    type = ptype;
+    countries = Collections.unmodifiableList(Arrays.asList(pcountries));
+  }
+
+  /**
+   * check the check sum of a value which matches the regular expression of the country.
+   *
+   * @param pvalue value to check
+   * @return true if check sum is ok
+   */
+  public abstract boolean isValid(CharSequence pvalue);
+
+  /**
+   * type of value this check sum is used for.
+   *
+   * @return type
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * countries which use this check sum.
+   *
+   * @return unmodifiable list of two letter iso country codes
+   */
+  public List<String> getCountries() {
+    return countries;
+  }
+
+  private static boolean checkAt(final CharSequence pvalue) {
+    final int sum = CheckSumUtil.luhnSum(pvalue, 0, 8, false);
+    return sum >= 0 && CheckSumUtil.digit(pvalue, 8) == (80 - sum) % 10;
+  }
+
+  private static boolean checkIso7064(final CharSequence pvalue) {
+    final int checkDigit = CheckSumUtil.iso7064Mod11And10(pvalue, 0, pvalue.length() - 1);
+    return checkDigit >= 0 && CheckSumUtil.digit(pvalue, pvalue.length() - 1) == checkDigit;
+  }
+
+  private static boolean checkDk(final CharSequence pvalue) {
+    final int sum = CheckSumUtil.weightedSum(pvalue, 0, WEIGHTS_DK);
+    if (sum < 0) {
+      return false;
+    }
+    final int calculatedCheckSum = MODULO_11 - sum % MODULO_11;
+    return CheckSumUtil.digit(pvalue, 9) == (calculatedCheckSum == 10 ? 0 : calculatedCheckSum);
+  }
+
+  private static boolean checkEe(final CharSequence pvalue) {
+    final int sum = CheckSumUtil.weightedSum(pvalue, 0, WEIGHTS_EE_1);
+    if (sum < 0) {
+      return false;
+    }
+    int calculatedCheckSum = sum % MODULO_11;
+    if (calculatedCheckSum == 10) {
+      calculatedCheckSum = CheckSumUtil.weightedSum(pvalue, 0, WEIGHTS_EE_2) % MODULO_11 % 10;
+    }
+    return CheckSumUtil.digit(pvalue, 10) == calculatedCheckSum;
+  }
+
+  private static boolean checkEs(final CharSequence pvalue) {
+    if (pvalue.length() <= 8) {
+      return false;
+    }
+    final char checkSum = pvalue.charAt(8);
+    final char letter = pvalue.charAt(0);
+    final int dni = CheckSumUtil.number(pvalue, 0, 8);
+    if (dni >= 0) {
+      return checkSum == ES_DNI_LETTERS.charAt(dni % 23);
+    }
+    final int number = CheckSumUtil.number(pvalue, 1, 8);
+    if (letter >= 'X' && letter <= 'Z') {
+      // cif, the letter is taken as character value minus '0' in front of the number
+      return number >= 0
+          && checkSum == ES_DNI_LETTERS.charAt(((letter - '0') * 10_000_000 + number) % 23);
+    }
+    // nie
+    final int sum = CheckSumUtil.luhnSum(pvalue, 1, 8, true);
+    if (sum < 0) {
+      return false;
+    }
+    final int controlDigit = 10 - sum % 10;
+    if (controlDigit == 10) {
+      // there is no control letter for this value
+      return false;
+    }
+    final char controlLetter = ES_CIF_LETTERS.charAt(controlDigit);
+    switch (letter) {
+      case 'A':
+      case 'B':
+      case 'E':
+      case 'H':
+        // Control must be a digit
+        return checkSum == (char) (controlDigit + '0');
+      case 'K':
+      case 'P':
+      case 'Q':
+      case 'S':
+        // Control must be a letter
+        return checkSum == controlLetter;
+      default:
+        // Can be either
+        return checkSum == controlLetter || checkSum == (char) (controlDigit + '0');
+    }
+  }
+
+  private static boolean checkUniqueMasterCitizenNumber(final CharSequence pvalue) {
+    final int sum = CheckSumUtil.weightedSum(pvalue, 0, WEIGHTS_UMCN);
+    if (sum < 0) {
+      return false;
+    }
+    final int calculatedCheckSum = MODULO_11 - sum % MODULO_11;
+    return CheckSumUtil.digit(pvalue, 12) == (calculatedCheckSum == 10 ? 0 : calculatedCheckSum);
+  }
+
+  private static boolean checkNl(final CharSequence pvalue) {
+    final int sum = CheckSumUtil.weightedSum(pvalue, 0, WEIGHTS_9_TO_2);
+    final int checkSum = CheckSumUtil.digit(pvalue, 8);
+    return sum >= 0 && checkSum >= 0 && (sum - checkSum) % MODULO_11 == 0;
+  }
+
+  private static boolean checkPl(final CharSequence pvalue) {
+    final int checkSum = CheckSumUtil.digit(pvalue, pvalue.length() - 1);
+    if (pvalue.length() == 11) {
+      // PESEL
+      final int sum = CheckSumUtil.weightedSum(pvalue, 0, WEIGHTS_PL_PESEL);
+      return sum >= 0 && checkSum == (10 - sum % 10) % 10;
+    }
+    // NIP
+    final int sum = CheckSumUtil.weightedSum(pvalue, 0, WEIGHTS_PL_NIP);
+    return sum >= 0 && checkSum == sum % MODULO_11;
+  }
+}
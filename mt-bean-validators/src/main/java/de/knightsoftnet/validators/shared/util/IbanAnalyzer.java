@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.server.data.CreateBankAccountBicMapConstantsClass;
+import de.knightsoftnet.validators.shared.data.IbanAnalyzeData;
+import de.knightsoftnet.validators.shared.data.IbanLengthDefinition;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iban analyzer, validates a iban and splits it into country, bank number, account number and bic
+ * in one step, the iban is compressed and the country is looked up only once.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class IbanAnalyzer {
+
+  private IbanAnalyzer() {
+    super();
+  }
+
+  /**
+   * analyze iban, separator spaces are ignored. Country, bank number, account number and bic are
+   * filled if the country is known and the iban has the length of the country, also if the check
+   * sum is wrong.
+   *
+   * @param piban iban to analyze
+   * @return analyze data, never null
+   */
+  public static IbanAnalyzeData analyze(final CharSequence piban) {
+    final IbanAnalyzeData result = new IbanAnalyzeData();
+    if (piban == null) {
+      result.setCheckResult(IbanCheckUtil.Result.EMPTY);
+      return result;
+    }
+    final StringBuilder compressed = new StringBuilder(piban.length());
+    for (int pos = 0; pos < piban.length(); pos++) {
+      final char character = piban.charAt(pos);
+      if (character != IbanUtil.SEPARATOR) {
+        compressed.append(character);
+      }
+    }
+    final String iban = compressed.toString();
+    result.setIban(iban);
+    result.setCheckResult(IbanCheckUtil.checkIban(iban, false));
+    result.setValid(result.getCheckResult() == IbanCheckUtil.Result.VALID);
+    if (result.isValid() || result.getCheckResult() == IbanCheckUtil.Result.WRONG_CHECKSUM) {
+      final IbanLengthDefinition length =
+          IbanCheckUtil.getLengthDefinition(iban.charAt(0), iban.charAt(1));
+      result.setCountryCode(iban.substring(0, 2));
+      result.setBankNumber(iban.substring(length.getBankNumberStart(), length.getBankNumberEnd()));
+      result.setAccountNumber(
+          iban.substring(length.getAccountNumberStart(), length.getAccountNumberEnd()));
+      result.setBic(CreateBankAccountBicMapConstantsClass.create().getBicOfIban(iban,
+          length.getBankNumberStart(), length.getBankNumberEnd()));
+    }
+    return result;
+  }
+
+  /**
+   * analyze a stream of ibans, the ibans are analyzed when the returned stream is consumed, a
+   * parallel stream is analyzed in parallel.
+   *
+   * @param pibans stream of ibans
+   * @return stream of analyze data in the order of the ibans
+   */
+  public static Stream<IbanAnalyzeData> analyze(final Stream<? extends CharSequence> pibans) {
+    return pibans.map(IbanAnalyzer::analyze);
+  }
+
+  /**
+   * analyze ibans delivered by a iterator.
+   *
+   * @param pibans iterator of ibans
+   * @param pparallel true if the ibans should be analyzed in parallel
+   * @return stream of analyze data in the order of the ibans
+   */
+  public static Stream<IbanAnalyzeData> analyze(final Iterator<? extends CharSequence> pibans,
+      final boolean pparallel) {
+    return analyze(StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(pibans, Spliterator.ORDERED),
+        pparallel));
+  }
+}
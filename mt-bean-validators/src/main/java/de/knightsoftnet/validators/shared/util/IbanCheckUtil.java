@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.shared.data.CountryMetaData;
+import de.knightsoftnet.validators.shared.data.CountryMetaDataTable;
+import de.knightsoftnet.validators.shared.data.IbanLengthDefinition;
+
+/**
+ * Iban check util, checks ibans in one pass over the characters without creating copies. The
+ * results are the same as checking the compressed iban with the apache commons IBANCheckDigit
+ * after the length check against the iban length map, only ascii letters and digits are accepted
+ * as iban characters.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class IbanCheckUtil {
+
+  /**
+   * result of a iban check.
+   */
+  public enum Result {
+    /**
+     * iban is empty.
+     */
+    EMPTY,
+
+    /**
+     * iban is shorter or longer then any iban, this should be reported by size validation.
+     */
+    SIZE_OUT_OF_RANGE,
+
+    /**
+     * iban starts with a unknown country.
+     */
+    UNKNOWN_COUNTRY,
+
+    /**
+     * iban length doesn't match the length of the country.
+     */
+    WRONG_LENGTH,
+
+    /**
+     * formated iban is not separated in blocks of four characters.
+     */
+    WRONG_FORMAT,
+
+    /**
+     * iban contains illegal characters or check sum is wrong.
+     */
+    WRONG_CHECKSUM,
+
+    /**
+     * iban is valid.
+     */
+    VALID;
+
+    /**
+     * check if a validator should accept the result, empty and out of size ibans are handled by
+     * other validators.
+     *
+     * @return true if it's accepted
+     */
+    public boolean isAccepted() {
+      return this == VALID || this == EMPTY || this == SIZE_OUT_OF_RANGE;
+    }
+  }
+
+  /**
+   * definition of IBAN length minimum.
+   */
+  public static final int IBAN_LENGTH_MIN = 16;
+  /**
+   * definition of IBAN length maximum.
+   */
+  public static final int IBAN_LENGTH_MAX = 34;
+  /**
+   * definition of formated IBAN length minimum.
+   */
+  public static final int IBAN_FORMATED_LENGTH_MIN = 19;
+  /**
+   * definition of formated IBAN length maximum.
+   */
+  public static final int IBAN_FORMATED_LENGTH_MAX = 42;
+
+  private static final char SEPARATOR = IbanUtil.SEPARATOR;
+  private static final int BLOCK_LENGTH = 4;
+  private static final int MODULUS = 97;
+
+  private IbanCheckUtil() {
+    super();
+  }
+
+  /**
+   * check iban.
+   *
+   * @param piban iban to check
+   * @param pignoreSeparators true if separator spaces at any position should be ignored
+   * @return result of the check
+   */
+  public static Result checkIban(final CharSequence piban, final boolean pignoreSeparators) {
+    if (piban == null) {
+      return Result.EMPTY;
+    }
+    int significant = 0;
+    int checksum = 0;
+    char country1 = 0;
+    char country2 = 0;
+    char check1 = 0;
+    char check2 = 0;
+    for (int pos = 0; pos < piban.length(); pos++) {
+      final char character = piban.charAt(pos);
+      if (pignoreSeparators && character == SEPARATOR) {
+        continue;
+      }
+      switch (significant) {
+        case 0:
+          country1 = character;
+          break;
+        case 1:
+          country2 = character;
+          break;
+        case 2:
+          check1 = character;
+          break;
+        case 3:
+          check2 = character;
+          break;
+        default:
+          checksum = addToChecksum(checksum, character);
+          break;
+      }
+      significant++;
+    }
+    return checkResult(significant, IBAN_LENGTH_MIN, IBAN_LENGTH_MAX, true, country1, country2,
+        check1, check2, checksum);
+  }
+
+  /**
+   * check iban formated in blocks of four characters separated by a space.
+   *
+   * @param piban iban to check
+   * @return result of the check
+   */
+  public static Result checkFormatedIban(final CharSequence piban) {
+    if (piban == null) {
+      return Result.EMPTY;
+    }
+    final int length = piban.length();
+    boolean formatOk = length > 0 && length % (BLOCK_LENGTH + 1) != 0;
+    int significant = 0;
+    int checksum = 0;
+    char country1 = 0;
+    char country2 = 0;
+    char check1 = 0;
+    char check2 = 0;
+    for (int pos = 0; pos < length; pos++) {
+      final char character = piban.charAt(pos);
+      if (pos % (BLOCK_LENGTH + 1) == BLOCK_LENGTH) {
+        formatOk &= character == SEPARATOR;
+        continue;
+      }
+      formatOk &= character >= 'A' && character <= 'Z'
+          || pos >= 2 && character >= '0' && character <= '9';
+      switch (significant) {
+        case 0:
+          country1 = character;
+          break;
+        case 1:
+          country2 = character;
+          break;
+        case 2:
+          check1 = character;
+          break;
+        case 3:
+          check2 = character;
+          break;
+        default:
+          checksum = addToChecksum(checksum, character);
+          break;
+      }
+      significant++;
+    }
+    if (length == 0) {
+      return Result.EMPTY;
+    }
+    if (length < IBAN_FORMATED_LENGTH_MIN || length > IBAN_FORMATED_LENGTH_MAX) {
+      return Result.SIZE_OUT_OF_RANGE;
+    }
+    return checkResult(significant, 0, Integer.MAX_VALUE, formatOk, country1, country2, check1,
+        check2, checksum);
+  }
+
+  /**
+   * check if iban is valid, separator spaces are ignored.
+   *
+   * @param piban iban to check
+   * @return true if it's valid
+   */
+  public static boolean isValid(final CharSequence piban) {
+    return checkIban(piban, true) == Result.VALID;
+  }
+
+  private static Result checkResult(final int psignificant, final int pminLength,
+      final int pmaxLength, final boolean pformatOk, final char pcountry1, final char pcountry2,
+      final char pcheck1, final char pcheck2, final int pchecksum) {
+    if (psignificant == 0) {
+      return Result.EMPTY;
+    }
+    if (psignificant < pminLength || psignificant > pmaxLength) {
+      return Result.SIZE_OUT_OF_RANGE;
+    }
+    final IbanLengthDefinition lengthDefinition = getLengthDefinition(pcountry1, pcountry2);
+    if (lengthDefinition == null) {
+      return Result.UNKNOWN_COUNTRY;
+    }
+    if (psignificant != lengthDefinition.getLength()) {
+      return Result.WRONG_LENGTH;
+    }
+    if (!pformatOk) {
+      return Result.WRONG_FORMAT;
+    }
+    if (pcheck1 == '0' && (pcheck2 == '0' || pcheck2 == '1') || pcheck1 == '9' && pcheck2 == '9') {
+      // check digits which are not allowed
+      return Result.WRONG_CHECKSUM;
+    }
+    // the first four characters are moved to the end for check sum calculation
+    int checksum = addToChecksum(pchecksum, pcountry1);
+    checksum = addToChecksum(checksum, pcountry2);
+    checksum = addToChecksum(checksum, pcheck1);
+    checksum = addToChecksum(checksum, pcheck2);
+    return checksum == 1 ? Result.VALID : Result.WRONG_CHECKSUM;
+  }
+
+  /**
+   * add character to mod 97 check sum, letters count as two digits (A = 10 to Z = 35), the check
+   * sum is set to a negative value on illegal characters and stays negative.
+   */
+  private static int addToChecksum(final int pchecksum, final char pcharacter) {
+    if (pchecksum < 0) {
+      return pchecksum;
+    }
+    if (pcharacter >= '0' && pcharacter <= '9') {
+      return (pchecksum * 10 + pcharacter - '0') % MODULUS;
+    }
+    final int value;
+    if (pcharacter >= 'A' && pcharacter <= 'Z') {
+      value = pcharacter - 'A' + 10;
+    } else if (pcharacter >= 'a' && pcharacter <= 'z') {
+      value = pcharacter - 'a' + 10;
+    } else {
+      return -1;
+    }
+    return (pchecksum * 100 + value) % MODULUS;
+  }
+
+  /**
+   * get length definition of a country.
+   *
+   * @param pcountry1 first letter of the country code
+   * @param pcountry2 second letter of the country code
+   * @return length definition or null if country is unknown
+   */
+  static IbanLengthDefinition getLengthDefinition(final char pcountry1,
+      final char pcountry2) {
+    final CountryMetaData countryData = CountryMetaDataTable.get(pcountry1, pcountry2);
+    return countryData == null ? null : countryData.getIbanLength();
+  }
+}
@@ -16,11 +16,7 @@
 package de.knightsoftnet.validators.shared.util;
 
 import de.knightsoftnet.validators.server.data.CreateBankAccountBicMapConstantsClass;
-import de.knightsoftnet.validators.server.data.CreateIbanLengthMapConstantsClass;
-import de.knightsoftnet.validators.shared.data.BankAccountBicSharedConstants;
-import de.knightsoftnet.validators.shared.data.CountryBankAccountData;
 import de.knightsoftnet.validators.shared.data.IbanLengthDefinition;
-import de.knightsoftnet.validators.shared.data.IbanLengthMapSharedConstants;
 import de.knightsoftnet.validators.shared.data.ValueWithPos;
 
 import org.apache.commons.lang3.CharUtils;
@@ -40,14 +36,6 @@ public class IbanUtil {
 
   private static final int BLOCK_LENGTH = 4;
 
-  /**
-   * map of swift countries and the length of the ibans.
-   */
-  private static final IbanLengthMapSharedConstants IBAN_LENGTH_MAP =
-      CreateIbanLengthMapConstantsClass.create();
-  private static final BankAccountBicSharedConstants BANK_ACCOINT_BIC_MAP =
-      CreateBankAccountBicMapConstantsClass.create();
-
   /**
    * format iban to four character blocks.
    *
@@ -122,8 +110,7 @@ public class IbanUtil {
    */
   public static String getBankNumberOfIban(final String pstring) {
     final String compressedIban = ibanCompress(pstring);
-    final String country = StringUtils.substring(compressedIban, 0, 2);
-    final IbanLengthDefinition length = IBAN_LENGTH_MAP.ibanLengths().get(country);
+    final IbanLengthDefinition length = getLengthDefinition(compressedIban);
     return length == null ? null
         : StringUtils.substring(compressedIban, length.getBankNumberStart(),
             length.getBankNumberEnd());
@@ -137,8 +124,7 @@ public class IbanUtil {
    */
   public static String getAccountNumberOfIban(final String pstring) {
     final String compressedIban = ibanCompress(pstring);
-    final String country = StringUtils.substring(compressedIban, 0, 2);
-    final IbanLengthDefinition length = IBAN_LENGTH_MAP.ibanLengths().get(country);
+    final IbanLengthDefinition length = getLengthDefinition(compressedIban);
     return length == null ? null
         : StringUtils.substring(compressedIban, length.getAccountNumberStart(),
             length.getAccountNumberEnd());
@@ -147,12 +133,18 @@ public class IbanUtil {
   /**
    * get bic of iban.
    *
-   * @param pstring string with iban
-   * @return bic
+   * @param piban iban, separator spaces are ignored
+   * @return bic or null if it's unknown
    */
-  public static String getBicOfIban(final String pstring) {
-    final String country = StringUtils.substring(pstring, 0, 2);
-    final String bankNumber = getBankNumberOfIban(pstring);
-    return BANK_ACCOINT_BIC_MAP.bankAccounts().get(new CountryBankAccountData(country, bankNumber));
+  public static String getBicOfIban(final CharSequence piban) {
+    final IbanLengthDefinition length = getLengthDefinition(piban);
+    return length == null ? null
+        : CreateBankAccountBicMapConstantsClass.create().getBicOfIban(piban,
+            length.getBankNumberStart(), length.getBankNumberEnd());
+  }
+
+  private static IbanLengthDefinition getLengthDefinition(final CharSequence piban) {
+    return piban == null || piban.length() < 2 ? null
+        : IbanCheckUtil.getLengthDefinition(piban.charAt(0), piban.charAt(1));
   }
 }
@@ -0,0 +1,485 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * recognizes the phone number formats supported by the phone number validator in one pass. The
+ * format grammars are compiled into one deterministic automaton when the class is loaded, so a
+ * value is checked against all formats at once with one table lookup per character and without
+ * regular expressions, it only uses classes which are also available in GWT.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class PhoneNumberFormatRecognizer {
+  public static final int DIN5008 = 0x01;
+  public static final int E123 = 0x02;
+  public static final int URI = 0x04;
+  public static final int MS = 0x08;
+  public static final int COMMON = 0x10;
+  public static final int ALL = 0x1f;
+
+  // character classes of the automaton
+  private static final int ZERO = 0;
+  private static final int NON_ZERO_DIGIT = 1;
+  private static final int SPACE = 2;
+  private static final int PLUS = 3;
+  private static final int MINUS = 4;
+  private static final int OPEN_BRACKET = 5;
+  private static final int CLOSE_BRACKET = 6;
+  private static final int SLASH = 7;
+  private static final int OTHER = 8;
+  private static final int CLASSES = 9;
+
+  private static final int DEAD_STATE = 0;
+  private static final int START_STATE = 1;
+
+  /**
+   * transitions, next state is {@code TRANSITIONS[state * CLASSES + class]}.
+   */
+  private static final int[] TRANSITIONS;
+  /**
+   * formats accepted in the state.
+   */
+  private static final int[] ACCEPTED;
+  /**
+   * formats which can still be accepted from the state on.
+   */
+  private static final int[] REACHABLE;
+
+  static {
+    final AutomatonBuilder builder = new AutomatonBuilder();
+    builder.addFormat(DIN5008, builder.din5008());
+    builder.addFormat(E123, builder.e123());
+    builder.addFormat(URI, builder.uri());
+    builder.addFormat(MS, builder.ms());
+    builder.addFormat(COMMON, builder.common());
+    builder.determinize();
+    TRANSITIONS = builder.transitions;
+    ACCEPTED = builder.accepted;
+    REACHABLE = builder.reachable;
+  }
+
+  private PhoneNumberFormatRecognizer() {
+    super();
+  }
+
+  /**
+   * recognize all formats the phone number is written in.
+   *
+   * @param pphoneNumber phone number to check
+   * @return bit set of the matching formats, combination of the format constants
+   */
+  public static int recognize(final CharSequence pphoneNumber) {
+    return recognize(pphoneNumber, ALL);
+  }
+
+  /**
+   * recognize the given formats the phone number is written in, scanning stops as soon as none of
+   * the formats can match anymore.
+   *
+   * @param pphoneNumber phone number to check
+   * @param pformats bit set of the formats to check, combination of the format constants
+   * @return bit set of the matching formats out of pformats
+   */
+  public static int recognize(final CharSequence pphoneNumber, final int pformats) {
+    if (pphoneNumber == null) {
+      return 0;
+    }
+    int state = START_STATE;
+    for (int pos = 0; pos < pphoneNumber.length(); pos++) {
+      state = TRANSITIONS[state * CLASSES + characterClass(pphoneNumber.charAt(pos))];
+      if ((REACHABLE[state] & pformats) == 0) {
+        return 0;
+      }
+    }
+    return ACCEPTED[state] & pformats;
+  }
+
+  /**
+   * character class, white spaces and digits are the same as {@code \s} and {@code \d} of java
+   * regular expressions.
+   */
+  private static int characterClass(final char pchar) {
+    switch (pchar) {
+      case '0':
+        return ZERO;
+      case '1':
+      case '2':
+      case '3':
+      case '4':
+      case '5':
+      case '6':
+      case '7':
+      case '8':
+      case '9':
+        return NON_ZERO_DIGIT;
+      case ' ':
+      case '\t':
+      case '\n':
+      case '\u000b':
+      case '\f':
+      case '\r':
+        return SPACE;
+      case '+':
+        return PLUS;
+      case '-':
+        return MINUS;
+      case '(':
+        return OPEN_BRACKET;
+      case ')':
+        return CLOSE_BRACKET;
+      case '/':
+        return SLASH;
+      default:
+        return OTHER;
+    }
+  }
+
+  /**
+   * builds a nondeterministic automaton of the format grammars and converts it into the
+   * deterministic transition table by subset construction. The fragments are pairs of start and
+   * end state.
+   */
+  private static class AutomatonBuilder {
+    private static final int EPSILON = 0;
+    private static final int DIGIT = 1 << ZERO | 1 << NON_ZERO_DIGIT;
+
+    private final List<int[]> edges = new ArrayList<>();
+    private final List<Integer> acceptingStates = new ArrayList<>();
+    private final List<Integer> acceptingFormats = new ArrayList<>();
+    private final List<Integer> startStates = new ArrayList<>();
+    private int stateCount;
+
+    private int[] transitions;
+    private int[] accepted;
+    private int[] reachable;
+
+    /**
+     * phone number format din 5008: {@code (\+[1-9]\d{0,3}\s{0,2}|0)\d{1,7}\s{0,2}\d{2,12}
+     * (\s{0,2}\-\s{0,2}\d{1,9})?}.
+     */
+    private int[] din5008() {
+      return sequence(alternative(internationalPrefix(), chars(1 << ZERO)),
+          repeat(() -> chars(DIGIT), 1, 7), spaces(), repeat(() -> chars(DIGIT), 2, 12),
+          optional(sequence(spaces(), chars(1 << MINUS), spaces(),
+              repeat(() -> chars(DIGIT), 1, 9))));
+    }
+
+    /**
+     * phone number format E123: {@code (\+[1-9]\d{0,3}\s{0,2}|\(0\d{1,7}\))\s{0,2}\d{2,12}
+     * (\s{0,2}\d{1,9})?}.
+     */
+    private int[] e123() {
+      return sequence(
+          alternative(internationalPrefix(),
+              sequence(chars(1 << OPEN_BRACKET), chars(1 << ZERO),
+                  repeat(() -> chars(DIGIT), 1, 7), chars(1 << CLOSE_BRACKET))),
+          spaces(), repeat(() -> chars(DIGIT), 2, 12),
+          optional(sequence(spaces(), repeat(() -> chars(DIGIT), 1, 9))));
+    }
+
+    /**
+     * phone number format uri: {@code \+[1-9]\d{0,3}\-\d{1,7}\-\d{2,12}(\-\d{1,9})?}.
+     */
+    private int[] uri() {
+      return sequence(chars(1 << PLUS), chars(1 << NON_ZERO_DIGIT),
+          repeat(() -> chars(DIGIT), 0, 3), chars(1 << MINUS), repeat(() -> chars(DIGIT), 1, 7),
+          chars(1 << MINUS), repeat(() -> chars(DIGIT), 2, 12),
+          optional(sequence(chars(1 << MINUS), repeat(() -> chars(DIGIT), 1, 9))));
+    }
+
+    /**
+     * phone number format microsoft: {@code \+[1-9]\d{0,3}\s{0,2}\(\d{1,7}\)\s{0,2}\d{2,12}
+     * (\s{0,2}\-\s{0,2}\d{1,9})?}.
+     */
+    private int[] ms() {
+      return sequence(internationalPrefix(), chars(1 << OPEN_BRACKET),
+          repeat(() -> chars(DIGIT), 1, 7), chars(1 << CLOSE_BRACKET), spaces(),
+          repeat(() -> chars(DIGIT), 2, 12), optional(sequence(spaces(), chars(1 << MINUS),
+              spaces(), repeat(() -> chars(DIGIT), 1, 9))));
+    }
+
+    /**
+     * phone number not standardized, but common writing: {@code (\+[1-9]\d{0,3}\s{0,2}(\(0\))?|0)
+     * (\s{0,2}\d{1,2}){1,4}(\s{0,2}\/)?(\s{0,2}\d{1,2}){2,6}(\s{0,2}\-(\s{0,2}\d{1,2})*)?}.
+     */
+    private int[] common() {
+      return sequence(
+          alternative(
+              sequence(internationalPrefix(), optional(sequence(chars(1 << OPEN_BRACKET),
+                  chars(1 << ZERO), chars(1 << CLOSE_BRACKET)))),
+              chars(1 << ZERO)),
+          repeat(this::spacedDigits, 1, 4), optional(sequence(spaces(), chars(1 << SLASH))),
+          repeat(this::spacedDigits, 2, 6),
+          optional(sequence(spaces(), chars(1 << MINUS), repeat(this::spacedDigits, 0, -1))));
+    }
+
+    /**
+     * {@code \+[1-9]\d{0,3}\s{0,2}}.
+     */
+    private int[] internationalPrefix() {
+      return sequence(chars(1 << PLUS), chars(1 << NON_ZERO_DIGIT),
+          repeat(() -> chars(DIGIT), 0, 3), spaces());
+    }
+
+    /**
+     * {@code \s{0,2}\d{1,2}}.
+     */
+    private int[] spacedDigits() {
+      return sequence(spaces(), repeat(() -> chars(DIGIT), 1, 2));
+    }
+
+    /**
+     * {@code \s{0,2}}.
+     */
+    private int[] spaces() {
+      return repeat(() -> chars(1 << SPACE), 0, 2);
+    }
+
+    private int newState() {
+      return stateCount++;
+    }
+
+    private void edge(final int pfrom, final int pclasses, final int pto) {
+      edges.add(new int[] {pfrom, pclasses, pto});
+    }
+
+    private int[] chars(final int pclasses) {
+      final int[] fragment = {newState(), newState()};
+      edge(fragment[0], pclasses, fragment[1]);
+      return fragment;
+    }
+
+    private int[] sequence(final int[]... pfragments) {
+      for (int i = 1; i < pfragments.length; i++) {
+        edge(pfragments[i - 1][1], EPSILON, pfragments[i][0]);
+      }
+      return new int[] {pfragments[0][0], pfragments[pfragments.length - 1][1]};
+    }
+
+    private int[] alternative(final int[] pfirst, final int[] psecond) {
+      final int[] fragment = {newState(), newState()};
+      edge(fragment[0], EPSILON, pfirst[0]);
+      edge(fragment[0], EPSILON, psecond[0]);
+      edge(pfirst[1], EPSILON, fragment[1]);
+      edge(psecond[1], EPSILON, fragment[1]);
+      return fragment;
+    }
+
+    private int[] optional(final int[] pfragment) {
+      edge(pfragment[0], EPSILON, pfragment[1]);
+      return pfragment;
+    }
+
+    /**
+     * repeat a fragment, a negative maximum repeats without limit.
+     */
+    private int[] repeat(final Supplier<int[]> pfragment, final int pmin, final int pmax) {
+      final int[] fragment = {newState(), newState()};
+      int end = fragment[0];
+      for (int i = 0; i < pmin; i++) {
+        final int[] part = pfragment.get();
+        edge(end, EPSILON, part[0]);
+        end = part[1];
+      }
+      if (pmax < 0) {
+        final int[] part = pfragment.get();
+        edge(end, EPSILON, part[0]);
+        edge(part[1], EPSILON, part[0]);
+        edge(part[1], EPSILON, fragment[1]);
+      } else {
+        for (int i = pmin; i < pmax; i++) {
+          final int[] part = pfragment.get();
+          edge(end, EPSILON, part[0]);
+          edge(end, EPSILON, fragment[1]);
+          end = part[1];
+        }
+      }
+      edge(end, EPSILON, fragment[1]);
+      return fragment;
+    }
+
+    private void addFormat(final int pformat, final int[] pfragment) {
+      startStates.add(pfragment[0]);
+      acceptingStates.add(pfragment[1]);
+      acceptingFormats.add(pformat);
+    }
+
+    /**
+     * subset construction, state 0 of the result is the dead state, state 1 the start state. The
+     * subsets only contain states with outgoing character edges or accepting a format, the epsilon
+     * closure of each state is computed once in advance.
+     */
+    private void determinize() {
+      final List<List<int[]>> outgoing = new ArrayList<>(stateCount);
+      final List<List<int[]>> incoming = new ArrayList<>(stateCount);
+      for (int state = 0; state < stateCount; state++) {
+        outgoing.add(new ArrayList<>());
+        incoming.add(new ArrayList<>());
+      }
+      for (final int[] edge : edges) {
+        outgoing.get(edge[0]).add(edge);
+        incoming.get(edge[2]).add(edge);
+      }
+      final int[] formatOfState = new int[stateCount];
+      final int[] reachableOfState = new int[stateCount];
+      for (int i = 0; i < acceptingStates.size(); i++) {
+        final int state = acceptingStates.get(i).intValue();
+        formatOfState[state] = acceptingFormats.get(i).intValue();
+        markReachable(state, formatOfState[state], incoming, reachableOfState);
+      }
+      final boolean[] important = new boolean[stateCount];
+      for (final int[] edge : edges) {
+        important[edge[0]] |= edge[1] != EPSILON;
+      }
+      for (final Integer state : acceptingStates) {
+        important[state.intValue()] = true;
+      }
+      final int[][] closures = new int[stateCount][];
+      final int[] stamps = new int[stateCount];
+      final int[] buffer = new int[stateCount];
+      for (int state = 0; state < stateCount; state++) {
+        closures[state] = closure(new int[] {state}, 1, state + 1, outgoing, important, stamps,
+            buffer);
+      }
+
+      final List<int[]> subsets = new ArrayList<>();
+      final Map<String, Integer> subsetIndex = new HashMap<>();
+      subsets.add(new int[0]);
+      subsetIndex.put("", Integer.valueOf(DEAD_STATE));
+      final int[] start = new int[startStates.size()];
+      for (int i = 0; i < start.length; i++) {
+        start[i] = startStates.get(i).intValue();
+      }
+      final int[] startSubset =
+          closure(start, start.length, stateCount + 1, outgoing, important, stamps, buffer);
+      subsets.add(startSubset);
+      subsetIndex.put(key(startSubset), Integer.valueOf(START_STATE));
+
+      int stamp = 2 * stateCount + 1;
+      final List<Integer> transitionList = new ArrayList<>();
+      for (int subset = 0; subset < subsets.size(); subset++) {
+        final int[] current = subsets.get(subset);
+        for (int characterClass = 0; characterClass < CLASSES; characterClass++) {
+          stamp++;
+          int size = 0;
+          for (final int state : current) {
+            for (final int[] edge : outgoing.get(state)) {
+              if ((edge[1] & 1 << characterClass) != 0) {
+                for (final int target : closures[edge[2]]) {
+                  if (stamps[target] != stamp) {
+                    stamps[target] = stamp;
+                    buffer[size++] = target;
+                  }
+                }
+              }
+            }
+          }
+          final int[] next = Arrays.copyOf(buffer, size);
+          Arrays.sort(next);
+          final String key = key(next);
+          Integer nextIndex = subsetIndex.get(key);
+          if (nextIndex == null) {
+            nextIndex = Integer.valueOf(subsets.size());
+            subsets.add(next);
+            subsetIndex.put(key, nextIndex);
+          }
+          transitionList.add(nextIndex);
+        }
+      }
+
+      transitions = new int[transitionList.size()];
+      for (int i = 0; i < transitions.length; i++) {
+        transitions[i] = transitionList.get(i).intValue();
+      }
+      accepted = new int[subsets.size()];
+      reachable = new int[subsets.size()];
+      for (int subset = 0; subset < subsets.size(); subset++) {
+        for (final int state : subsets.get(subset)) {
+          accepted[subset] |= formatOfState[state];
+          reachable[subset] |= reachableOfState[state];
+        }
+      }
+    }
+
+    /**
+     * sorted important states reachable by epsilon edges from the given states.
+     */
+    private int[] closure(final int[] pstates, final int plength, final int pstamp,
+        final List<List<int[]>> poutgoing, final boolean[] pimportant, final int[] pstamps,
+        final int[] pbuffer) {
+      final int[] stack = new int[stateCount];
+      int stackSize = 0;
+      for (int i = 0; i < plength; i++) {
+        if (pstamps[pstates[i]] != pstamp) {
+          pstamps[pstates[i]] = pstamp;
+          stack[stackSize++] = pstates[i];
+        }
+      }
+      int size = 0;
+      while (stackSize > 0) {
+        final int state = stack[--stackSize];
+        if (pimportant[state]) {
+          pbuffer[size++] = state;
+        }
+        for (final int[] edge : poutgoing.get(state)) {
+          if (edge[1] == EPSILON && pstamps[edge[2]] != pstamp) {
+            pstamps[edge[2]] = pstamp;
+            stack[stackSize++] = edge[2];
+          }
+        }
+      }
+      final int[] result = Arrays.copyOf(pbuffer, size);
+      Arrays.sort(result);
+      return result;
+    }
+
+    /**
+     * mark the format as reachable on all states leading to the accepting state.
+     */
+    private void markReachable(final int paccepting, final int pformat,
+        final List<List<int[]>> pincoming, final int[] preachable) {
+      final int[] stack = new int[stateCount];
+      int size = 0;
+      preachable[paccepting] |= pformat;
+      stack[size++] = paccepting;
+      while (size > 0) {
+        for (final int[] edge : pincoming.get(stack[--size])) {
+          if ((preachable[edge[0]] & pformat) == 0) {
+            preachable[edge[0]] |= pformat;
+            stack[size++] = edge[0];
+          }
+        }
+      }
+    }
+
+    private static String key(final int[] psubset) {
+      final char[] key = new char[psubset.length];
+      for (int i = 0; i < psubset.length; i++) {
+        key[i] = (char) psubset[i];
+      }
+      return String.valueOf(key);
+    }
+  }
+}
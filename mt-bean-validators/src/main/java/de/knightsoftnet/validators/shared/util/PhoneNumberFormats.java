@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.server.data.CreatePhoneCountryConstantsClass;
+import de.knightsoftnet.validators.shared.data.PhoneCountryCodeData;
+import de.knightsoftnet.validators.shared.data.PhoneCountryData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberFormatsInterface;
+import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * renders a parsed phone number in multiple formats at once. The country data is looked up only
+ * once and all formats share one buffer, the results are the same as the corresponding format
+ * methods of {@link PhoneNumberUtil} return.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public final class PhoneNumberFormats {
+  public static final int COMMON_INTERNATIONAL = 0x01;
+  public static final int COMMON_NATIONAL = 0x02;
+  public static final int DIN5008_INTERNATIONAL = 0x04;
+  public static final int DIN5008_NATIONAL = 0x08;
+  public static final int E123_INTERNATIONAL = 0x10;
+  public static final int E123_NATIONAL = 0x20;
+  public static final int MS = 0x40;
+  public static final int URL = 0x80;
+  public static final int ALL = 0xff;
+
+  private PhoneNumberFormats() {
+    super();
+  }
+
+  /**
+   * render all formats of the phone number and store them in the phone number itself.
+   *
+   * @param pphoneNumber phone number to format and to store the formats in
+   */
+  public static void render(final PhoneNumberFormatsInterface pphoneNumber) {
+    render(pphoneNumber, ALL, pphoneNumber);
+  }
+
+  /**
+   * render the requested formats of the phone number, formats which are not requested are set to
+   * null.
+   *
+   * @param pphoneNumber phone number to format
+   * @param pformats bit set of the formats to render, combination of the format constants
+   * @param presult phone number formats to fill
+   */
+  public static void render(final PhoneNumberInterface pphoneNumber, final int pformats,
+      final PhoneNumberFormatsInterface presult) {
+    presult.setCommonInternational(null);
+    presult.setCommonNational(null);
+    presult.setDin5008International(null);
+    presult.setDin5008National(null);
+    presult.setE123International(null);
+    presult.setE123National(null);
+    presult.setMs(null);
+    presult.setUrl(null);
+    if (pphoneNumber == null || StringUtils.isBlank(pphoneNumber.getCountryCode())
+        || StringUtils.isBlank(pphoneNumber.getLineNumber())) {
+      return;
+    }
+    final String countryCode = pphoneNumber.getCountryCode();
+    final String areaCode =
+        StringUtils.isNotBlank(pphoneNumber.getAreaCode()) ? pphoneNumber.getAreaCode() : null;
+    final String lineNumber = pphoneNumber.getLineNumber();
+    final String extension =
+        StringUtils.isNotBlank(pphoneNumber.getExtension()) ? pphoneNumber.getExtension() : null;
+    final PhoneCountryData countryData = needsCountryData(pformats) ? getPhoneCountryData(
+        countryCode) : null;
+    final StringBuilder buffer = new StringBuilder(2 * (countryCode.length()
+        + StringUtils.length(pphoneNumber.getAreaCode()) + lineNumber.length()
+        + StringUtils.length(pphoneNumber.getExtension())) + 16);
+
+    if (isRequested(pformats, DIN5008_INTERNATIONAL) || isRequested(pformats, DIN5008_NATIONAL)
+        && countryData == null) {
+      buffer.setLength(0);
+      appendInternational(buffer, countryCode, areaCode, lineNumber);
+      if (extension != null) {
+        buffer.append('-').append(extension);
+      }
+      final String din5008International = toTrimmedString(buffer);
+      if (isRequested(pformats, DIN5008_INTERNATIONAL)) {
+        presult.setDin5008International(din5008International);
+      }
+      if (isRequested(pformats, DIN5008_NATIONAL) && countryData == null) {
+        presult.setDin5008National(din5008International);
+      }
+    }
+    if (isRequested(pformats, DIN5008_NATIONAL) && countryData != null) {
+      buffer.setLength(0);
+      buffer.append(countryData.getTrunkCode());
+      if (areaCode != null) {
+        buffer.append(areaCode);
+      }
+      buffer.append(' ').append(lineNumber);
+      if (extension != null) {
+        buffer.append('-').append(extension);
+      }
+      presult.setDin5008National(toTrimmedString(buffer));
+    }
+
+    if (isRequested(pformats, E123_INTERNATIONAL) || isRequested(pformats, E123_NATIONAL)
+        && countryData == null) {
+      buffer.setLength(0);
+      appendInternational(buffer, countryCode, areaCode, lineNumber);
+      if (extension != null) {
+        buffer.append(extension);
+      }
+      final String e123International = toTrimmedString(buffer);
+      if (isRequested(pformats, E123_INTERNATIONAL)) {
+        presult.setE123International(e123International);
+      }
+      if (isRequested(pformats, E123_NATIONAL) && countryData == null) {
+        presult.setE123National(e123International);
+      }
+    }
+    if (isRequested(pformats, E123_NATIONAL) && countryData != null) {
+      buffer.setLength(0);
+      buffer.append('(').append(countryData.getTrunkCode());
+      if (areaCode != null) {
+        buffer.append(areaCode);
+      }
+      buffer.append(") ").append(lineNumber);
+      if (extension != null) {
+        buffer.append(' ').append(extension);
+      }
+      presult.setE123National(toTrimmedString(buffer));
+    }
+
+    if (isRequested(pformats, URL)) {
+      buffer.setLength(0);
+      buffer.append('+').append(countryCode);
+      if (areaCode != null) {
+        buffer.append('-').append(areaCode);
+      }
+      buffer.append('-').append(lineNumber);
+      if (extension != null) {
+        buffer.append('-').append(extension);
+      }
+      presult.setUrl(toTrimmedString(buffer));
+    }
+
+    if (isRequested(pformats, MS)) {
+      buffer.setLength(0);
+      buffer.append('+').append(countryCode).append(' ');
+      if (areaCode != null) {
+        buffer.append('(').append(areaCode).append(") ");
+      }
+      buffer.append(lineNumber);
+      if (extension != null) {
+        buffer.append(" - ").append(extension);
+      }
+      presult.setMs(toTrimmedString(buffer));
+    }
+
+    if (isRequested(pformats, COMMON_INTERNATIONAL) && countryData != null) {
+      buffer.setLength(0);
+      buffer.append('+').append(countryCode).append(' ');
+      buffer.append('(').append(countryData.getTrunkCode()).append(')');
+      if (areaCode != null) {
+        buffer.append(areaCode).append(' ');
+      }
+      buffer.append(lineNumber);
+      if (extension != null) {
+        buffer.append('-').append(extension);
+      }
+      presult.setCommonInternational(toTrimmedString(buffer));
+    }
+
+    if (isRequested(pformats, COMMON_NATIONAL) && countryData != null) {
+      buffer.setLength(0);
+      buffer.append(countryData.getTrunkCode()).append(' ');
+      appendGrouped(buffer, pphoneNumber.getAreaCode());
+      buffer.append(" / ");
+      appendGrouped(buffer, lineNumber);
+      if (extension != null) {
+        buffer.append(" - ");
+        appendGrouped(buffer, extension);
+      }
+      presult.setCommonNational(toTrimmedString(buffer));
+    }
+  }
+
+  private static boolean isRequested(final int pformats, final int pformat) {
+    return (pformats & pformat) != 0;
+  }
+
+  private static boolean needsCountryData(final int pformats) {
+    return isRequested(pformats, COMMON_INTERNATIONAL | COMMON_NATIONAL | DIN5008_NATIONAL
+        | E123_NATIONAL);
+  }
+
+  private static PhoneCountryData getPhoneCountryData(final String pcountryCode) {
+    final PhoneCountryCodeData country =
+        CreatePhoneCountryConstantsClass.create().countryCodeTree().get(pcountryCode);
+    return country == null ? null : country.getPhoneCountryData();
+  }
+
+  private static void appendInternational(final StringBuilder pbuffer, final String pcountryCode,
+      final String pareaCode, final String plineNumber) {
+    pbuffer.append('+').append(pcountryCode).append(' ');
+    if (pareaCode != null) {
+      pbuffer.append(pareaCode).append(' ');
+    }
+    pbuffer.append(plineNumber);
+  }
+
+  /**
+   * append the digits of the value in groups of two digits separated by a space.
+   */
+  private static void appendGrouped(final StringBuilder pbuffer, final String pvalue) {
+    if (pvalue == null) {
+      return;
+    }
+    int digits = 0;
+    for (int pos = 0; pos < pvalue.length(); pos++) {
+      final char character = pvalue.charAt(pos);
+      if (character >= '0' && character <= '9') {
+        if (digits > 0 && digits % 2 == 0) {
+          pbuffer.append(' ');
+        }
+        pbuffer.append(character);
+        digits++;
+      }
+    }
+  }
+
+  /**
+   * same as StringUtils.trimToNull(pbuffer.toString()) without the intermediate string.
+   */
+  private static String toTrimmedString(final StringBuilder pbuffer) {
+    int start = 0;
+    int end = pbuffer.length();
+    while (start < end && pbuffer.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && pbuffer.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return start == end ? null : pbuffer.substring(start, end);
+  }
+}
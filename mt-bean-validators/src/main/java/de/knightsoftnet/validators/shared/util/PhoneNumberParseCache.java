@@ -0,0 +1,485 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.shared.data.PhoneNumberExtendedInterface;
+import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
+import de.knightsoftnet.validators.shared.data.ValidationInterface;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * size bounded cache of phone number parse results, which can be set on a {@link PhoneNumberUtil}
+ * and shared between multiple instances. The cache is split into segments with their own lock, so
+ * it can be used concurrently on server side, it only uses classes which are also available in
+ * GWT. The results are stored immutable and copied into the phone number data given by the caller,
+ * so changes on the returned data never affect the cache. The cache is bound to the version of the
+ * phone country data and cleared when it is reloaded.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class PhoneNumberParseCache {
+
+  /**
+   * eviction policy of the cache.
+   */
+  public enum EvictionPolicy {
+    /**
+     * least recently used entry is evicted.
+     */
+    LRU,
+
+    /**
+     * new entries are added to a small lru window, entries evicted from the window are only taken
+     * into the main area, when they are used more frequently then the entry they would replace.
+     */
+    WINDOW_TINY_LFU
+  }
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_SIZE = 64;
+
+  private final int maximumSize;
+  private final EvictionPolicy evictionPolicy;
+  private final Segment[] segments;
+  private volatile long version = -1L;
+
+  /**
+   * constructor with default size and lru eviction.
+   */
+  public PhoneNumberParseCache() {
+    this(DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU);
+  }
+
+  /**
+   * constructor.
+   *
+   * @param pmaximumSize maximum number of cached parse results
+   * @param pevictionPolicy eviction policy to use
+   */
+  public PhoneNumberParseCache(final int pmaximumSize, final EvictionPolicy pevictionPolicy) {
+    super();
+    if (pmaximumSize < 1) {
+      throw new IllegalArgumentException("maximum size must be positive: " + pmaximumSize);
+    }
+    maximumSize = pmaximumSize;
+    evictionPolicy = pevictionPolicy == null ? EvictionPolicy.LRU : pevictionPolicy;
+    int segmentCount = 1;
+    while (segmentCount < MAX_SEGMENTS && segmentCount * 2 * MIN_SEGMENT_SIZE <= pmaximumSize) {
+      segmentCount *= 2;
+    }
+    segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      final int segmentSize =
+          pmaximumSize / segmentCount + (i < pmaximumSize % segmentCount ? 1 : 0);
+      segments[i] = evictionPolicy == EvictionPolicy.WINDOW_TINY_LFU
+          ? new WindowTinyLfuSegment(segmentSize)
+          : new LruSegment(segmentSize);
+    }
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * get cached parse result.
+   *
+   * @param pkey key of the entry
+   * @return parse result or null if not cached
+   */
+  ParseResult get(final String pkey) {
+    return segmentFor(pkey).get(pkey);
+  }
+
+  /**
+   * add parse result to the cache.
+   *
+   * @param pkey key of the entry
+   * @param presult parse result
+   */
+  void put(final String pkey, final ParseResult presult) {
+    segmentFor(pkey).put(pkey, presult);
+  }
+
+  /**
+   * clear the cache when the phone country data has been reloaded since the last check.
+   *
+   * @param pversion version of the phone country data used for parsing
+   */
+  void checkVersion(final long pversion) {
+    if (version != pversion) {
+      synchronized (this) {
+        if (version != pversion) {
+          this.clear();
+          version = pversion;
+        }
+      }
+    }
+  }
+
+  private Segment segmentFor(final String pkey) {
+    final int hash = pkey.hashCode();
+    return segments[(hash ^ hash >>> 16) & segments.length - 1];
+  }
+
+  /**
+   * number of cached entries.
+   *
+   * @return size
+   */
+  public int size() {
+    int size = 0;
+    for (final Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * remove all entries from cache, the statistic counters are kept.
+   */
+  public void clear() {
+    for (final Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /**
+   * number of lookups which found a cached entry.
+   *
+   * @return hit count
+   */
+  public long getHitCount() {
+    long count = 0L;
+    for (final Segment segment : segments) {
+      count += segment.getHitCount();
+    }
+    return count;
+  }
+
+  /**
+   * number of lookups which found no cached entry.
+   *
+   * @return miss count
+   */
+  public long getMissCount() {
+    long count = 0L;
+    for (final Segment segment : segments) {
+      count += segment.getMissCount();
+    }
+    return count;
+  }
+
+  /**
+   * number of entries which have been removed or not admitted because of the size limit.
+   *
+   * @return eviction count
+   */
+  public long getEvictionCount() {
+    long count = 0L;
+    for (final Segment segment : segments) {
+      count += segment.getEvictionCount();
+    }
+    return count;
+  }
+
+  @Override
+  public String toString() {
+    return "PhoneNumberParseCache [maximumSize=" + maximumSize + ", evictionPolicy="
+        + evictionPolicy + ", size=" + this.size() + ", hitCount=" + this.getHitCount()
+        + ", missCount=" + this.getMissCount() + ", evictionCount=" + this.getEvictionCount() + "]";
+  }
+
+  /**
+   * immutable result of parsing a phone number.
+   */
+  static final class ParseResult {
+    private final String countryCode;
+    private final String countryName;
+    private final String areaCode;
+    private final String areaName;
+    private final String lineNumber;
+    private final String extension;
+    private final boolean valid;
+
+    ParseResult(final PhoneNumberExtendedInterface pphoneNumber, final boolean pvalid) {
+      countryCode = pphoneNumber.getCountryCode();
+      countryName = pphoneNumber.getCountryName();
+      areaCode = pphoneNumber.getAreaCode();
+      areaName = pphoneNumber.getAreaName();
+      lineNumber = pphoneNumber.getLineNumber();
+      extension = pphoneNumber.getExtension();
+      valid = pvalid;
+    }
+
+    /**
+     * copy parse result into the phone number data, same fields as the parser would fill.
+     *
+     * @param pphoneNumber phone number data to fill
+     */
+    void copyTo(final PhoneNumberInterface pphoneNumber) {
+      pphoneNumber.setCountryCode(countryCode);
+      pphoneNumber.setAreaCode(areaCode);
+      pphoneNumber.setLineNumber(lineNumber);
+      pphoneNumber.setExtension(extension);
+      if (pphoneNumber instanceof PhoneNumberExtendedInterface) {
+        ((PhoneNumberExtendedInterface) pphoneNumber).setCountryName(countryName);
+        ((PhoneNumberExtendedInterface) pphoneNumber).setAreaName(areaName);
+      }
+      if (pphoneNumber instanceof ValidationInterface) {
+        ((ValidationInterface) pphoneNumber).setValid(valid);
+      }
+    }
+  }
+
+  /**
+   * segment of the cache, all methods are synchronized on the segment.
+   */
+  private abstract static class Segment {
+    private long hitCount;
+    private long missCount;
+    protected long evictionCount;
+
+    synchronized ParseResult get(final String pkey) {
+      final ParseResult result = this.lookup(pkey);
+      if (result == null) {
+        missCount++;
+      } else {
+        hitCount++;
+      }
+      return result;
+    }
+
+    synchronized void put(final String pkey, final ParseResult presult) {
+      this.store(pkey, presult);
+    }
+
+    synchronized int size() {
+      return this.entryCount();
+    }
+
+    synchronized void clear() {
+      this.removeAll();
+    }
+
+    synchronized long getHitCount() {
+      return hitCount;
+    }
+
+    synchronized long getMissCount() {
+      return missCount;
+    }
+
+    synchronized long getEvictionCount() {
+      return evictionCount;
+    }
+
+    protected abstract ParseResult lookup(String pkey);
+
+    protected abstract void store(String pkey, ParseResult presult);
+
+    protected abstract int entryCount();
+
+    protected abstract void removeAll();
+
+    /**
+     * remove the least recently used entry of the map.
+     */
+    protected static <V> Map.Entry<String, V> removeEldest(final Map<String, V> pmap) {
+      final Iterator<Map.Entry<String, V>> iterator = pmap.entrySet().iterator();
+      if (!iterator.hasNext()) {
+        return null;
+      }
+      final Map.Entry<String, V> eldest = iterator.next();
+      iterator.remove();
+      return eldest;
+    }
+  }
+
+  /**
+   * segment with least recently used eviction.
+   */
+  private static class LruSegment extends Segment {
+    private final int capacity;
+    private final Map<String, ParseResult> entries;
+
+    LruSegment(final int pcapacity) {
+      super();
+      capacity = pcapacity;
+      entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    protected ParseResult lookup(final String pkey) {
+      return entries.get(pkey);
+    }
+
+    @Override
+    protected void store(final String pkey, final ParseResult presult) {
+      entries.put(pkey, presult);
+      while (entries.size() > capacity) {
+        removeEldest(entries);
+        evictionCount++;
+      }
+    }
+
+    @Override
+    protected int entryCount() {
+      return entries.size();
+    }
+
+    @Override
+    protected void removeAll() {
+      entries.clear();
+    }
+  }
+
+  /**
+   * segment with a small lru admission window in front of a lru main area, which only accepts
+   * candidates that are estimated to be used more frequently then its eviction victim.
+   */
+  private static class WindowTinyLfuSegment extends Segment {
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final Map<String, ParseResult> window;
+    private final Map<String, ParseResult> main;
+    private final FrequencySketch sketch;
+
+    WindowTinyLfuSegment(final int pcapacity) {
+      super();
+      windowCapacity = Math.max(1, pcapacity / 100);
+      mainCapacity = pcapacity - windowCapacity;
+      window = new LinkedHashMap<>(16, 0.75f, true);
+      main = new LinkedHashMap<>(16, 0.75f, true);
+      sketch = new FrequencySketch(pcapacity);
+    }
+
+    @Override
+    protected ParseResult lookup(final String pkey) {
+      sketch.increment(pkey);
+      final ParseResult result = window.get(pkey);
+      return result == null ? main.get(pkey) : result;
+    }
+
+    @Override
+    protected void store(final String pkey, final ParseResult presult) {
+      if (main.containsKey(pkey)) {
+        main.put(pkey, presult);
+        return;
+      }
+      window.put(pkey, presult);
+      if (window.size() <= windowCapacity) {
+        return;
+      }
+      final Map.Entry<String, ParseResult> candidate = removeEldest(window);
+      if (main.size() < mainCapacity) {
+        main.put(candidate.getKey(), candidate.getValue());
+        return;
+      }
+      evictionCount++;
+      if (mainCapacity > 0) {
+        final String victim = main.keySet().iterator().next();
+        if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim)) {
+          main.remove(victim);
+          main.put(candidate.getKey(), candidate.getValue());
+        }
+      }
+    }
+
+    @Override
+    protected int entryCount() {
+      return window.size() + main.size();
+    }
+
+    @Override
+    protected void removeAll() {
+      window.clear();
+      main.clear();
+    }
+  }
+
+  /**
+   * count min sketch with four saturating counters per key, the counters are halved after a
+   * sample of ten times the capacity to forget old usage. Only shifts and xor are used for
+   * hashing, so it calculates the same in java script.
+   */
+  private static class FrequencySketch {
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0x1b873593, 0x0c4ceb9f, 0x7fb5d329};
+
+    private final byte[] table;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(final int pcapacity) {
+      int tableSize = 16;
+      while (tableSize < pcapacity * 4 && tableSize < 1 << 20) {
+        tableSize <<= 1;
+      }
+      table = new byte[tableSize];
+      sampleSize = Math.max(10 * pcapacity, 16);
+    }
+
+    void increment(final String pkey) {
+      final int hash = pkey.hashCode();
+      boolean added = false;
+      for (final int seed : SEEDS) {
+        final int index = this.indexOf(hash, seed);
+        if (table[index] < MAX_COUNT) {
+          table[index]++;
+          added = true;
+        }
+      }
+      if (added && ++additions >= sampleSize) {
+        this.reset();
+      }
+    }
+
+    int frequency(final String pkey) {
+      final int hash = pkey.hashCode();
+      int frequency = MAX_COUNT;
+      for (final int seed : SEEDS) {
+        frequency = Math.min(frequency, table[this.indexOf(hash, seed)]);
+      }
+      return frequency;
+    }
+
+    private int indexOf(final int phash, final int pseed) {
+      int hash = phash ^ pseed;
+      hash ^= hash << 13;
+      hash ^= hash >>> 17;
+      hash ^= hash << 5;
+      return hash & table.length - 1;
+    }
+
+    private void reset() {
+      for (int i = 0; i < table.length; i++) {
+        table[i] = (byte) (table[i] >> 1);
+      }
+      additions /= 2;
+    }
+  }
+}
@@ -19,6 +19,7 @@ import de.knightsoftnet.validators.server.data.CreatePhoneCountryConstantsClass;
 import de.knightsoftnet.validators.shared.data.PhoneAreaCodeData;
 import de.knightsoftnet.validators.shared.data.PhoneCountryCodeData;
 import de.knightsoftnet.validators.shared.data.PhoneCountryData;
+import de.knightsoftnet.validators.shared.data.PhoneCountrySharedConstants;
 import de.knightsoftnet.validators.shared.data.PhoneNumberData;
 import de.knightsoftnet.validators.shared.data.PhoneNumberExtendedInterface;
 import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
@@ -29,7 +30,6 @@ import org.apache.commons.lang3.CharUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
@@ -43,6 +43,7 @@ public class PhoneNumberUtil {
   private static final String EXTENSION_SEPARATOR = "-";
 
   private PhoneCountryData defaultCountryData;
+  private PhoneNumberParseCache parseCache;
 
   public PhoneNumberUtil() {
     this(null);
@@ -77,11 +78,22 @@ public class PhoneNumberUtil {
     if (StringUtils.isEmpty(pcountryCode)) {
       defaultCountryData = null;
     } else {
-      defaultCountryData =
-          CreatePhoneCountryConstantsClass.create(plocale).countryMap().get(pcountryCode);
+      defaultCountryData = this.getCountryData(pcountryCode, plocale);
     }
   }
 
+  public PhoneNumberParseCache getParseCache() {
+    return parseCache;
+  }
+
+  /**
+   * set cache for parse results, the cache can be shared between multiple instances.
+   *
+   * @param pparseCache parse cache to use, null to parse without cache
+   */
+  public void setParseCache(final PhoneNumberParseCache pparseCache) {
+    parseCache = pparseCache;
+  }
 
   /**
    * parse phone number.
@@ -90,8 +102,7 @@ public class PhoneNumberUtil {
    * @return PhoneNumberData
    */
   public PhoneNumberData parsePhoneNumber(final String pphoneNumber) {
-    return (PhoneNumberData) this.parsePhoneNumber(pphoneNumber, new PhoneNumberData(),
-        defaultCountryData);
+    return this.parsePhoneNumberInto(pphoneNumber, new PhoneNumberData(), defaultCountryData);
   }
 
   /**
@@ -125,9 +136,34 @@ public class PhoneNumberUtil {
    */
   public PhoneNumberData parsePhoneNumber(final String pphoneNumber, final String pcountryCode,
       final Locale plocale) {
-    return (PhoneNumberData) this.parsePhoneNumber(pphoneNumber, new PhoneNumberData(),
-        CreatePhoneCountryConstantsClass.create(plocale).countryMap()
-            .get(StringUtils.defaultString(pcountryCode)));
+    return this.parsePhoneNumberInto(pphoneNumber, new PhoneNumberData(),
+        this.getCountryData(pcountryCode, plocale));
+  }
+
+  /**
+   * get country data of a country.
+   *
+   * @param pcountryCode iso code of country
+   * @param plocale locale to read properties in the correct language
+   * @return country data or null if country is not known
+   */
+  public PhoneCountryData getCountryData(final String pcountryCode, final Locale plocale) {
+    if (Locale.ROOT.equals(plocale)) {
+      return this.getCountryData(pcountryCode);
+    }
+    return CreatePhoneCountryConstantsClass.create(plocale).countryMap()
+        .get(StringUtils.defaultString(pcountryCode));
+  }
+
+  /**
+   * get country data of a country.
+   *
+   * @param pcountryCode iso code of country
+   * @return country data or null if country is not known
+   */
+  public PhoneCountryData getCountryData(final String pcountryCode) {
+    return CreatePhoneCountryConstantsClass.create().countryMap()
+        .get(StringUtils.defaultString(pcountryCode));
   }
 
   /**
@@ -153,8 +189,7 @@ public class PhoneNumberUtil {
   public ValueWithPos<PhoneNumberData> parsePhoneNumber(final ValueWithPos<String> pphoneNumber,
       final String pcountryCode, final Locale plocale) {
     return this.parsePhoneNumber(pphoneNumber, new PhoneNumberData(),
-        CreatePhoneCountryConstantsClass.create(plocale).countryMap()
-            .get(StringUtils.defaultString(pcountryCode)));
+        this.getCountryData(pcountryCode, plocale));
   }
 
 
@@ -181,37 +216,86 @@ public class PhoneNumberUtil {
    */
   public PhoneNumberInterface parsePhoneNumber(final String pphoneNumber,
       final PhoneNumberInterface pphoneNumberData, final PhoneCountryData pcountryData) {
-    if (pphoneNumber == null) {
-      return null;
-    }
-    final ValueWithPos<PhoneNumberData> formatedValue =
-        this.parsePhoneNumber(new ValueWithPos<>(pphoneNumber, -1), pphoneNumberData, pcountryData);
-    return formatedValue.getValue();
+    final PhoneNumberInterface parsedNumber =
+        this.parsePhoneNumberInto(pphoneNumber, pphoneNumberData, pcountryData);
+    return parsedNumber == null ? null : new PhoneNumberData(parsedNumber);
   }
 
+  /**
+   * parse phone number into the given phone number data, using default country.
+   *
+   * @param pphoneNumber phone number to parse
+   * @param pphoneNumberData phone number data to fill, can be reused for multiple calls
+   * @param <T> type of the phone number data
+   * @return phone number data, the same as in second parameter or null if phone number is null
+   */
+  public <T extends PhoneNumberInterface> T parsePhoneNumberInto(final CharSequence pphoneNumber,
+      final T pphoneNumberData) {
+    return this.parsePhoneNumberInto(pphoneNumber, pphoneNumberData, defaultCountryData);
+  }
 
   /**
-   * parse phone number.
+   * parse phone number into the given phone number data. The phone number is cleaned up once and
+   * then processed by offsets, no intermediate strings are created, only the parts which are set
+   * in the phone number data. If a parse cache is set, results are taken from it when possible.
    *
-   * @param pphoneNumber phone number as string
-   * @param pphoneNumberData phone number data to fill
+   * @param pphoneNumber phone number to parse
+   * @param pphoneNumberData phone number data to fill, can be reused for multiple calls
    * @param pcountryData country data
-   * @return PhoneNumberData, the same as in second parameter
+   * @param <T> type of the phone number data
+   * @return phone number data, the same as in second parameter or null if phone number is null
    */
-  public ValueWithPos<PhoneNumberData> parsePhoneNumber(final ValueWithPos<String> pphoneNumber,
-      final PhoneNumberInterface pphoneNumberData, final PhoneCountryData pcountryData) {
+  public <T extends PhoneNumberInterface> T parsePhoneNumberInto(final CharSequence pphoneNumber,
+      final T pphoneNumberData, final PhoneCountryData pcountryData) {
     if (pphoneNumber == null || pphoneNumberData == null) {
       return null;
     }
-    int cursorpos = pphoneNumber.getPos();
-    int cursorpossub = 0;
-    for (int pos = 0; pos < cursorpos && pos < StringUtils.length(pphoneNumber.getValue()); pos++) {
-      final char character = pphoneNumber.getValue().charAt(pos);
-      if (character < '0' || character > '9') {
-        cursorpossub++;
-      }
+    return this.parseCleanedPhoneNumberCached(cleanupPhoneNumber(pphoneNumber), pphoneNumberData,
+        pcountryData);
+  }
+
+  /**
+   * parse the cleaned up phone number into the given phone number data, using the parse cache if
+   * it's set.
+   */
+  private <T extends PhoneNumberInterface> T parseCleanedPhoneNumberCached(
+      final StringBuilder phoneNumberWork, final T pphoneNumberData,
+      final PhoneCountryData pcountryData) {
+    final PhoneNumberParseCache cache = parseCache;
+    if (cache == null) {
+      return this.parseCleanedPhoneNumber(phoneNumberWork, pphoneNumberData, pcountryData);
     }
-    cursorpos -= cursorpossub;
+    // the cleaned up digits, the default country and the version of the phone country data
+    // determine the result, the locale is only used to get the country data and has no influence
+    // on the parsing, the version in the key prevents hits on results of older data which have
+    // been put concurrently to a reload
+    final long version = CreatePhoneCountryConstantsClass.getVersion();
+    cache.checkVersion(version);
+    final int numberLength = phoneNumberWork.length();
+    phoneNumberWork.append(' ');
+    if (pcountryData != null) {
+      phoneNumberWork.append(pcountryData.getCountryCode());
+    }
+    phoneNumberWork.append(' ').append(version);
+    final String key = phoneNumberWork.toString();
+    phoneNumberWork.setLength(numberLength);
+    PhoneNumberParseCache.ParseResult result = cache.get(key);
+    if (result == null) {
+      final PhoneNumberData parsedNumber =
+          this.parseCleanedPhoneNumber(phoneNumberWork, new PhoneNumberData(), pcountryData);
+      result = new PhoneNumberParseCache.ParseResult(parsedNumber, parsedNumber.isValid());
+      cache.put(key, result);
+    }
+    result.copyTo(pphoneNumberData);
+    return pphoneNumberData;
+  }
+
+  /**
+   * parse the cleaned up phone number into the given phone number data.
+   */
+  private <T extends PhoneNumberInterface> T parseCleanedPhoneNumber(
+      final StringBuilder pphoneNumber, final T pphoneNumberData,
+      final PhoneCountryData pcountryData) {
     boolean needsAreaCode = false;
     int minLength = 2;
     int maxLength = 15;
@@ -219,119 +303,81 @@ public class PhoneNumberUtil {
     pphoneNumberData.setAreaCode(null);
     pphoneNumberData.setLineNumber(null);
     pphoneNumberData.setExtension(null);
-    final StringBuilder cleanupString = new StringBuilder(pphoneNumber.getValue().length());
-    final boolean containsMinus = StringUtils.contains(pphoneNumber.getValue(), '-');
-    boolean hasSeperator = false;
-    for (final char character : StringUtils.reverse(pphoneNumber.getValue()).toCharArray()) {
-      switch (character) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          cleanupString.append(character);
-          break;
-        case '-':
-          if (!hasSeperator) {
-            cleanupString.append(character);
-            hasSeperator = true;
-          }
-          break;
-        case ' ':
-          if (!hasSeperator && !containsMinus && cleanupString.length() <= 5) {
-            cleanupString.append('-');
-            hasSeperator = true;
-          }
-          break;
-        default:
-          // ignore all other characters
-          break;
-      }
+    if (pphoneNumberData instanceof PhoneNumberExtendedInterface) {
+      ((PhoneNumberExtendedInterface) pphoneNumberData).setCountryName(null);
+      ((PhoneNumberExtendedInterface) pphoneNumberData).setAreaName(null);
     }
-    String phoneNumberWork = StringUtils.reverse(cleanupString.toString());
+    int pos = 0;
+    PhoneCountryCodeData countryCode = null;
+    boolean trunkCodeReplaced = false;
     if (pcountryData != null) {
-      if (StringUtils.isNotEmpty(pcountryData.getExitCode())
-          && phoneNumberWork.startsWith(pcountryData.getExitCode())) {
-        phoneNumberWork = phoneNumberWork.substring(pcountryData.getExitCode().length());
-        cursorpos -= pcountryData.getExitCode().length();
-      } else if (StringUtils.isNotEmpty(pcountryData.getTrunkCode())
-          && phoneNumberWork.startsWith(pcountryData.getTrunkCode())) {
-        phoneNumberWork = pcountryData.getCountryCodeData().getCountryCode()
-            + phoneNumberWork.substring(pcountryData.getTrunkCode().length());
-        if (cursorpos >= pcountryData.getTrunkCode().length()) {
-          cursorpos -= pcountryData.getTrunkCode().length();
-          cursorpos += StringUtils.length(pcountryData.getCountryCodeData().getCountryCode());
-        }
+      if (startsWith(pphoneNumber, pos, pcountryData.getExitCode())) {
+        pos += pcountryData.getExitCode().length();
+      } else if (startsWith(pphoneNumber, pos, pcountryData.getTrunkCode())) {
+        // national number, the country code of the default country replaces the trunk code
+        pos += pcountryData.getTrunkCode().length();
+        trunkCodeReplaced = true;
+        countryCode = CreatePhoneCountryConstantsClass.create().countryCodeTree()
+            .get(pcountryData.getCountryCodeData().getCountryCode());
       }
     }
-    for (final PhoneCountryCodeData countryCode : CreatePhoneCountryConstantsClass.create()
-        .countryCodeData()) {
-      if (phoneNumberWork.startsWith(countryCode.getCountryCode())) {
-        pphoneNumberData.setCountryCode(countryCode.getCountryCode());
-        maxLength -= StringUtils.length(countryCode.getCountryCode());
-        if (pphoneNumberData instanceof PhoneNumberExtendedInterface) {
-          ((PhoneNumberExtendedInterface) pphoneNumberData)
-              .setCountryName(countryCode.getCountryCodeName());
-        }
-        phoneNumberWork = phoneNumberWork.substring(countryCode.getCountryCode().length());
-        if (phoneNumberWork.startsWith(PhoneNumberUtil.EXTENSION_SEPARATOR)) {
-          phoneNumberWork = phoneNumberWork.substring(1);
-        }
-        if (countryCode.getPhoneCountryData() != null) {
-          needsAreaCode = countryCode.getPhoneCountryData().isAreaCodeMustBeFilled();
-          if (StringUtils.isNotEmpty(countryCode.getPhoneCountryData().getTrunkCode())
-              && phoneNumberWork.startsWith(countryCode.getPhoneCountryData().getTrunkCode())) {
-            phoneNumberWork = phoneNumberWork
-                .substring(countryCode.getPhoneCountryData().getTrunkCode().length());
-            if (cursorpos >= countryCode.getPhoneCountryData().getTrunkCode().length()) {
-              cursorpos -= countryCode.getPhoneCountryData().getTrunkCode().length();
-            }
-          }
+    if (!trunkCodeReplaced) {
+      countryCode = CreatePhoneCountryConstantsClass.create().countryCodeTree()
+          .findLongestPrefix(pphoneNumber, pos);
+      if (countryCode != null) {
+        pos += countryCode.getCountryCode().length();
+      }
+    }
+    if (countryCode != null) {
+      pphoneNumberData.setCountryCode(countryCode.getCountryCode());
+      maxLength -= StringUtils.length(countryCode.getCountryCode());
+      if (pphoneNumberData instanceof PhoneNumberExtendedInterface) {
+        ((PhoneNumberExtendedInterface) pphoneNumberData)
+            .setCountryName(countryCode.getCountryCodeName());
+      }
+      pos = skipExtensionSeparator(pphoneNumber, pos);
+      if (countryCode.getPhoneCountryData() != null) {
+        needsAreaCode = countryCode.getPhoneCountryData().isAreaCodeMustBeFilled();
+        if (startsWith(pphoneNumber, pos,
+            countryCode.getPhoneCountryData().getTrunkCode())) {
+          pos += countryCode.getPhoneCountryData().getTrunkCode().length();
         }
-        for (final PhoneAreaCodeData areaCode : countryCode.getAreaCodeData()) {
-          if (areaCode.isRegEx() && phoneNumberWork.matches("^" + areaCode.getAreaCode() + ".*")) {
-            final String areaCodeRemember = phoneNumberWork;
-            phoneNumberWork =
-                phoneNumberWork.replaceFirst(areaCode.getAreaCode(), StringUtils.EMPTY);
-            pphoneNumberData.setAreaCode(areaCodeRemember.substring(0,
-                areaCodeRemember.length() - phoneNumberWork.length()));
-            if (pphoneNumberData instanceof PhoneNumberExtendedInterface) {
-              ((PhoneNumberExtendedInterface) pphoneNumberData).setAreaName(areaCode.getAreaName());
-            }
-            minLength = areaCode.getMinLength();
-            maxLength = areaCode.getMaxLength();
-            break;
-          } else if (!areaCode.isRegEx() && phoneNumberWork.startsWith(areaCode.getAreaCode())) {
-            pphoneNumberData.setAreaCode(areaCode.getAreaCode());
+      }
+      final PhoneAreaCodeData numericAreaCode = countryCode.findAreaCode(pphoneNumber, pos);
+      if (numericAreaCode == null) {
+        for (final PhoneAreaCodeData areaCode : countryCode.getRegExAreaCodeData()) {
+          final int areaCodeLength = areaCode.matchAreaCode(pphoneNumber, pos);
+          if (areaCodeLength >= 0) {
+            pphoneNumberData.setAreaCode(pphoneNumber.substring(pos, pos + areaCodeLength));
+            pos += areaCodeLength;
             if (pphoneNumberData instanceof PhoneNumberExtendedInterface) {
               ((PhoneNumberExtendedInterface) pphoneNumberData).setAreaName(areaCode.getAreaName());
             }
-            phoneNumberWork = phoneNumberWork.substring(areaCode.getAreaCode().length());
             minLength = areaCode.getMinLength();
             maxLength = areaCode.getMaxLength();
             break;
           }
         }
-
-        if (phoneNumberWork.startsWith(PhoneNumberUtil.EXTENSION_SEPARATOR)) {
-          phoneNumberWork = phoneNumberWork.substring(1);
+      } else {
+        pphoneNumberData.setAreaCode(numericAreaCode.getAreaCode());
+        if (pphoneNumberData instanceof PhoneNumberExtendedInterface) {
+          ((PhoneNumberExtendedInterface) pphoneNumberData)
+              .setAreaName(numericAreaCode.getAreaName());
         }
-        if (phoneNumberWork.contains(PhoneNumberUtil.EXTENSION_SEPARATOR)) {
-          final String[] splitedPhoneNumber =
-              phoneNumberWork.split(PhoneNumberUtil.EXTENSION_SEPARATOR);
-          pphoneNumberData.setLineNumber(splitedPhoneNumber[0]);
-          if (splitedPhoneNumber.length > 1) {
-            pphoneNumberData.setExtension(splitedPhoneNumber[1]);
-          }
-        } else {
-          pphoneNumberData.setLineNumber(phoneNumberWork);
+        pos += numericAreaCode.getAreaCode().length();
+        minLength = numericAreaCode.getMinLength();
+        maxLength = numericAreaCode.getMaxLength();
+      }
+
+      pos = skipExtensionSeparator(pphoneNumber, pos);
+      final int separatorPos = pphoneNumber.indexOf(PhoneNumberUtil.EXTENSION_SEPARATOR, pos);
+      if (separatorPos < 0) {
+        pphoneNumberData.setLineNumber(pphoneNumber.substring(pos));
+      } else {
+        pphoneNumberData.setLineNumber(pphoneNumber.substring(pos, separatorPos));
+        if (separatorPos + 1 < pphoneNumber.length()) {
+          pphoneNumberData.setExtension(pphoneNumber.substring(separatorPos + 1));
         }
-        break;
       }
     }
     if (pphoneNumberData instanceof ValidationInterface) {
@@ -350,6 +396,125 @@ public class PhoneNumberUtil {
               && (callNummerLength >= minLength && callNummerLength <= maxLength
                   || completeNumberLength >= minLength && completeNumberLength <= maxLength));
     }
+    return pphoneNumberData;
+  }
+
+  /**
+   * move the cursor position in the digits of the phone number the same way the leading exit,
+   * trunk and country codes are removed or replaced by parsing.
+   */
+  private static int moveCursor(final StringBuilder pphoneNumber,
+      final PhoneNumberInterface pphoneNumberData, final PhoneCountryData pcountryData,
+      final int pcursorPos) {
+    int cursorpos = pcursorPos;
+    int pos = 0;
+    boolean trunkCodeReplaced = false;
+    if (pcountryData != null) {
+      if (startsWith(pphoneNumber, pos, pcountryData.getExitCode())) {
+        pos += pcountryData.getExitCode().length();
+        cursorpos -= pcountryData.getExitCode().length();
+      } else if (startsWith(pphoneNumber, pos, pcountryData.getTrunkCode())) {
+        pos += pcountryData.getTrunkCode().length();
+        trunkCodeReplaced = true;
+        if (cursorpos >= pcountryData.getTrunkCode().length()) {
+          cursorpos -= pcountryData.getTrunkCode().length();
+          cursorpos += StringUtils.length(pcountryData.getCountryCodeData().getCountryCode());
+        }
+      }
+    }
+    if (pphoneNumberData.getCountryCode() != null) {
+      if (!trunkCodeReplaced) {
+        pos += pphoneNumberData.getCountryCode().length();
+      }
+      pos = skipExtensionSeparator(pphoneNumber, pos);
+      final PhoneCountryCodeData countryCode = CreatePhoneCountryConstantsClass.create()
+          .countryCodeTree().get(pphoneNumberData.getCountryCode());
+      if (countryCode != null && countryCode.getPhoneCountryData() != null
+          && startsWith(pphoneNumber, pos, countryCode.getPhoneCountryData().getTrunkCode())
+          && cursorpos >= countryCode.getPhoneCountryData().getTrunkCode().length()) {
+        cursorpos -= countryCode.getPhoneCountryData().getTrunkCode().length();
+      }
+    }
+    return cursorpos;
+  }
+
+  /**
+   * remove all characters except digits and one extension separator. The separator is the last
+   * minus or if there is no minus, the last space when not more then five digits follow it.
+   */
+  private static StringBuilder cleanupPhoneNumber(final CharSequence pphoneNumber) {
+    boolean containsMinus = false;
+    for (int pos = 0; pos < pphoneNumber.length() && !containsMinus; pos++) {
+      containsMinus = pphoneNumber.charAt(pos) == '-';
+    }
+    int separatorPos = -1;
+    int digitsBehind = 0;
+    for (int pos = pphoneNumber.length() - 1; pos >= 0 && separatorPos < 0; pos--) {
+      final char character = pphoneNumber.charAt(pos);
+      if (character >= '0' && character <= '9') {
+        digitsBehind++;
+      } else if (character == '-' || character == ' ' && !containsMinus && digitsBehind <= 5) {
+        separatorPos = pos;
+      }
+    }
+    final StringBuilder cleanupString = new StringBuilder(pphoneNumber.length());
+    for (int pos = 0; pos < pphoneNumber.length(); pos++) {
+      final char character = pphoneNumber.charAt(pos);
+      if (character >= '0' && character <= '9') {
+        cleanupString.append(character);
+      } else if (pos == separatorPos) {
+        cleanupString.append('-');
+      }
+    }
+    return cleanupString;
+  }
+
+  private static boolean startsWith(final CharSequence pphoneNumber, final int pstart,
+      final String pprefix) {
+    if (StringUtils.isEmpty(pprefix) || pphoneNumber.length() - pstart < pprefix.length()) {
+      return false;
+    }
+    for (int pos = 0; pos < pprefix.length(); pos++) {
+      if (pphoneNumber.charAt(pstart + pos) != pprefix.charAt(pos)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipExtensionSeparator(final CharSequence pphoneNumber, final int pstart) {
+    return pstart < pphoneNumber.length()
+        && pphoneNumber.charAt(pstart) == PhoneNumberUtil.EXTENSION_SEPARATOR.charAt(0)
+            ? pstart + 1
+            : pstart;
+  }
+
+
+  /**
+   * parse phone number.
+   *
+   * @param pphoneNumber phone number as string
+   * @param pphoneNumberData phone number data to fill
+   * @param pcountryData country data
+   * @return PhoneNumberData, the same as in second parameter
+   */
+  public ValueWithPos<PhoneNumberData> parsePhoneNumber(final ValueWithPos<String> pphoneNumber,
+      final PhoneNumberInterface pphoneNumberData, final PhoneCountryData pcountryData) {
+    if (pphoneNumber == null || pphoneNumberData == null) {
+      return null;
+    }
+    int cursorpos = pphoneNumber.getPos();
+    int cursorpossub = 0;
+    for (int pos = 0; pos < cursorpos && pos < StringUtils.length(pphoneNumber.getValue()); pos++) {
+      final char character = pphoneNumber.getValue().charAt(pos);
+      if (character < '0' || character > '9') {
+        cursorpossub++;
+      }
+    }
+    cursorpos -= cursorpossub;
+    final StringBuilder phoneNumberWork = cleanupPhoneNumber(pphoneNumber.getValue());
+    this.parseCleanedPhoneNumberCached(phoneNumberWork, pphoneNumberData, pcountryData);
+    cursorpos = moveCursor(phoneNumberWork, pphoneNumberData, pcountryData, cursorpos);
     if (cursorpos < 0) {
       cursorpos = 0;
     } else {
@@ -392,8 +557,7 @@ public class PhoneNumberUtil {
    * @return formated phone number as String
    */
   public final String formatE123(final String pphoneNumber, final String pcountryCode) {
-    return this.formatE123(this.parsePhoneNumber(pphoneNumber), CreatePhoneCountryConstantsClass
-        .create().countryMap().get(StringUtils.defaultString(pcountryCode)));
+    return this.formatE123(this.parsePhoneNumber(pphoneNumber), this.getCountryData(pcountryCode));
   }
 
   /**
@@ -415,8 +579,7 @@ public class PhoneNumberUtil {
    */
   public final String formatE123(final PhoneNumberInterface pphoneNumberData,
       final String pcountryCode) {
-    return this.formatE123(pphoneNumberData, CreatePhoneCountryConstantsClass.create().countryMap()
-        .get(StringUtils.defaultString(pcountryCode)));
+    return this.formatE123(pphoneNumberData, this.getCountryData(pcountryCode));
   }
 
   /**
@@ -446,8 +609,7 @@ public class PhoneNumberUtil {
   public final ValueWithPos<String> formatE123WithPos(final ValueWithPos<String> pphoneNumber,
       final String pcountryCode) {
     return valueWithPosDefaults(this.formatE123WithPos(
-        this.parsePhoneNumber(pphoneNumber, pcountryCode), CreatePhoneCountryConstantsClass.create()
-            .countryMap().get(StringUtils.defaultString(pcountryCode))),
+        this.parsePhoneNumber(pphoneNumber, pcountryCode), this.getCountryData(pcountryCode)),
         pphoneNumber);
   }
 
@@ -614,14 +776,8 @@ public class PhoneNumberUtil {
   public final String formatE123National(final PhoneNumberInterface pphoneNumberData) {
     final StringBuilder resultNumber = new StringBuilder();
     if (isPhoneNumberNotEmpty(pphoneNumberData)) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(), pphoneNumberData.getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getCountryCode());
       if (phoneCountryData == null) {
         return this.formatE123International(pphoneNumberData);
       }
@@ -667,15 +823,8 @@ public class PhoneNumberUtil {
     int cursor = pphoneNumberData.getPos();
     final StringBuilder resultNumber = new StringBuilder();
     if (isPhoneNumberNotEmpty(pphoneNumberData.getValue())) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(),
-            pphoneNumberData.getValue().getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getValue().getCountryCode());
       if (phoneCountryData == null) {
         return this.formatE123InternationalWithPos(pphoneNumberData);
       }
@@ -734,8 +883,8 @@ public class PhoneNumberUtil {
    * @return formated phone number as String
    */
   public final String formatDin5008(final String pphoneNumber, final String pcountryCode) {
-    return this.formatDin5008(this.parsePhoneNumber(pphoneNumber), CreatePhoneCountryConstantsClass
-        .create().countryMap().get(StringUtils.defaultString(pcountryCode)));
+    return this.formatDin5008(this.parsePhoneNumber(pphoneNumber),
+        this.getCountryData(pcountryCode));
   }
 
   /**
@@ -757,8 +906,7 @@ public class PhoneNumberUtil {
    */
   public final String formatDin5008(final PhoneNumberInterface pphoneNumberData,
       final String pcountryCode) {
-    return this.formatDin5008(pphoneNumberData, CreatePhoneCountryConstantsClass.create()
-        .countryMap().get(StringUtils.defaultString(pcountryCode)));
+    return this.formatDin5008(pphoneNumberData, this.getCountryData(pcountryCode));
   }
 
   /**
@@ -788,8 +936,7 @@ public class PhoneNumberUtil {
   public final ValueWithPos<String> formatDin5008WithPos(final ValueWithPos<String> pphoneNumber,
       final String pcountryCode) {
     return valueWithPosDefaults(this.formatDin5008WithPos(
-        this.parsePhoneNumber(pphoneNumber, pcountryCode), CreatePhoneCountryConstantsClass.create()
-            .countryMap().get(StringUtils.defaultString(pcountryCode))),
+        this.parsePhoneNumber(pphoneNumber, pcountryCode), this.getCountryData(pcountryCode)),
         pphoneNumber);
   }
 
@@ -961,14 +1108,8 @@ public class PhoneNumberUtil {
   public final String formatDin5008National(final PhoneNumberInterface pphoneNumberData) {
     final StringBuilder resultNumber = new StringBuilder();
     if (isPhoneNumberNotEmpty(pphoneNumberData)) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(), pphoneNumberData.getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getCountryCode());
       if (phoneCountryData == null) {
         return this.formatDin5008International(pphoneNumberData);
       }
@@ -1014,15 +1155,8 @@ public class PhoneNumberUtil {
     int cursor = pphoneNumberData.getPos();
     final StringBuilder resultNumber = new StringBuilder();
     if (isPhoneNumberNotEmpty(pphoneNumberData.getValue())) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(),
-            pphoneNumberData.getValue().getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getValue().getCountryCode());
       if (phoneCountryData == null) {
         return this.formatDin5008InternationalWithPos(pphoneNumberData);
       }
@@ -1414,8 +1548,7 @@ public class PhoneNumberUtil {
    */
   public final String formatCommon(final String pphoneNumber, final String pcountryCode) {
     return this.formatCommon(this.parsePhoneNumber(pphoneNumber, pcountryCode),
-        CreatePhoneCountryConstantsClass.create().countryMap()
-            .get(StringUtils.defaultString(pcountryCode)));
+        this.getCountryData(pcountryCode));
   }
 
   /**
@@ -1427,8 +1560,7 @@ public class PhoneNumberUtil {
    */
   public final String formatCommon(final PhoneNumberInterface pphoneNumberData,
       final String pcountryCode) {
-    return this.formatCommon(pphoneNumberData, CreatePhoneCountryConstantsClass.create()
-        .countryMap().get(StringUtils.defaultString(pcountryCode)));
+    return this.formatCommon(pphoneNumberData, this.getCountryData(pcountryCode));
   }
 
   /**
@@ -1458,8 +1590,7 @@ public class PhoneNumberUtil {
   public final ValueWithPos<String> formatCommonWithPos(final ValueWithPos<String> pphoneNumber,
       final String pcountryCode) {
     return valueWithPosDefaults(this.formatCommonWithPos(
-        this.parsePhoneNumber(pphoneNumber, pcountryCode), CreatePhoneCountryConstantsClass.create()
-            .countryMap().get(StringUtils.defaultString(pcountryCode))),
+        this.parsePhoneNumber(pphoneNumber, pcountryCode), this.getCountryData(pcountryCode)),
         pphoneNumber);
   }
 
@@ -1524,14 +1655,8 @@ public class PhoneNumberUtil {
   public final String formatCommonInternational(final PhoneNumberInterface pphoneNumberData) {
     final StringBuilder resultNumber = new StringBuilder();
     if (isPhoneNumberNotEmpty(pphoneNumberData)) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(), pphoneNumberData.getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getCountryCode());
       if (phoneCountryData == null) {
         return null;
       }
@@ -1576,15 +1701,8 @@ public class PhoneNumberUtil {
     }
     int cursor = pphoneNumberData.getPos();
     if (isPhoneNumberNotEmpty(pphoneNumberData.getValue())) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(),
-            pphoneNumberData.getValue().getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getValue().getCountryCode());
       if (phoneCountryData == null) {
         return null;
       }
@@ -1662,14 +1780,8 @@ public class PhoneNumberUtil {
   public final String formatCommonNational(final PhoneNumberInterface pphoneNumberData) {
     final StringBuilder resultNumber = new StringBuilder();
     if (isPhoneNumberNotEmpty(pphoneNumberData)) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(), pphoneNumberData.getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getCountryCode());
       if (phoneCountryData == null) {
         return null;
       }
@@ -1713,15 +1825,8 @@ public class PhoneNumberUtil {
     int cursor = pphoneNumberData.getPos();
     final StringBuilder resultNumber = new StringBuilder();
     if (isPhoneNumberNotEmpty(pphoneNumberData.getValue())) {
-      PhoneCountryData phoneCountryData = null;
-      for (final PhoneCountryCodeData country : CreatePhoneCountryConstantsClass.create()
-          .countryCodeData()) {
-        if (StringUtils.equals(country.getCountryCode(),
-            pphoneNumberData.getValue().getCountryCode())) {
-          phoneCountryData = country.getPhoneCountryData();
-          break;
-        }
-      }
+      final PhoneCountryData phoneCountryData =
+          this.getPhoneCountryData(pphoneNumberData.getValue().getCountryCode());
       if (phoneCountryData == null) {
         return null;
       }
@@ -1765,6 +1870,12 @@ public class PhoneNumberUtil {
     return new ValueWithPos<>(StringUtils.trimToNull(resultNumber.toString()), cursor);
   }
 
+  private PhoneCountryData getPhoneCountryData(final String pcountryCode) {
+    final PhoneCountryCodeData country =
+        CreatePhoneCountryConstantsClass.create().countryCodeTree().get(pcountryCode);
+    return country == null ? null : country.getPhoneCountryData();
+  }
+
   private ValueWithPos<String> groupIntoParts(final ValueWithPos<String> pstring, final int plength,
       final int pblockLength) {
     if (pstring == null || pstring.getValue() == null) {
@@ -1886,47 +1997,36 @@ public class PhoneNumberUtil {
    */
   public final List<PhoneNumberData> getSuggstions(final String psearch, final int plimit,
       final Locale plocale) {
-    final List<PhoneNumberData> suggestList = new ArrayList<>(plimit);
     final String cleanedPhoneNumber = cleanString(psearch);
-    PhoneCountryCodeData foundCounty = null;
-    final List<PhoneCountryCodeData> possibleCountries = new ArrayList<>(plimit);
-    for (final PhoneCountryCodeData countryCode : CreatePhoneCountryConstantsClass.create(plocale)
-        .countryCodeData()) {
-      if (cleanedPhoneNumber.startsWith(countryCode.getCountryCode())) {
-        foundCounty = countryCode;
-        break;
-      }
-      if (countryCode.getCountryCode().startsWith(cleanedPhoneNumber)) {
-        possibleCountries.add(countryCode);
-      }
-    }
+    final PhoneCountrySharedConstants phoneCountryConstants =
+        CreatePhoneCountryConstantsClass.create(plocale);
+    final PhoneCountryCodeData foundCounty =
+        phoneCountryConstants.countryCodeTree().findLongestPrefix(cleanedPhoneNumber);
+    final List<PhoneNumberData> suggestList = new ArrayList<>(Math.max(plimit, 0));
     if (foundCounty == null) {
       // we don't have found a matching country, show possible countries
-      for (final PhoneCountryCodeData country : possibleCountries) {
+      for (final PhoneCountryCodeData country : phoneCountryConstants.countryCodeIndex()
+          .findByPrefix(cleanedPhoneNumber, plimit)) {
         final PhoneNumberData entry = new PhoneNumberData();
         entry.setCountryCode(country.getCountryCode());
         entry.setCountryName(country.getCountryCodeName());
         suggestList.add(entry);
       }
     } else {
-      // we do have a country, search for possible area codes
+      // we do have a country, search for possible area codes, the index returns them already in
+      // the order of the PhoneNumberSuggestComperator
       final String phoneNumberWork =
           StringUtils.substring(cleanedPhoneNumber, foundCounty.getCountryCode().length());
-      for (final PhoneAreaCodeData areaCode : foundCounty.getAreaCodeData()) {
-        if (!areaCode.isRegEx() && areaCode.getAreaCode().startsWith(phoneNumberWork)) {
-          final PhoneNumberData entry = new PhoneNumberData();
-          entry.setCountryCode(foundCounty.getCountryCode());
-          entry.setCountryName(foundCounty.getCountryCodeName());
-          entry.setAreaCode(areaCode.getAreaCode());
-          entry.setAreaName(areaCode.getAreaName());
-          suggestList.add(entry);
-        }
+      for (final PhoneAreaCodeData areaCode : foundCounty.findAreaCodesByPrefix(phoneNumberWork,
+          plimit)) {
+        final PhoneNumberData entry = new PhoneNumberData();
+        entry.setCountryCode(foundCounty.getCountryCode());
+        entry.setCountryName(foundCounty.getCountryCodeName());
+        entry.setAreaCode(areaCode.getAreaCode());
+        entry.setAreaName(areaCode.getAreaName());
+        suggestList.add(entry);
       }
     }
-    Collections.sort(suggestList, new PhoneNumberSuggestComperator());
-    if (suggestList.size() >= plimit) {
-      return suggestList.subList(0, plimit);
-    }
     return suggestList;
   }
 
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * precompiled regular expression, server side implementation based on java.util.regex, the client
+ * side uses a GWT RegExp based super source implementation.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class RegExPattern {
+  private final String regEx;
+  private final Pattern pattern;
+
+  /**
+   * constructor compiling the regular expression.
+   *
+   * @param pregEx regular expression to compile
+   */
+  public RegExPattern(final String pregEx) {
+    super();
+    regEx = pregEx;
+    pattern = Pattern.compile(pregEx);
+  }
+
+  public String getRegEx() {
+    return regEx;
+  }
+
+  /**
+   * check if the complete value matches the regular expression.
+   *
+   * @param pvalue value to check
+   * @return true if it matches
+   */
+  public boolean matches(final CharSequence pvalue) {
+    return pvalue != null && pattern.matcher(pvalue).matches();
+  }
+
+  /**
+   * check if the beginning of the value matches the regular expression.
+   *
+   * @param pvalue value to check
+   * @return length of the matching part at the beginning or -1 if it doesn't match
+   */
+  public int matchesAtStart(final CharSequence pvalue) {
+    if (pvalue == null) {
+      return -1;
+    }
+    final Matcher matcher = pattern.matcher(pvalue);
+    return matcher.lookingAt() ? matcher.end() : -1;
+  }
+
+  /**
+   * check if the value matches the regular expression at the given position, the part in front of
+   * the position is ignored.
+   *
+   * @param pvalue value to check
+   * @param pstart position where the match has to start
+   * @return length of the matching part starting at the position or -1 if it doesn't match
+   */
+  public int matchesAtStart(final CharSequence pvalue, final int pstart) {
+    if (pvalue == null || pstart > pvalue.length()) {
+      return -1;
+    }
+    final Matcher matcher = pattern.matcher(pvalue).region(pstart, pvalue.length());
+    return matcher.lookingAt() ? matcher.end() - pstart : -1;
+  }
+
+  @Override
+  public String toString() {
+    return regEx;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server;
+
+import de.knightsoftnet.validators.shared.beans.AgeLimitJavaTimeTestBean;
+import de.knightsoftnet.validators.shared.impl.AgeLimitCheckValidatorClock;
+import de.knightsoftnet.validators.shared.testcases.AgeLimitJavaTimeTestCases;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * age limit check test of java time types.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class AgeLimitCheckJavaTimeTest extends AbstractValidationTest<AgeLimitJavaTimeTestBean> {
+
+  private static final String VALIDATOR =
+      "de.knightsoftnet.validators.shared.impl.AgeLimitCheckValidator";
+
+  /**
+   * use the clock the test cases are computed for.
+   */
+  @Before
+  public final void setUp() {
+    AgeLimitCheckValidatorClock.setClock(AgeLimitJavaTimeTestCases.getClock());
+  }
+
+  /**
+   * reset to the system clock.
+   */
+  @After
+  public final void tearDown() {
+    AgeLimitCheckValidatorClock.setClock(null);
+  }
+
+  /**
+   * empty value is allowed.
+   */
+  @Test
+  public final void testEmptyAgeIsAllowed() {
+    super.validationTest(AgeLimitJavaTimeTestCases.getEmptyTestBean(), true, null);
+  }
+
+  /**
+   * correct ages are allowed.
+   */
+  @Test
+  public final void testCorrectAgesAreAllowed() {
+    for (final AgeLimitJavaTimeTestBean testBean : AgeLimitJavaTimeTestCases
+        .getCorrectTestBeans()) {
+      super.validationTest(testBean, true, null);
+    }
+  }
+
+  /**
+   * wrong ages are not allowed.
+   */
+  @Test
+  public final void testWrongAgesAreWrong() {
+    for (final AgeLimitJavaTimeTestBean testBean : AgeLimitJavaTimeTestCases.getWrongTestBeans()) {
+      super.validationTest(testBean, false, VALIDATOR);
+    }
+  }
+
+  /**
+   * the limit moves with the clock, also for a leap day birthday.
+   */
+  @Test
+  public final void testLimitMovesWithClock() {
+    super.validationTest(AgeLimitJavaTimeTestCases.getLeapDayTestBean(), false, VALIDATOR);
+    AgeLimitCheckValidatorClock.setClock(AgeLimitJavaTimeTestCases.getNextDayClock());
+    super.validationTest(AgeLimitJavaTimeTestCases.getLeapDayTestBean(), true, null);
+    super.validationTest(AgeLimitJavaTimeTestCases.getNextDayWrongTestBean(), false, VALIDATOR);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server;
+
+import de.knightsoftnet.validators.shared.beans.PasswordBlacklistResourceTestBean;
+import de.knightsoftnet.validators.shared.testcases.PasswordBlacklistResourceTestCases;
+
+import org.junit.Test;
+
+/**
+ * test for password validator with blacklist resource.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class PasswordBlacklistResourceTest
+    extends AbstractValidationTest<PasswordBlacklistResourceTestBean> {
+
+  /**
+   * empty password is allowed.
+   */
+  @Test
+  public final void testEmptyPasswordIsAllowed() {
+    super.validationTest(PasswordBlacklistResourceTestCases.getEmptyTestBean(), true, null);
+  }
+
+  /**
+   * correct passwords are allowed.
+   */
+  @Test
+  public final void testCorrectPasswordsAreAllowed() {
+    for (final PasswordBlacklistResourceTestBean testBean : PasswordBlacklistResourceTestCases
+        .getCorrectTestBeans()) {
+      super.validationTest(testBean, true, null);
+    }
+  }
+
+  /**
+   * passwords blacklisted in the resource or the annotation are not allowed.
+   */
+  @Test
+  public final void testBlacklistedPasswordsAreWrong() {
+    for (final PasswordBlacklistResourceTestBean testBean : PasswordBlacklistResourceTestCases
+        .getBlackListedTestBeans()) {
+      super.validationTest(testBean, false,
+          "de.knightsoftnet.validators.shared.impl.PasswordValidator");
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import de.knightsoftnet.validators.shared.util.AhoCorasickMatcher;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class CreatePasswordBlacklistClassTest {
+
+  private static final String RESOURCE =
+      "de/knightsoftnet/validators/server/data/PasswordBlacklist.txt";
+
+  /**
+   * test reading a blacklist resource.
+   */
+  @Test
+  public void testReadBlacklist() {
+    Assert.assertEquals(Arrays.asList("letmein", "qwertz", "passw0rd"),
+        CreatePasswordBlacklistClass.readBlacklist(RESOURCE));
+    Assert.assertSame(CreatePasswordBlacklistClass.readBlacklist(RESOURCE),
+        CreatePasswordBlacklistClass.readBlacklist("/" + RESOURCE));
+  }
+
+  /**
+   * test the matcher is built once per resource.
+   */
+  @Test
+  public void testBlacklistMatcher() {
+    final AhoCorasickMatcher matcher = CreatePasswordBlacklistClass.getBlacklistMatcher(RESOURCE);
+    Assert.assertTrue(matcher.containsAny("my-qwertz-123"));
+    Assert.assertFalse(matcher.containsAny("my-secret-123"));
+    Assert.assertSame(matcher, CreatePasswordBlacklistClass.getBlacklistMatcher("/" + RESOURCE));
+  }
+
+  /**
+   * missing resources are reported.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingBlacklist() {
+    CreatePasswordBlacklistClass.readBlacklist("de/knightsoftnet/validators/NotExisting.txt");
+  }
+}
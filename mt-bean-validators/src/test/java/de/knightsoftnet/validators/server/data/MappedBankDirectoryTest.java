@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import de.knightsoftnet.validators.shared.util.IbanUtil;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+public class MappedBankDirectoryTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path writeDirectory(final Path pfile) throws IOException {
+    final Map<String, String> frBanks = new HashMap<>();
+    frBanks.put("20041", "PSSTFRPPXXX");
+    frBanks.put("30004", "BNPAFRPP");
+    frBanks.put("10011", "PSSTFRPPXXX");
+    final Map<String, String> nlBanks = new HashMap<>();
+    nlBanks.put("ABNA", "ABNANL2A");
+    nlBanks.put("INGB", "INGBNL2A");
+    final Map<String, Map<String, String>> directory = new HashMap<>();
+    directory.put("FR", frBanks);
+    directory.put("NL", nlBanks);
+    try (OutputStream output = Files.newOutputStream(pfile)) {
+      MappedBankDirectory.write(output, directory);
+    }
+    return pfile;
+  }
+
+  /**
+   * test lookups in a mapped bank directory.
+   *
+   * @throws IOException if file can't be written
+   */
+  @Test
+  public void testLookup() throws IOException {
+    final MappedBankDirectory bankDirectory =
+        new MappedBankDirectory(writeDirectory(folder.newFile().toPath()));
+    Assert.assertEquals(new HashSet<>(Arrays.asList("FR", "NL")), bankDirectory.getCountries());
+    Assert.assertEquals("PSSTFRPPXXX",
+        bankDirectory.getBicOfIban("FR1420041010050500013M02606", 4, 9));
+    Assert.assertEquals("BNPAFRPP",
+        bankDirectory.getBicOfIban("FR76 3000 4000 0312 3456 7890 143", 4, 9));
+    Assert.assertEquals("PSSTFRPPXXX",
+        bankDirectory.getBicOfIban("FR76 1001 1000 2012 3456 7890 189", 4, 9));
+    Assert.assertEquals("ABNANL2A", bankDirectory.getBicOfIban("NL91ABNA0417164300", 4, 8));
+    Assert.assertEquals("INGBNL2A", bankDirectory.getBicOfIban("NL69 INGB 0123 4567 89", 4, 8));
+    Assert.assertNull(bankDirectory.getBicOfIban("NL91RABO0417164300", 4, 8));
+    Assert.assertNull(bankDirectory.getBicOfIban("NL91ABN", 4, 8));
+    Assert.assertNull(bankDirectory.getBicOfIban("NL91ABNA0417164300", 4, 9));
+    Assert.assertNull(bankDirectory.getBicOfIban("DE16701600000000555444", 4, 12));
+
+    final MappedBankDirectory emptyDirectory = new MappedBankDirectory(null);
+    Assert.assertTrue(emptyDirectory.getCountries().isEmpty());
+    Assert.assertNull(emptyDirectory.getBicOfIban("NL91ABNA0417164300", 4, 8));
+  }
+
+  /**
+   * test that a bank directory in a reload directory adds countries.
+   *
+   * @throws IOException if file can't be written
+   */
+  @Test
+  public void testReloadWithBankDirectory() throws IOException {
+    final Path directory = folder.newFolder().toPath();
+    writeDirectory(directory.resolve(CreateBankAccountBicMapConstantsClass.BANK_DIRECTORY_FILE));
+    Assert.assertNull(IbanUtil.getBicOfIban("NL91ABNA0417164300"));
+    try {
+      CreateBankAccountBicMapConstantsClass.reload(directory).join();
+      Assert.assertEquals("ABNANL2A", IbanUtil.getBicOfIban("NL91ABNA0417164300"));
+      Assert.assertEquals("PSSTFRPPXXX", IbanUtil.getBicOfIban("FR1420041010050500013M02606"));
+      Assert.assertEquals("properties data is still available", "GENODEFF701",
+          IbanUtil.getBicOfIban("DE16701600000000555444"));
+    } finally {
+      CreateBankAccountBicMapConstantsClass.reload(null).join();
+    }
+    Assert.assertNull(IbanUtil.getBicOfIban("NL91ABNA0417164300"));
+  }
+
+  /**
+   * test that corrupt files are rejected with a UncheckedIOException.
+   *
+   * @throws IOException if file can't be written
+   */
+  @Test
+  public void testCorruptFile() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    MappedBankDirectory.write(output,
+        Collections.singletonMap("NL", Collections.singletonMap("ABNA", "ABNANL2A")));
+    final byte[] content = output.toByteArray();
+
+    final byte[] invalidCountry = content.clone();
+    invalidCountry[12] = '1';
+    assertCorrupt(invalidCountry);
+    assertCorrupt(Arrays.copyOf(content, 20));
+    assertCorrupt(Arrays.copyOf(content, content.length - 1));
+    final byte[] countryCount = content.clone();
+    countryCount[8] = 0x7f;
+    assertCorrupt(countryCount);
+  }
+
+  private void assertCorrupt(final byte[] pcontent) throws IOException {
+    final Path file = folder.newFile().toPath();
+    Files.write(file, pcontent);
+    try {
+      new MappedBankDirectory(file);
+      Assert.fail("corrupt file should be rejected");
+    } catch (final UncheckedIOException e) {
+      Assert.assertNotNull(e.getCause());
+    }
+  }
+
+  /**
+   * test that a bank directory replaces the built in data of its countries.
+   *
+   * @throws IOException if file can't be written
+   */
+  @Test
+  public void testDirectoryReplacesCountry() throws IOException {
+    final Path file = folder.newFile().toPath();
+    try (OutputStream output = Files.newOutputStream(file)) {
+      MappedBankDirectory.write(output,
+          Collections.singletonMap("DE", Collections.singletonMap("10010010", "PBNKDEFFXXX")));
+    }
+    final BankAccountBicConstantsImpl constants = new BankAccountBicConstantsImpl(
+        Collections.singletonList(new MappedBankDirectory(file)));
+    constants.addBankAccounts("DE", Collections.singletonMap("70160000", "GENODEFF701"));
+    constants.addBankAccounts("AT", Collections.singletonMap("12000", "BKAUATWW"));
+    Assert.assertEquals("PBNKDEFFXXX", constants.getBicOfIban("DE89100100100123456789", 4, 12));
+    Assert.assertNull("replaced country",
+        constants.getBicOfIban("DE16701600000000555444", 4, 12));
+    Assert.assertEquals("other country", "BKAUATWW",
+        constants.getBicOfIban("AT611200012345678901", 4, 9));
+  }
+}
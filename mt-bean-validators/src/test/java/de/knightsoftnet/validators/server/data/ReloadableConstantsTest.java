@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.data;
+
+import de.knightsoftnet.validators.shared.data.PhoneCountrySharedConstants;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ReloadableConstantsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * test reloading constants from a directory.
+   *
+   * @throws IOException if properties can't be written
+   */
+  @Test
+  public void testReloadFromDirectory() throws IOException {
+    final ReloadableConstants<BicMapConstantsImpl> constants = new ReloadableConstants<>(
+        () -> new BicMapConstantsImpl(CreateClassHelper.readMapFromProperties("BicMapConstants",
+            "bics")));
+    final BicMapConstantsImpl classPathConstants = constants.get();
+    Assert.assertEquals("version of first read", 1L, constants.getVersion());
+    Assert.assertNull("first read is from class path", constants.getSource());
+    Assert.assertTrue("class path data", classPathConstants.bics().containsKey("AABAFI22"));
+
+    final Path directory = folder.newFolder().toPath();
+    Files.write(directory.resolve("BicMapConstants.properties"),
+        "bics=TESTDEFF\nTESTDEFF=Test Bank\n".getBytes(StandardCharsets.UTF_8));
+    Assert.assertEquals("version of reload", Long.valueOf(2L),
+        constants.reload(directory).join());
+    Assert.assertEquals("source", directory, constants.getSource());
+    Assert.assertEquals("reloaded data", "Test Bank", constants.get().bics().get("TESTDEFF"));
+    Assert.assertFalse("reloaded data", constants.get().bics().containsKey("AABAFI22"));
+    Assert.assertTrue("old data is kept unchanged",
+        classPathConstants.bics().containsKey("AABAFI22"));
+
+    Files.write(directory.resolve("BicMapConstants.properties"),
+        "TESTDEFF=Test Bank\n".getBytes(StandardCharsets.UTF_8));
+    try {
+      constants.reload(directory).join();
+      Assert.fail("reading incomplete properties should fail");
+    } catch (final CompletionException e) {
+      Assert.assertEquals("failed reload keeps version", 2L, constants.getVersion());
+      Assert.assertEquals("failed reload keeps data", "Test Bank",
+          constants.get().bics().get("TESTDEFF"));
+    }
+
+    Assert.assertEquals("version of class path reload", Long.valueOf(3L),
+        constants.reload(null).join());
+    Assert.assertTrue("class path data", constants.get().bics().containsKey("AABAFI22"));
+  }
+
+  /**
+   * test that a reload which completes after a later requested one doesn't replace it.
+   *
+   * @throws IOException if directories can't be created
+   */
+  @Test
+  public void testOverlappingReloadsKeepRequestOrder() throws IOException {
+    final Path firstDirectory = folder.newFolder().toPath();
+    final Path secondDirectory = folder.newFolder().toPath();
+    final CountDownLatch secondPublished = new CountDownLatch(1);
+    final ReloadableConstants<Path> constants = new ReloadableConstants<>(() -> {
+      final Path directory = CreateClassHelper.getPropertyDirectory();
+      if (firstDirectory.equals(directory)) {
+        try {
+          secondPublished.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return directory;
+    });
+    Assert.assertNull("first read is from class path", constants.get());
+
+    final CompletableFuture<Long> firstReload =
+        constants.reload(firstDirectory, runnable -> new Thread(runnable).start());
+    final long secondVersion = constants.reload(secondDirectory, Runnable::run).join();
+    secondPublished.countDown();
+    Assert.assertEquals("version of second reload", 2L, secondVersion);
+    Assert.assertEquals("first reload completing later is dropped", Long.valueOf(2L),
+        firstReload.join());
+    Assert.assertEquals("second reload is kept", secondDirectory, constants.get());
+    Assert.assertEquals("second reload is kept", secondDirectory, constants.getSource());
+    Assert.assertEquals("version of second reload", 2L, constants.getVersion());
+
+    Assert.assertEquals("version of next reload", Long.valueOf(3L),
+        constants.reload(firstDirectory, Runnable::run).join());
+    Assert.assertEquals("next reload is published", firstDirectory, constants.get());
+  }
+
+  /**
+   * test reloading phone country constants from a snapshot.
+   *
+   * @throws IOException if snapshot can't be written
+   */
+  @Test
+  public void testReloadPhoneCountryConstants() throws IOException {
+    final PhoneCountrySharedConstants oldConstants = CreatePhoneCountryConstantsClass.create();
+    final long oldVersion = CreatePhoneCountryConstantsClass.getVersion();
+    final Path directory = folder.newFolder().toPath();
+    try (OutputStream output =
+        Files.newOutputStream(directory.resolve(PhoneCountryConstantsSnapshot.RESOURCE_NAME))) {
+      PhoneCountryConstantsSnapshot.write(output, Arrays.asList(Locale.GERMAN));
+    }
+    final long newVersion = CreatePhoneCountryConstantsClass.reload(directory).join();
+    Assert.assertTrue("version should increase", newVersion > oldVersion);
+    final PhoneCountrySharedConstants newConstants = CreatePhoneCountryConstantsClass.create();
+    Assert.assertNotSame("constants should be replaced", oldConstants, newConstants);
+    Assert.assertEquals("same data", oldConstants.countryMap().keySet(),
+        newConstants.countryMap().keySet());
+    Assert.assertEquals("area code from new constants", "89",
+        newConstants.countryCodeTree().get("49").findAreaCode("891234567").getAreaCode());
+  }
+
+  /**
+   * test that phone country constants reloaded from properties share the area codes between
+   * languages which read the same properties files.
+   *
+   * @throws IOException if properties can't be written
+   */
+  @Test
+  public void testReloadPhoneCountryPropertiesSharesStructure() throws IOException {
+    final Path directory = folder.newFolder().toPath();
+    Files.write(directory.resolve("PhoneRegionCode41Constants_de.properties"),
+        "phoneRegionCodes41=1\n1=Zürich¡2¡7\n".getBytes(StandardCharsets.UTF_8));
+    try {
+      CreatePhoneCountryConstantsClass.reload(directory).join();
+      final PhoneCountrySharedConstants root = CreatePhoneCountryConstantsClass.create();
+      final PhoneCountrySharedConstants german =
+          CreatePhoneCountryConstantsClass.create(Locale.GERMAN);
+      final PhoneCountrySharedConstants english =
+          CreatePhoneCountryConstantsClass.create(Locale.ENGLISH);
+      Assert.assertSame("area codes should be shared between languages",
+          root.countryCodeTree().get("49").getAreaCodeData(),
+          german.countryCodeTree().get("49").getAreaCodeData());
+      Assert.assertSame("area codes should be shared between languages",
+          root.countryCodeTree().get("41").getAreaCodeData(),
+          english.countryCodeTree().get("41").getAreaCodeData());
+      Assert.assertEquals("localized area codes", "Zürich",
+          german.countryCodeTree().get("41").findAreaCode("12345678").getAreaName());
+      Assert.assertEquals("default area codes", "NZ Zurich",
+          root.countryCodeTree().get("41").findAreaCode("12345678").getAreaName());
+    } finally {
+      CreatePhoneCountryConstantsClass.reload(null).join();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.server.util;
+
+import de.knightsoftnet.validators.shared.data.PhoneNumberData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
+import de.knightsoftnet.validators.shared.testcases.PhoneNumberUtilTestCases;
+import de.knightsoftnet.validators.shared.util.PhoneNumberUtil;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PhoneNumberBatchParserTest {
+
+  private PhoneNumberBatchParser phoneNumberBatchParser;
+
+  /**
+   * set up for testing.
+   */
+  @Before
+  public void setUp() {
+    this.phoneNumberBatchParser = new PhoneNumberBatchParser("DE");
+  }
+
+  /**
+   * test parsing a list of phone numbers in parallel.
+   */
+  @Test
+  public void testParseAll() {
+    final List<String> phoneNumbers = new ArrayList<>();
+    final List<PhoneNumberInterface> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      for (final Entry<String, PhoneNumberInterface> testCase : PhoneNumberUtilTestCases
+          .getParseCases().entrySet()) {
+        phoneNumbers.add(testCase.getKey());
+        expected.add(testCase.getValue());
+      }
+    }
+    final List<PhoneNumberBatchResult> results = this.phoneNumberBatchParser.parseAll(phoneNumbers);
+    Assert.assertEquals("result count", phoneNumbers.size(), results.size());
+    final PhoneNumberUtil phoneNumberUtil = new PhoneNumberUtil("DE");
+    for (int i = 0; i < results.size(); i++) {
+      final PhoneNumberBatchResult result = results.get(i);
+      Assert.assertEquals("Order of " + phoneNumbers.get(i), phoneNumbers.get(i),
+          result.getRawNumber());
+      Assert.assertFalse("Error parsing " + phoneNumbers.get(i), result.hasError());
+      Assert.assertEquals("Parsing " + phoneNumbers.get(i), expected.get(i),
+          result.getPhoneNumber());
+      Assert.assertEquals("Index of " + phoneNumbers.get(i),
+          phoneNumberUtil.formatIndex(result.getPhoneNumber()), result.getFormatIndex());
+      Assert.assertEquals("E.164 of " + phoneNumbers.get(i),
+          "+" + phoneNumberUtil.formatIndex(result.getPhoneNumber()), result.getE164());
+    }
+  }
+
+  /**
+   * test unordered streaming with errors and empty numbers.
+   */
+  @Test
+  public void testParseAllUnordered() {
+    final Map<String, PhoneNumberBatchResult> results = new ConcurrentHashMap<>();
+    this.phoneNumberBatchParser.parseAll(
+        Arrays.asList("+49 (89) 12345 - 67", "089 1234567", "no number", "+49 89 1234567890123456"),
+        false, result -> results.put(result.getRawNumber(), result));
+    Assert.assertEquals("result count", 4, results.size());
+    Assert.assertEquals("E.164", "+49891234567", results.get("+49 (89) 12345 - 67").getE164());
+    Assert.assertEquals("E.164", "+49891234567", results.get("089 1234567").getE164());
+    Assert.assertTrue("should be valid", results.get("089 1234567").isValid());
+    Assert.assertNull("empty number has no index", results.get("no number").getFormatIndex());
+    Assert.assertFalse("empty number is no error", results.get("no number").hasError());
+    Assert.assertTrue("too long number should be reported as error",
+        results.get("+49 89 1234567890123456").hasError());
+    Assert.assertTrue("error as number format exception", results
+        .get("+49 89 1234567890123456").getError() instanceof NumberFormatException);
+  }
+
+  /**
+   * test ordered streaming of records.
+   */
+  @Test
+  public void testParseAllOrderedRecords() {
+    final List<PhoneNumberData> records = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      records.add(new PhoneNumberData("49", "89", Integer.toString(100000 + i), null));
+    }
+    final List<Long> indexes = new ArrayList<>();
+    this.phoneNumberBatchParser.parseAll(records.stream(),
+        record -> "+" + record.getCountryCode() + " " + record.getAreaCode() + " "
+            + record.getLineNumber(),
+        true, (record, result) -> indexes.add(result.getFormatIndex()));
+    Assert.assertEquals("result count", records.size(), indexes.size());
+    for (int i = 0; i < records.size(); i++) {
+      Assert.assertEquals("order", Long.valueOf(4989100000L + i), indexes.get(i));
+    }
+  }
+
+  /**
+   * test formating of incomplete phone numbers.
+   */
+  @Test
+  public void testFormatIncomplete() {
+    Assert.assertNull(PhoneNumberBatchParser.formatE164(null));
+    Assert.assertNull(
+        PhoneNumberBatchParser.formatE164(new PhoneNumberData("49", "89", null, null)));
+    Assert.assertNull(
+        PhoneNumberBatchParser.formatIndex(new PhoneNumberData(null, "89", "1234567", null)));
+    Assert.assertEquals("+49891234567",
+        PhoneNumberBatchParser.formatE164(new PhoneNumberData("49", "89", "1234567", null)));
+    Assert.assertEquals(Long.valueOf(49891234567L),
+        PhoneNumberBatchParser.formatIndex(new PhoneNumberData("49", "89", "1234567", null)));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.beans;
+
+import de.knightsoftnet.validators.shared.AgeLimitCheck;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * age limit test bean containing birthdays of the java time types.
+ */
+public class AgeLimitJavaTimeTestBean {
+
+  /** birthday as local date. */
+  @AgeLimitCheck(minYears = AgeLimitTestBean.AGE_LIMIT)
+  private final LocalDate birthday;
+
+  /** birthday as local date time. */
+  @AgeLimitCheck(minYears = AgeLimitTestBean.AGE_LIMIT)
+  private final LocalDateTime birthdayTime;
+
+  /** birthday as zoned date time. */
+  @AgeLimitCheck(minYears = AgeLimitTestBean.AGE_LIMIT)
+  private final ZonedDateTime birthdayZoned;
+
+  /** birthday as instant. */
+  @AgeLimitCheck(minYears = AgeLimitTestBean.AGE_LIMIT)
+  private final Instant birthdayInstant;
+
+  /**
+   * constructor filling fields.
+   *
+   * @param pbirthday birthday as local date
+   * @param pbirthdayTime birthday as local date time
+   * @param pbirthdayZoned birthday as zoned date time
+   * @param pbirthdayInstant birthday as instant
+   */
+  public AgeLimitJavaTimeTestBean(final LocalDate pbirthday, final LocalDateTime pbirthdayTime,
+      final ZonedDateTime pbirthdayZoned, final Instant pbirthdayInstant) {
+    super();
+    this.birthday = pbirthday;
+    this.birthdayTime = pbirthdayTime;
+    this.birthdayZoned = pbirthdayZoned;
+    this.birthdayInstant = pbirthdayInstant;
+  }
+
+  public final LocalDate getBirthday() {
+    return this.birthday;
+  }
+
+  public final LocalDateTime getBirthdayTime() {
+    return this.birthdayTime;
+  }
+
+  public final ZonedDateTime getBirthdayZoned() {
+    return this.birthdayZoned;
+  }
+
+  public final Instant getBirthdayInstant() {
+    return this.birthdayInstant;
+  }
+
+  @Override
+  public String toString() {
+    return "AgeLimitJavaTimeTestBean [birthday=" + this.birthday + ", birthdayTime="
+        + this.birthdayTime + ", birthdayZoned=" + this.birthdayZoned + ", birthdayInstant="
+        + this.birthdayInstant + "]";
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.knightsoftnet.validators.shared.beans;
+
+import de.knightsoftnet.validators.shared.data.PhoneNumberData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberFormatsInterface;
+import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
+
+public class PhoneNumberFormatsTestBean extends PhoneNumberData
+    implements PhoneNumberFormatsInterface {
+
+  private String din5008National;
+  private String din5008International;
+  private String e123National;
+  private String e123International;
+  private String url;
+  private String ms;
+  private String commonNational;
+  private String commonInternational;
+
+  public PhoneNumberFormatsTestBean(final PhoneNumberInterface pphoneNumber) {
+    super(pphoneNumber);
+  }
+
+  @Override
+  public String getDin5008National() {
+    return this.din5008National;
+  }
+
+  @Override
+  public void setDin5008National(final String pdin5008National) {
+    this.din5008National = pdin5008National;
+  }
+
+  @Override
+  public String getDin5008International() {
+    return this.din5008International;
+  }
+
+  @Override
+  public void setDin5008International(final String pdin5008International) {
+    this.din5008International = pdin5008International;
+  }
+
+  @Override
+  public String getE123National() {
+    return this.e123National;
+  }
+
+  @Override
+  public void setE123National(final String pe123National) {
+    this.e123National = pe123National;
+  }
+
+  @Override
+  public String getE123International() {
+    return this.e123International;
+  }
+
+  @Override
+  public void setE123International(final String pe123International) {
+    this.e123International = pe123International;
+  }
+
+  @Override
+  public String getUrl() {
+    return this.url;
+  }
+
+  @Override
+  public void setUrl(final String purl) {
+    this.url = purl;
+  }
+
+  @Override
+  public String getMs() {
+    return this.ms;
+  }
+
+  @Override
+  public void setMs(final String pms) {
+    this.ms = pms;
+  }
+
+  @Override
+  public String getCommonNational() {
+    return this.commonNational;
+  }
+
+  @Override
+  public void setCommonNational(final String pcommonNational) {
+    this.commonNational = pcommonNational;
+  }
+
+  @Override
+  public String getCommonInternational() {
+    return this.commonInternational;
+  }
+
+  @Override
+  public void setCommonInternational(final String pcommonInternational) {
+    this.commonInternational = pcommonInternational;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class BankAccountBicTableTest {
+
+  /**
+   * test lookup of numeric and other bank numbers.
+   */
+  @Test
+  public void testLookup() {
+    final Map<String, String> bankAccounts = new HashMap<>();
+    bankAccounts.put("00100", "BICAATW1");
+    bankAccounts.put("100", "BICBATW1");
+    bankAccounts.put("12000", "BICAATW1");
+    bankAccounts.put("AB12", "BICCATW1");
+    bankAccounts.put("1234567890", "BICDATW1");
+    final BankAccountBicTable table = new BankAccountBicTable();
+    table.addBankAccounts("AT", bankAccounts);
+
+    Assert.assertEquals("BICAATW1", table.getBicOfIban("AT1200100123", 4, 9));
+    Assert.assertEquals("BICAATW1", table.getBicOfIban("AT12 0010 0123", 4, 9));
+    Assert.assertEquals("BICBATW1", table.getBicOfIban("AT12100", 4, 7));
+    Assert.assertEquals("BICAATW1", table.getBicOfIban("AT12 1200 0123", 4, 9));
+    Assert.assertEquals("BICCATW1", table.getBicOfIban("AT12 AB12 3", 4, 8));
+    Assert.assertEquals("BICDATW1", table.getBicOfIban("AT12 1234 5678 90", 4, 14));
+    Assert.assertNull(table.getBicOfIban("AT1201000123", 4, 9));
+    Assert.assertNull(table.getBicOfIban("DE1200100123", 4, 9));
+    Assert.assertNull(table.getBicOfIban("A", 4, 9));
+    Assert.assertNull(table.getBicOfIban(null, 4, 9));
+
+    final Map<String, String> changes = new HashMap<>();
+    changes.put("00100", "BICEATW1");
+    changes.put("11000", "BICFATW1");
+    table.addBankAccounts("AT", changes);
+    Assert.assertEquals("BICEATW1", table.getBicOfIban("AT1200100123", 4, 9));
+    Assert.assertEquals("BICFATW1", table.getBicOfIban("AT1211000123", 4, 9));
+    Assert.assertEquals("BICAATW1", table.getBicOfIban("AT1212000123", 4, 9));
+  }
+}
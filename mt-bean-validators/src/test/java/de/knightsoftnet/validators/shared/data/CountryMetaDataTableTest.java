@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import de.knightsoftnet.validators.server.data.CreateIbanLengthMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreatePostalCodesMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateTaxNumberMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateTinMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateVatIdMapConstantsClass;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map.Entry;
+
+public class CountryMetaDataTableTest {
+
+  /**
+   * test that the table contains the same data as the country maps.
+   */
+  @Test
+  public void testTableContent() {
+    for (final CountryEnum country : CountryEnum.values()) {
+      final CountryMetaData countryData = CountryMetaDataTable.get(country);
+      Assert.assertNotNull(country.name(), countryData);
+      Assert.assertEquals(country, countryData.getCountry());
+      Assert.assertEquals(country.name(), countryData.getCountryCode());
+    }
+    for (final Entry<String, IbanLengthDefinition> entry : CreateIbanLengthMapConstantsClass
+        .create().ibanLengths().entrySet()) {
+      Assert.assertSame(entry.getKey(), entry.getValue(),
+          CountryMetaDataTable.get(entry.getKey()).getIbanLength());
+    }
+    for (final String countryCode : CreatePostalCodesMapConstantsClass.create().postalCodes()
+        .keySet()) {
+      Assert.assertSame(countryCode,
+          CreatePostalCodesMapConstantsClass.createPatterns().get(countryCode),
+          CountryMetaDataTable.get(countryCode).getPostalCode());
+    }
+    for (final String countryCode : CreateVatIdMapConstantsClass.create().vatIds().keySet()) {
+      Assert.assertSame(countryCode, CreateVatIdMapConstantsClass.createPatterns().get(countryCode),
+          CountryMetaDataTable.get(countryCode).getVatId());
+    }
+    for (final String countryCode : CreateTinMapConstantsClass.create().tins().keySet()) {
+      Assert.assertSame(countryCode, CreateTinMapConstantsClass.createPatterns().get(countryCode),
+          CountryMetaDataTable.get(countryCode).getTin());
+    }
+    for (final String countryCode : CreateTaxNumberMapConstantsClass.create().taxNumbers()
+        .keySet()) {
+      Assert.assertSame(countryCode,
+          CreateTaxNumberMapConstantsClass.createPatterns().get(countryCode),
+          CountryMetaDataTable.get(countryCode).getTaxNumber());
+    }
+  }
+
+  /**
+   * test lookup of the different key types.
+   */
+  @Test
+  public void testLookup() {
+    final CountryMetaData germany = CountryMetaDataTable.get("DE");
+    Assert.assertSame(germany, CountryMetaDataTable.get('D', 'E'));
+    Assert.assertSame(germany, CountryMetaDataTable.get(CountryEnum.DE));
+    Assert.assertSame(germany, CountryMetaDataTable.get(new StringBuilder("DE")));
+    Assert.assertEquals(22, germany.getIbanLength().getLength());
+    Assert.assertTrue(germany.getPostalCode().matches("80331"));
+    Assert.assertEquals("DE", germany.getCountryCode());
+
+    final CountryMetaData ascension = CountryMetaDataTable.get("AC");
+    Assert.assertNull(ascension.getCountry());
+    Assert.assertNotNull(ascension.getPostalCode());
+
+    Assert.assertNull(CountryMetaDataTable.get("de"));
+    Assert.assertNull(CountryMetaDataTable.get("D"));
+    Assert.assertNull(CountryMetaDataTable.get("DEU"));
+    Assert.assertNull(CountryMetaDataTable.get("1E"));
+    Assert.assertNull(CountryMetaDataTable.get((String) null));
+    Assert.assertNull(CountryMetaDataTable.get((CountryEnum) null));
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import de.knightsoftnet.validators.server.data.CreatePostalCodesMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateTaxNumberMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateTinMapConstantsClass;
+import de.knightsoftnet.validators.server.data.CreateVatIdMapConstantsClass;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+public class CountryRegExPatternsTest {
+
+  /**
+   * test that all regular expressions of the maps are compiled into the registries.
+   */
+  @Test
+  public void testAllPatternsCompiled() {
+    checkPatterns(CreatePostalCodesMapConstantsClass.create().postalCodes(),
+        CreatePostalCodesMapConstantsClass.createPatterns());
+    checkPatterns(CreateVatIdMapConstantsClass.create().vatIds(),
+        CreateVatIdMapConstantsClass.createPatterns());
+    checkPatterns(CreateTinMapConstantsClass.create().tins(),
+        CreateTinMapConstantsClass.createPatterns());
+    checkPatterns(CreateTaxNumberMapConstantsClass.create().taxNumbers(),
+        CreateTaxNumberMapConstantsClass.createPatterns());
+    Assert.assertSame(CreatePostalCodesMapConstantsClass.createPatterns(),
+        CreatePostalCodesMapConstantsClass.createPatterns());
+    Assert.assertNull(CreatePostalCodesMapConstantsClass.createPatterns().get("XY"));
+    Assert.assertTrue(CreatePostalCodesMapConstantsClass.createPatterns().get("DE")
+        .matches("80331"));
+    Assert.assertFalse(CreatePostalCodesMapConstantsClass.createPatterns().get("DE")
+        .matches("8033"));
+  }
+
+  private void checkPatterns(final Map<String, String> pregExMap,
+      final CountryRegExPatterns ppatterns) {
+    for (final Entry<String, String> entry : pregExMap.entrySet()) {
+      Assert.assertEquals(entry.getKey(), entry.getValue(),
+          ppatterns.get(entry.getKey()).getRegEx());
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.data;
+
+import de.knightsoftnet.validators.server.data.PhoneCountryConstantsSnapshot;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+
+public class PhoneCountryConstantsSnapshotTest {
+
+  /**
+   * test that data read from snapshot is the same as the data read from properties.
+   *
+   * @throws IOException if snapshot can't be written or read
+   */
+  @Test
+  public void testSnapshotEqualsProperties() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    PhoneCountryConstantsSnapshot.write(output, Arrays.asList(Locale.GERMAN, Locale.ENGLISH));
+    final PhoneCountryConstantsSnapshot snapshot =
+        PhoneCountryConstantsSnapshot.read(new ByteArrayInputStream(output.toByteArray()));
+
+    for (final Locale locale : Arrays.asList(Locale.ROOT, Locale.GERMAN, Locale.ENGLISH,
+        Locale.GERMANY)) {
+      final PhoneCountryConstantsImpl expected =
+          AbstractCreateClass.createPhoneCountryConstants(locale);
+      final PhoneCountryConstantsImpl actual = snapshot.toPhoneCountryConstants(locale);
+
+      final List<PhoneCountryCodeData> expectedCountries =
+          new ArrayList<>(new TreeSet<>(expected.countryCodeData()));
+      final List<PhoneCountryCodeData> actualCountries =
+          new ArrayList<>(new TreeSet<>(actual.countryCodeData()));
+      Assert.assertEquals("country code count differs for " + locale, expectedCountries.size(),
+          actualCountries.size());
+      for (int i = 0; i < expectedCountries.size(); i++) {
+        assertCountryCodeEquals(expectedCountries.get(i), actualCountries.get(i));
+      }
+
+      Assert.assertEquals("country map differs for " + locale, expected.countryMap().keySet(),
+          actual.countryMap().keySet());
+      for (final Entry<String, PhoneCountryData> entry : expected.countryMap().entrySet()) {
+        final PhoneCountryData actualCountry = actual.countryMap().get(entry.getKey());
+        Assert.assertEquals("country name differs", entry.getValue().getCountryCodeName(),
+            actualCountry.getCountryCodeName());
+        Assert.assertEquals("trunk code differs", entry.getValue().getTrunkCode(),
+            actualCountry.getTrunkCode());
+        Assert.assertEquals("exit code differs", entry.getValue().getExitCode(),
+            actualCountry.getExitCode());
+        Assert.assertEquals("area code must be filled differs",
+            entry.getValue().isAreaCodeMustBeFilled(), actualCountry.isAreaCodeMustBeFilled());
+        Assert.assertEquals("country code differs",
+            entry.getValue().getCountryCodeData().getCountryCode(),
+            actualCountry.getCountryCodeData().getCountryCode());
+      }
+    }
+  }
+
+  /**
+   * test that the locale independent structure is shared between the languages.
+   *
+   * @throws IOException if snapshot can't be written or read
+   */
+  @Test
+  public void testSnapshotSharesStructure() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    PhoneCountryConstantsSnapshot.write(output, Arrays.asList(Locale.GERMAN, Locale.ENGLISH));
+    final PhoneCountryConstantsSnapshot snapshot =
+        PhoneCountryConstantsSnapshot.read(new ByteArrayInputStream(output.toByteArray()));
+
+    Assert.assertSame("same language should share constants",
+        snapshot.toPhoneCountryConstants(Locale.GERMAN),
+        snapshot.toPhoneCountryConstants(Locale.GERMANY));
+    final PhoneCountryConstantsImpl root = snapshot.toPhoneCountryConstants(Locale.ROOT);
+    final PhoneCountryConstantsImpl german = snapshot.toPhoneCountryConstants(Locale.GERMAN);
+    Assert.assertNotSame("different languages should have own names", root, german);
+    final PhoneAreaCodeData rootArea =
+        root.countryCodeTree().get("49").getAreaCodeData().iterator().next();
+    final PhoneAreaCodeData germanArea =
+        german.countryCodeTree().get("49").getAreaCodeData().iterator().next();
+    Assert.assertSame("area codes should be shared between languages", rootArea, germanArea);
+  }
+
+  /**
+   * test that area codes are loaded when a country is used the first time.
+   *
+   * @throws IOException if snapshot can't be written or read
+   */
+  @Test
+  public void testAreaCodesLoadedOnDemand() throws IOException {
+    final PhoneCountryConstantsImpl properties =
+        AbstractCreateClass.createPhoneCountryConstants(Locale.ROOT);
+    Assert.assertFalse("area codes should not be loaded",
+        properties.countryCodeTree().get("49").isAreaCodeDataLoaded());
+    Assert.assertEquals("area code of Munich", "89",
+        properties.countryCodeTree().get("49").findAreaCode("891234567").getAreaCode());
+    Assert.assertTrue("area codes should be loaded",
+        properties.countryCodeTree().get("49").isAreaCodeDataLoaded());
+    Assert.assertFalse("other countries should not be loaded",
+        properties.countryCodeTree().get("43").isAreaCodeDataLoaded());
+
+    properties.preloadAreaCodes(Arrays.asList("AT", "41"));
+    Assert.assertTrue("preloaded by iso code",
+        properties.countryCodeTree().get("43").isAreaCodeDataLoaded());
+    Assert.assertTrue("preloaded by country code",
+        properties.countryCodeTree().get("41").isAreaCodeDataLoaded());
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    PhoneCountryConstantsSnapshot.write(output, Arrays.asList(Locale.GERMAN));
+    final PhoneCountryConstantsSnapshot snapshot =
+        PhoneCountryConstantsSnapshot.read(new ByteArrayInputStream(output.toByteArray()));
+    final PhoneCountryConstantsImpl root = snapshot.toPhoneCountryConstants(Locale.ROOT);
+    final PhoneCountryConstantsImpl german = snapshot.toPhoneCountryConstants(Locale.GERMAN);
+    Assert.assertFalse("area codes should not be loaded",
+        german.countryCodeTree().get("49").isAreaCodeDataLoaded());
+    root.preloadAreaCodes(Arrays.asList("*"));
+    Assert.assertTrue("shared area codes should be loaded once for all languages",
+        german.countryCodeTree().get("49").isAreaCodeDataLoaded());
+  }
+
+  private void assertCountryCodeEquals(final PhoneCountryCodeData pexpected,
+      final PhoneCountryCodeData pactual) {
+    Assert.assertEquals("country code differs", pexpected.getCountryCode(),
+        pactual.getCountryCode());
+    Assert.assertEquals("country code name differs for " + pexpected.getCountryCode(),
+        pexpected.getCountryCodeName(), pactual.getCountryCodeName());
+    final List<PhoneAreaCodeData> expectedAreas = new ArrayList<>(pexpected.getAreaCodeData());
+    final List<PhoneAreaCodeData> actualAreas = new ArrayList<>(pactual.getAreaCodeData());
+    Assert.assertEquals("area code count differs for " + pexpected.getCountryCode(),
+        expectedAreas.size(), actualAreas.size());
+    for (int i = 0; i < expectedAreas.size(); i++) {
+      final PhoneAreaCodeData expectedArea = expectedAreas.get(i);
+      final PhoneAreaCodeData actualArea = actualAreas.get(i);
+      Assert.assertEquals("area code differs", expectedArea.getAreaCode(),
+          actualArea.getAreaCode());
+      Assert.assertEquals("area name differs", expectedArea.getAreaName(),
+          actualArea.getAreaName());
+      Assert.assertEquals("area regex flag differs", expectedArea.isRegEx(),
+          actualArea.isRegEx());
+      Assert.assertEquals("area min length differs", expectedArea.getMinLength(),
+          actualArea.getMinLength());
+      Assert.assertEquals("area max length differs", expectedArea.getMaxLength(),
+          actualArea.getMaxLength());
+    }
+  }
+
+  /**
+   * test that adding area codes to an entry which loads them on demand or shares them copies
+   * them and leaves the other entries unchanged.
+   */
+  @Test
+  public void testAddAreaCodeDataCopiesSharedAreaCodes() {
+    final PhoneCountryCodeData source = new PhoneCountryCodeData("99", null,
+        () -> Arrays.asList(new PhoneAreaCodeData("1", "one", 2, 8)));
+    final PhoneCountryCodeData shared = new PhoneCountryCodeData("99", "shared", source);
+    final PhoneCountryCodeData other = new PhoneCountryCodeData("99", "other", source);
+
+    shared.addAreaCodeData(new PhoneAreaCodeData("2", "two", 2, 8));
+    Assert.assertEquals("area codes of changed entry", 2, shared.getAreaCodeData().size());
+    Assert.assertEquals("new area code is found", "two",
+        shared.findAreaCode("212345").getAreaName());
+    Assert.assertEquals("other entry is unchanged", 1, other.getAreaCodeData().size());
+    Assert.assertEquals("source is unchanged", 1, source.getAreaCodeData().size());
+
+    source.addAreaCodeData(new PhoneAreaCodeData("3", "three", 2, 8));
+    Assert.assertEquals("area codes of changed source", 2, source.getAreaCodeData().size());
+    Assert.assertEquals("entries sharing the source see its area codes", "three",
+        other.findAreaCode("312345").getAreaName());
+    Assert.assertNull("copied entry is independent", shared.findAreaCode("312345"));
+  }
+}
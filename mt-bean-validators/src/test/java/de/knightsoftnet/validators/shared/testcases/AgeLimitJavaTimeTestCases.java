@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.testcases;
+
+import de.knightsoftnet.validators.shared.beans.AgeLimitJavaTimeTestBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * get test cases for age limit test of java time types, the cases are computed for the fixed clock
+ * the tests have to use.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class AgeLimitJavaTimeTestCases {
+
+  private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+  private static final LocalDate LIMIT = LocalDate.of(2000, 2, 28);
+  private static final LocalDate LEAP_DAY = LocalDate.of(2000, 2, 29);
+
+  /**
+   * get the clock the test cases are computed for, the last day of february 2018.
+   *
+   * @return fixed clock
+   */
+  public static final Clock getClock() {
+    return clockAt(LocalDateTime.of(2018, 2, 28, 23, 30));
+  }
+
+  /**
+   * get the clock of the following day, the first day of march 2018.
+   *
+   * @return fixed clock
+   */
+  public static final Clock getNextDayClock() {
+    return clockAt(LocalDateTime.of(2018, 3, 1, 0, 0));
+  }
+
+  /**
+   * get empty test bean.
+   *
+   * @return empty test bean
+   */
+  public static final AgeLimitJavaTimeTestBean getEmptyTestBean() {
+    return new AgeLimitJavaTimeTestBean(null, null, null, null);
+  }
+
+  /**
+   * get correct test beans.
+   *
+   * @return correct test beans
+   */
+  public static final List<AgeLimitJavaTimeTestBean> getCorrectTestBeans() {
+    final List<AgeLimitJavaTimeTestBean> correctCases = new ArrayList<>();
+    correctCases.add(new AgeLimitJavaTimeTestBean(LIMIT.minusYears(1), null, null, null));
+    correctCases.add(new AgeLimitJavaTimeTestBean(LIMIT, null, null, null));
+    correctCases.add(new AgeLimitJavaTimeTestBean(null, LIMIT.atTime(23, 59), null, null));
+    correctCases.add(new AgeLimitJavaTimeTestBean(null, null,
+        LIMIT.atTime(23, 59).atZone(ZoneOffset.UTC), null));
+    correctCases
+        .add(new AgeLimitJavaTimeTestBean(null, null, null, getEndOfLimit().minusMillis(1)));
+    return correctCases;
+  }
+
+  /**
+   * get wrong test beans.
+   *
+   * @return wrong test beans
+   */
+  public static final List<AgeLimitJavaTimeTestBean> getWrongTestBeans() {
+    final List<AgeLimitJavaTimeTestBean> wrongCases = new ArrayList<>();
+    wrongCases.add(new AgeLimitJavaTimeTestBean(LEAP_DAY, null, null, null));
+    wrongCases.add(new AgeLimitJavaTimeTestBean(null, LEAP_DAY.atStartOfDay(), null, null));
+    wrongCases.add(
+        new AgeLimitJavaTimeTestBean(null, null, LEAP_DAY.atStartOfDay(ZoneOffset.UTC), null));
+    wrongCases.add(new AgeLimitJavaTimeTestBean(null, null, null, getEndOfLimit()));
+    return wrongCases;
+  }
+
+  /**
+   * get test bean born on a leap day, which is only correct with the clock of the next day.
+   *
+   * @return leap day test bean
+   */
+  public static final AgeLimitJavaTimeTestBean getLeapDayTestBean() {
+    return new AgeLimitJavaTimeTestBean(LEAP_DAY, null, null, null);
+  }
+
+  /**
+   * get test bean which is still wrong with the clock of the next day.
+   *
+   * @return wrong test bean for the next day
+   */
+  public static final AgeLimitJavaTimeTestBean getNextDayWrongTestBean() {
+    return new AgeLimitJavaTimeTestBean(null, null, LEAP_DAY.plusDays(2).atStartOfDay(ZONE), null);
+  }
+
+  private static Instant getEndOfLimit() {
+    return LIMIT.plusDays(1).atStartOfDay(ZONE).toInstant();
+  }
+
+  private static Clock clockAt(final LocalDateTime pdateTime) {
+    return Clock.fixed(pdateTime.atZone(ZONE).toInstant(), ZONE);
+  }
+}
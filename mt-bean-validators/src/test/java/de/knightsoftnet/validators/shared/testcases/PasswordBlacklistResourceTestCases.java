@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.testcases;
+
+import de.knightsoftnet.validators.shared.beans.PasswordBlacklistResourceTestBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * get test cases for password test with blacklist resource.
+ *
+ * @author Manfred Tremmel
+ *
+ */
+public class PasswordBlacklistResourceTestCases {
+  /**
+   * get empty test bean.
+   *
+   * @return empty test bean
+   */
+  public static final PasswordBlacklistResourceTestBean getEmptyTestBean() {
+    return new PasswordBlacklistResourceTestBean(null);
+  }
+
+  /**
+   * get correct test beans.
+   *
+   * @return correct test beans
+   */
+  public static final List<PasswordBlacklistResourceTestBean> getCorrectTestBeans() {
+    final List<PasswordBlacklistResourceTestBean> correctCases =
+        new ArrayList<PasswordBlacklistResourceTestBean>();
+    correctCases.add(new PasswordBlacklistResourceTestBean("Test123"));
+    correctCases.add(new PasswordBlacklistResourceTestBean("Password!"));
+    correctCases.add(new PasswordBlacklistResourceTestBean("Let\nme1n"));
+    return correctCases;
+  }
+
+  /**
+   * get blacklisted test beans.
+   *
+   * @return blacklisted test beans
+   */
+  public static final List<PasswordBlacklistResourceTestBean> getBlackListedTestBeans() {
+    final List<PasswordBlacklistResourceTestBean> wrongCases =
+        new ArrayList<PasswordBlacklistResourceTestBean>();
+    wrongCases.add(new PasswordBlacklistResourceTestBean("LetMeIn123"));
+    wrongCases.add(new PasswordBlacklistResourceTestBean("1qwertz!"));
+    wrongCases.add(new PasswordBlacklistResourceTestBean("myPassw0rd"));
+    wrongCases.add(new PasswordBlacklistResourceTestBean("Secret!"));
+    wrongCases.add(new PasswordBlacklistResourceTestBean("Test\nletmein1"));
+    return wrongCases;
+  }
+}
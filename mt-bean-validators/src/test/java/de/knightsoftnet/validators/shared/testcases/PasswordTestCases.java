@@ -46,6 +46,8 @@ public class PasswordTestCases {
     correctCases.add(new PasswordTestBean("Test123"));
     correctCases.add(new PasswordTestBean("Password!"));
     correctCases.add(new PasswordTestBean("1password%"));
+    correctCases.add(new PasswordTestBean("Test\n123"));
+    correctCases.add(new PasswordTestBean("pass\r\nWord!"));
     return correctCases;
   }
 
@@ -59,6 +61,8 @@ public class PasswordTestCases {
     wrongCases.add(new PasswordTestBean("test"));
     wrongCases.add(new PasswordTestBean("test123"));
     wrongCases.add(new PasswordTestBean("müller"));
+    wrongCases.add(new PasswordTestBean("test\n123"));
+    wrongCases.add(new PasswordTestBean("Test\r\nTest"));
     return wrongCases;
   }
 
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class AhoCorasickMatcherTest {
+
+  /**
+   * test matching of overlapping words.
+   */
+  @Test
+  public void testContainsAny() {
+    final AhoCorasickMatcher matcher =
+        new AhoCorasickMatcher(Arrays.asList("he", "she", "his", "hers", null));
+    Assert.assertTrue(matcher.containsAny("ushers"));
+    Assert.assertTrue(matcher.containsAny("xhisx"));
+    Assert.assertTrue(matcher.containsAny("he"));
+    Assert.assertFalse(matcher.containsAny("hi"));
+    Assert.assertFalse(matcher.containsAny("sh"));
+    Assert.assertFalse(matcher.containsAny(""));
+    Assert.assertFalse(matcher.containsAny(null));
+    Assert.assertFalse(matcher.isEmpty());
+
+    final AhoCorasickMatcher empty = new AhoCorasickMatcher(Collections.<String>emptyList());
+    Assert.assertTrue(empty.isEmpty());
+    Assert.assertFalse(empty.containsAny("test"));
+
+    final AhoCorasickMatcher emptyWord = new AhoCorasickMatcher(Collections.singletonList(""));
+    Assert.assertFalse(emptyWord.isEmpty());
+    Assert.assertTrue(emptyWord.containsAny("test"));
+  }
+
+  /**
+   * compare the automaton with contains on random words and texts.
+   */
+  @Test
+  public void testCompareWithContains() {
+    final Random random = new Random(4711L);
+    for (int run = 0; run < 200; run++) {
+      final List<String> words = new ArrayList<>();
+      for (int i = 0; i < 1 + random.nextInt(50); i++) {
+        words.add(randomString(random, 1 + random.nextInt(5)));
+      }
+      final AhoCorasickMatcher matcher = new AhoCorasickMatcher(words);
+      for (int i = 0; i < 200; i++) {
+        final String text = randomString(random, random.nextInt(20));
+        Assert.assertEquals(words + " " + text, words.stream().anyMatch(text::contains),
+            matcher.containsAny(text));
+      }
+    }
+  }
+
+  private static String randomString(final Random prandom, final int plength) {
+    final StringBuilder result = new StringBuilder(plength);
+    for (int i = 0; i < plength; i++) {
+      result.append((char) ('a' + prandom.nextInt(4)));
+    }
+    return result.toString();
+  }
+}
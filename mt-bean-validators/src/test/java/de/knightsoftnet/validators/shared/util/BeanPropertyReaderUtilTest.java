@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.shared.beans.PostalCodeTestBean;
+import de.knightsoftnet.validators.shared.beans.VatIdCheckedGetterTestBean;
+import de.knightsoftnet.validators.shared.beans.VatIdTestBean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+public class BeanPropertyReaderUtilTest {
+
+  /**
+   * test bean.
+   */
+  public static class Person {
+    private final String name;
+    private final Person partner;
+    private final boolean active;
+    private final Map<String, Object> attributes;
+
+    /**
+     * constructor.
+     */
+    public Person(final String pname, final Person ppartner, final boolean pactive,
+        final Map<String, Object> pattributes) {
+      super();
+      name = pname;
+      partner = ppartner;
+      active = pactive;
+      attributes = pattributes;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Person getPartner() {
+      return partner;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public Map<String, Object> getAttributes() {
+      return attributes;
+    }
+
+    public int[] getNumbers() {
+      return new int[] {4711, 42};
+    }
+
+    public String getBroken() {
+      throw new IllegalStateException("broken");
+    }
+  }
+
+  /**
+   * test reading simple and nested properties.
+   */
+  @Test
+  public void testReadProperties() throws ReflectiveOperationException {
+    final Map<String, Object> attributes = new HashMap<>();
+    attributes.put("country", "DE");
+    attributes.put("partner", new Person("Anna", null, false, null));
+    final Person person =
+        new Person("Max", new Person("Eva", null, false, null), true, attributes);
+
+    Assert.assertEquals("Max", BeanPropertyReaderUtil.getNullSaveProperty(person, "name"));
+    Assert.assertEquals("Eva", BeanPropertyReaderUtil.getNullSaveProperty(person, "partner.name"));
+    Assert.assertEquals(Boolean.TRUE, BeanPropertyReaderUtil.getNullSaveProperty(person, "active"));
+    Assert.assertEquals("true", BeanPropertyReaderUtil.getNullSaveStringProperty(person, "active"));
+    Assert.assertEquals("4711",
+        BeanPropertyReaderUtil.getNullSaveStringProperty(person, "numbers"));
+    Assert.assertEquals(42, BeanPropertyReaderUtil.getNullSaveProperty(person, "numbers[1]"));
+    Assert.assertEquals("DE",
+        BeanPropertyReaderUtil.getNullSaveStringProperty(person, "attributes.country"));
+    Assert.assertEquals("DE",
+        BeanPropertyReaderUtil.getNullSaveStringProperty(person, "attributes(country)"));
+    Assert.assertEquals("Anna",
+        BeanPropertyReaderUtil.getNullSaveProperty(person, "attributes.partner.name"));
+    Assert.assertEquals("DE",
+        BeanPropertyReaderUtil.getNullSaveProperty(Collections.singletonMap("country", "DE"),
+            "country"));
+  }
+
+  /**
+   * test null values in the path hierarchy.
+   */
+  @Test
+  public void testNullValues() throws ReflectiveOperationException {
+    final Person person = new Person(null, null, false, null);
+    Assert.assertNull(BeanPropertyReaderUtil.getNullSaveProperty(person, "name"));
+    Assert.assertNull(BeanPropertyReaderUtil.getNullSaveStringProperty(person, "name"));
+    Assert.assertNull(BeanPropertyReaderUtil.getNullSaveProperty(person, "partner.name"));
+    Assert.assertNull(
+        BeanPropertyReaderUtil.getNullSaveStringProperty(person, "partner.partner.name"));
+    Assert.assertNull(BeanPropertyReaderUtil.getNullSaveProperty(person, "attributes.country"));
+  }
+
+  /**
+   * unknown properties are reported.
+   */
+  @Test(expected = NoSuchMethodException.class)
+  public void testUnknownProperty() throws ReflectiveOperationException {
+    BeanPropertyReaderUtil.getNullSaveProperty(new Person("Max", null, false, null), "unknown");
+  }
+
+  /**
+   * exceptions of getters are wrapped.
+   */
+  @Test(expected = InvocationTargetException.class)
+  public void testBrokenGetter() throws ReflectiveOperationException {
+    BeanPropertyReaderUtil.getNullSaveProperty(new Person("Max", null, false, null), "broken");
+  }
+
+  /**
+   * null beans are not allowed.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullBean() throws ReflectiveOperationException {
+    BeanPropertyReaderUtil.getNullSaveProperty(null, "name");
+  }
+
+  /**
+   * test the accessor generated for a bean with a cross field constraint.
+   */
+  @Test
+  public void testGeneratedAccessor() throws ReflectiveOperationException {
+    BeanPropertyAccessor<?> generated = null;
+    for (final BeanPropertyAccessor<?> accessor : ServiceLoader.load(BeanPropertyAccessor.class)) {
+      if (accessor.getBeanClass() == VatIdTestBean.class) {
+        generated = accessor;
+      }
+    }
+    Assert.assertNotNull("no generated accessor found", generated);
+    Assert.assertNotNull(generated.getGetter("postalCodeTestBean.countryCode"));
+    Assert.assertNotNull(generated.getGetter("vatId"));
+    Assert.assertNull(generated.getGetter("postalCodeTestBean"));
+
+    final VatIdTestBean bean = new VatIdTestBean(new PostalCodeTestBean("DE", null), "DE4711");
+    Assert.assertEquals("DE",
+        BeanPropertyReaderUtil.getNullSaveProperty(bean, "postalCodeTestBean.countryCode"));
+    Assert.assertEquals("DE4711", BeanPropertyReaderUtil.getNullSaveStringProperty(bean, "vatId"));
+    Assert.assertNull(BeanPropertyReaderUtil
+        .getNullSaveProperty(new VatIdTestBean(null, null), "postalCodeTestBean.countryCode"));
+    Assert.assertSame(bean.getPostalCodeTestBean(),
+        BeanPropertyReaderUtil.getNullSaveProperty(bean, "postalCodeTestBean"));
+  }
+
+  /**
+   * getters throwing checked exceptions are left out of the generated accessor.
+   */
+  @Test
+  public void testGeneratedAccessorCheckedException() throws ReflectiveOperationException {
+    BeanPropertyAccessor<?> generated = null;
+    for (final BeanPropertyAccessor<?> accessor : ServiceLoader.load(BeanPropertyAccessor.class)) {
+      if (accessor.getBeanClass() == VatIdCheckedGetterTestBean.class) {
+        generated = accessor;
+      }
+    }
+    Assert.assertNotNull("no generated accessor found", generated);
+    Assert.assertNull(generated.getGetter("countryCode"));
+    Assert.assertNotNull(generated.getGetter("vatId"));
+
+    final VatIdCheckedGetterTestBean bean = new VatIdCheckedGetterTestBean("DE", "DE4711");
+    Assert.assertEquals("DE",
+        BeanPropertyReaderUtil.getNullSaveStringProperty(bean, "countryCode"));
+    Assert.assertEquals("DE4711", BeanPropertyReaderUtil.getNullSaveStringProperty(bean, "vatId"));
+  }
+}
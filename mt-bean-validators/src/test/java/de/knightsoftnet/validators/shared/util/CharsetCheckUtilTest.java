@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+public class CharsetCheckUtilTest {
+
+  /**
+   * compare the tables of the single byte charsets with the encoders for every character.
+   */
+  @Test
+  public void testSingleByteCharsets() {
+    for (final String charsetName : new String[] {"US-ASCII", "ISO-8859-1", "latin1",
+        "ISO-8859-15", "windows-1252", "cp1252"}) {
+      final Predicate<CharSequence> check = CharsetCheckUtil.forCharset(charsetName);
+      final CharsetEncoder encoder = Charset.forName(charsetName).newEncoder();
+      for (int character = Character.MIN_VALUE; character <= Character.MAX_VALUE; character++) {
+        final String text = "a" + (char) character;
+        Assert.assertEquals(charsetName + " " + Integer.toHexString(character),
+            encoder.canEncode(text), check.test(text));
+      }
+    }
+  }
+
+  /**
+   * compare the surrogate check of the unicode charsets with the encoders.
+   */
+  @Test
+  public void testUnicodeCharsets() {
+    final Random random = new Random(4711L);
+    final char[] characters = {'a', 'ä', '€', '\ud83d', '\ude00', '￿'};
+    for (final String charsetName : new String[] {"UTF-8", "UTF-16", "UTF-16LE"}) {
+      final Predicate<CharSequence> check = CharsetCheckUtil.forCharset(charsetName);
+      final CharsetEncoder encoder = Charset.forName(charsetName).newEncoder();
+      for (int i = 0; i < 10_000; i++) {
+        final StringBuilder text = new StringBuilder();
+        for (int length = random.nextInt(6); length > 0; length--) {
+          text.append(characters[random.nextInt(characters.length)]);
+        }
+        Assert.assertEquals(charsetName + " " + text, encoder.canEncode(text), check.test(text));
+      }
+    }
+  }
+
+  /**
+   * other charsets are checked with one encoder per thread.
+   */
+  @Test
+  public void testConcurrentEncoderCheck() throws InterruptedException, ExecutionException {
+    final Predicate<CharSequence> check = CharsetCheckUtil.forCharset("ISO-8859-2");
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        results.add(executor.submit(() -> {
+          boolean allCorrect = true;
+          for (int j = 0; j < 10_000; j++) {
+            allCorrect &= check.test("Łódź") && !check.test("€ uro");
+          }
+          return Boolean.valueOf(allCorrect);
+        }));
+      }
+      for (final Future<Boolean> result : results) {
+        Assert.assertTrue(result.get().booleanValue());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
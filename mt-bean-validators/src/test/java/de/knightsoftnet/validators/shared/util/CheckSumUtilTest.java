@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class CheckSumUtilTest {
+
+  /**
+   * test the check sum kernels.
+   */
+  @Test
+  public void testKernels() {
+    Assert.assertEquals(7, CheckSumUtil.digit("DE7", 2));
+    Assert.assertEquals(-1, CheckSumUtil.digit("DE7", 1));
+    Assert.assertEquals(-1, CheckSumUtil.digit("DE7", 3));
+
+    Assert.assertEquals(4711, CheckSumUtil.number("DE04711", 2, 7));
+    Assert.assertEquals(-1, CheckSumUtil.number("DE047X1", 2, 7));
+    Assert.assertEquals(-1, CheckSumUtil.number("1234567890", 0, 10));
+    Assert.assertEquals(-1, CheckSumUtil.number("123", 2, 5));
+
+    Assert.assertEquals(Long.parseLong("123456789012345678") % 97,
+        CheckSumUtil.modulo("123456789012345678", 0, 18, 97));
+    Assert.assertEquals(-1, CheckSumUtil.modulo("12A4", 0, 4, 97));
+
+    Assert.assertEquals(1 * 3 + 2 * 2 + 3 * 1,
+        CheckSumUtil.weightedSum("X123", 1, new int[] {3, 2, 1}));
+    Assert.assertEquals(-1, CheckSumUtil.weightedSum("X12", 1, new int[] {3, 2, 1}));
+
+    // luhn check sum of a credit card number must be a multiple of 10
+    Assert.assertEquals(0, CheckSumUtil.luhnSum("4111111111111111", 0, 16, true) % 10);
+    Assert.assertEquals(-1, CheckSumUtil.luhnSum("41-1", 0, 4, true));
+
+    // german vat id DE136695976
+    Assert.assertEquals(6, CheckSumUtil.iso7064Mod11And10("DE136695976", 2, 10));
+    Assert.assertEquals(-1, CheckSumUtil.iso7064Mod11And10("DE13669597A", 2, 11));
+  }
+
+  /**
+   * test that each country is described only once per type.
+   */
+  @Test
+  public void testDescriptorTable() {
+    final Set<String> countries = new HashSet<>();
+    for (final CountryCheckSum checkSum : CountryCheckSum.values()) {
+      for (final String country : checkSum.getCountries()) {
+        Assert.assertTrue(checkSum + " " + country,
+            countries.add(checkSum.getType() + country));
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.shared.data.IbanAnalyzeData;
+import de.knightsoftnet.validators.shared.testcases.IbanUtilTestCases;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+public class IbanAnalyzerTest {
+
+  /**
+   * test analyzing single ibans.
+   */
+  @Test
+  public void testAnalyze() {
+    for (final Entry<String, String> entry : IbanUtilTestCases.getIbanToBic().entrySet()) {
+      final IbanAnalyzeData result = IbanAnalyzer.analyze(IbanUtil.ibanFormat(entry.getKey()));
+      Assert.assertTrue("should be valid: " + entry.getKey(), result.isValid());
+      Assert.assertEquals(entry.getKey(), result.getIban());
+      Assert.assertEquals(entry.getKey().substring(0, 2), result.getCountryCode());
+      Assert.assertEquals(IbanUtil.getBankNumberOfIban(entry.getKey()), result.getBankNumber());
+      Assert.assertEquals(IbanUtil.getAccountNumberOfIban(entry.getKey()),
+          result.getAccountNumber());
+      Assert.assertEquals(entry.getValue(), result.getBic());
+    }
+
+    final IbanAnalyzeData wrongChecksum = IbanAnalyzer.analyze("DE16701600000000555445");
+    Assert.assertFalse(wrongChecksum.isValid());
+    Assert.assertEquals(IbanCheckUtil.Result.WRONG_CHECKSUM, wrongChecksum.getCheckResult());
+    Assert.assertEquals("70160000", wrongChecksum.getBankNumber());
+    Assert.assertEquals("0000555445", wrongChecksum.getAccountNumber());
+
+    final IbanAnalyzeData unknownCountry = IbanAnalyzer.analyze("XY16701600000000555444");
+    Assert.assertFalse(unknownCountry.isValid());
+    Assert.assertEquals(IbanCheckUtil.Result.UNKNOWN_COUNTRY, unknownCountry.getCheckResult());
+    Assert.assertNull(unknownCountry.getBankNumber());
+
+    Assert.assertEquals(IbanCheckUtil.Result.EMPTY, IbanAnalyzer.analyze((String) null)
+        .getCheckResult());
+  }
+
+  /**
+   * test that parallel batch analyzing keeps the order.
+   */
+  @Test
+  public void testAnalyzeBatch() {
+    final List<String> ibans = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      ibans.addAll(IbanUtilTestCases.getIbanToBic().keySet());
+      ibans.add("DE123");
+    }
+    final List<IbanAnalyzeData> expected =
+        ibans.stream().map(IbanAnalyzer::analyze).collect(Collectors.toList());
+    Assert.assertEquals(expected,
+        IbanAnalyzer.analyze(ibans.parallelStream()).collect(Collectors.toList()));
+    Assert.assertEquals(expected,
+        IbanAnalyzer.analyze(ibans.iterator(), true).collect(Collectors.toList()));
+    Assert.assertEquals(Collections.emptyList(), IbanAnalyzer
+        .analyze(Collections.<String>emptyIterator(), false).collect(Collectors.toList()));
+  }
+}
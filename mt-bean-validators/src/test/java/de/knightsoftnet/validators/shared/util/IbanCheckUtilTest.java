@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.server.data.CreateIbanLengthMapConstantsClass;
+import de.knightsoftnet.validators.shared.beans.IbanTestBean;
+import de.knightsoftnet.validators.shared.data.IbanLengthDefinition;
+import de.knightsoftnet.validators.shared.testcases.IbanTestCases;
+
+import org.apache.commons.validator.routines.checkdigit.IBANCheckDigit;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class IbanCheckUtilTest {
+
+  private static final String CHARACTERS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcz -";
+
+  /**
+   * test check results.
+   */
+  @Test
+  public void testCheckResults() {
+    Assert.assertEquals(IbanCheckUtil.Result.EMPTY, IbanCheckUtil.checkIban(null, true));
+    Assert.assertEquals(IbanCheckUtil.Result.EMPTY, IbanCheckUtil.checkIban("  ", true));
+    Assert.assertEquals(IbanCheckUtil.Result.SIZE_OUT_OF_RANGE,
+        IbanCheckUtil.checkIban("DE123", true));
+    Assert.assertEquals(IbanCheckUtil.Result.UNKNOWN_COUNTRY,
+        IbanCheckUtil.checkIban("XY16701600000000555444", true));
+    Assert.assertEquals(IbanCheckUtil.Result.WRONG_LENGTH,
+        IbanCheckUtil.checkIban("DE1670160000000055544", true));
+    Assert.assertEquals(IbanCheckUtil.Result.WRONG_CHECKSUM,
+        IbanCheckUtil.checkIban("DE16701600000000555445", true));
+    Assert.assertEquals(IbanCheckUtil.Result.VALID,
+        IbanCheckUtil.checkIban("DE16 7016 0000 0000 5554 44", true));
+    Assert.assertEquals(IbanCheckUtil.Result.WRONG_LENGTH,
+        IbanCheckUtil.checkIban("DE16 7016 0000 0000 5554 44", false));
+    Assert.assertEquals(IbanCheckUtil.Result.VALID,
+        IbanCheckUtil.checkFormatedIban("DE16 7016 0000 0000 5554 44"));
+    Assert.assertEquals(IbanCheckUtil.Result.WRONG_FORMAT,
+        IbanCheckUtil.checkFormatedIban("DE16 7016 0000 0000 555 444"));
+    Assert.assertTrue(IbanCheckUtil.isValid(new StringBuilder("AT242011182221219800")));
+  }
+
+  /**
+   * test that the results are the same as the results of the string based implementation on
+   * valid and randomly modified ibans.
+   */
+  @Test
+  public void testSameResultsAsStringImplementation() {
+    final Random random = new Random(4711L);
+    final List<String> ibans = new ArrayList<>();
+    for (final IbanTestBean bean : IbanTestCases.getCorrectTestBeans()) {
+      ibans.add(bean.getIban());
+    }
+    for (int i = 0; i < 20000; i++) {
+      final StringBuilder iban =
+          new StringBuilder(ibans.get(random.nextInt(ibans.size())));
+      for (int changes = random.nextInt(3); changes > 0; changes--) {
+        iban.setCharAt(random.nextInt(iban.length()),
+            CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+      }
+      final String compressed = iban.toString();
+      final String formated = IbanUtil.ibanFormat(compressed);
+      Assert.assertEquals(compressed, isValidIban(compressed),
+          IbanCheckUtil.checkIban(compressed, false).isAccepted());
+      Assert.assertEquals(formated, isValidIban(IbanUtil.ibanCompress(formated)),
+          IbanCheckUtil.checkIban(formated, true).isAccepted());
+      Assert.assertEquals(formated, isValidFormatedIban(formated),
+          IbanCheckUtil.checkFormatedIban(formated).isAccepted());
+    }
+  }
+
+  private static boolean isValidIban(final String piban) {
+    if (piban.isEmpty()) {
+      return true;
+    }
+    if (piban.length() < IbanCheckUtil.IBAN_LENGTH_MIN
+        || piban.length() > IbanCheckUtil.IBAN_LENGTH_MAX) {
+      return true;
+    }
+    final IbanLengthDefinition length =
+        CreateIbanLengthMapConstantsClass.create().ibanLengths().get(piban.substring(0, 2));
+    return length != null && piban.length() == length.getLength()
+        && new IBANCheckDigit().isValid(piban);
+  }
+
+  private static boolean isValidFormatedIban(final String piban) {
+    if (piban.isEmpty()) {
+      return true;
+    }
+    if (piban.length() < IbanCheckUtil.IBAN_FORMATED_LENGTH_MIN
+        || piban.length() > IbanCheckUtil.IBAN_FORMATED_LENGTH_MAX) {
+      return true;
+    }
+    final IbanLengthDefinition length =
+        CreateIbanLengthMapConstantsClass.create().ibanLengths().get(piban.substring(0, 2));
+    return length != null && piban.replaceAll("\\s", "").length() == length.getLength()
+        && piban.matches("^[A-Z]{2}[0-9A-Z]{2} ([0-9A-Z]{4}[ ])+[0-9A-Z]{1,4}$")
+        && new IBANCheckDigit().isValid(IbanUtil.ibanCompress(piban));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+public class PhoneNumberFormatRecognizerTest {
+
+  private static final Pattern DIN5008 = Pattern.compile(
+      "^(\\+[1-9]\\d{0,3}\\s{0,2}|0)\\d{1,7}\\s{0,2}\\d{2,12}(\\s{0,2}\\-\\s{0,2}\\d{1,9}$|$)");
+  private static final Pattern E123 = Pattern.compile(
+      "^(\\+[1-9]\\d{0,3}\\s{0,2}|\\(0\\d{1,7}\\))\\s{0,2}\\d{2,12}(\\s{0,2}\\d{1,9}$|$)");
+  private static final Pattern URI =
+      Pattern.compile("^\\+[1-9]\\d{0,3}\\-\\d{1,7}\\-\\d{2,12}(\\-\\d{1,9}$|$)");
+  private static final Pattern MS = Pattern.compile("^\\+[1-9]\\d{0,3}\\s{0,2}\\(\\d{1,7}\\)"
+      + "\\s{0,2}\\d{2,12}(\\s{0,2}\\-\\s{0,2}\\d{1,9}$|$)");
+  private static final Pattern COMMON = Pattern.compile(
+      "^(\\+[1-9]\\d{0,3}\\s{0,2}(\\(0\\)){0,1}|0)(\\s{0,2}\\d{1,2}){1,4}(\\s{0,2}\\/){0,1}"
+          + "(\\s{0,2}\\d{1,2}){2,6}(\\s{0,2}\\-(\\s{0,2}\\d{1,2})*$|$)");
+
+  private static final String[] TOKENS = {"+", "0", "1", "49", "89", "12345", "0049", " ", "  ",
+      "\t", "-", " - ", "(", ")", "(0)", "(089)", "/", " / ", "x", "123456789012"};
+
+  /**
+   * test some phone numbers in the different formats.
+   */
+  @Test
+  public void testRecognize() {
+    Assert.assertEquals(PhoneNumberFormatRecognizer.DIN5008 | PhoneNumberFormatRecognizer.E123
+        | PhoneNumberFormatRecognizer.COMMON,
+        PhoneNumberFormatRecognizer.recognize("+49 89 12345678"));
+    Assert.assertEquals(PhoneNumberFormatRecognizer.DIN5008 | PhoneNumberFormatRecognizer.COMMON,
+        PhoneNumberFormatRecognizer.recognize("089 12345678-10"));
+    Assert.assertEquals(PhoneNumberFormatRecognizer.E123,
+        PhoneNumberFormatRecognizer.recognize("(089) 12345678 10"));
+    Assert.assertEquals(PhoneNumberFormatRecognizer.URI,
+        PhoneNumberFormatRecognizer.recognize("+49-89-12345678-10"));
+    Assert.assertEquals(PhoneNumberFormatRecognizer.MS,
+        PhoneNumberFormatRecognizer.recognize("+49 (89) 12345678 - 10"));
+    Assert.assertEquals(PhoneNumberFormatRecognizer.COMMON,
+        PhoneNumberFormatRecognizer.recognize("+49 (0)89 / 12 34 56 78"));
+    Assert.assertEquals(0, PhoneNumberFormatRecognizer.recognize("+49 89 12345678",
+        PhoneNumberFormatRecognizer.URI | PhoneNumberFormatRecognizer.MS));
+    Assert.assertEquals(0, PhoneNumberFormatRecognizer.recognize("089 1234567x"));
+    Assert.assertEquals(0, PhoneNumberFormatRecognizer.recognize(""));
+    Assert.assertEquals(0, PhoneNumberFormatRecognizer.recognize(null));
+  }
+
+  /**
+   * compare the recognizer with the regular expressions of the formats on random values.
+   */
+  @Test
+  public void testCompareWithRegularExpressions() {
+    final Random random = new Random(4711L);
+    final StringBuilder value = new StringBuilder();
+    for (int i = 0; i < 200_000; i++) {
+      value.setLength(0);
+      final int tokens = 1 + random.nextInt(8);
+      for (int token = 0; token < tokens; token++) {
+        value.append(TOKENS[random.nextInt(TOKENS.length)]);
+      }
+      final String phoneNumber = value.toString();
+      final int expected = (DIN5008.matcher(phoneNumber).matches()
+          ? PhoneNumberFormatRecognizer.DIN5008 : 0)
+          | (E123.matcher(phoneNumber).matches() ? PhoneNumberFormatRecognizer.E123 : 0)
+          | (URI.matcher(phoneNumber).matches() ? PhoneNumberFormatRecognizer.URI : 0)
+          | (MS.matcher(phoneNumber).matches() ? PhoneNumberFormatRecognizer.MS : 0)
+          | (COMMON.matcher(phoneNumber).matches() ? PhoneNumberFormatRecognizer.COMMON : 0);
+      Assert.assertEquals(phoneNumber, expected,
+          PhoneNumberFormatRecognizer.recognize(phoneNumber));
+      final int formats = random.nextInt(PhoneNumberFormatRecognizer.ALL + 1);
+      Assert.assertEquals(phoneNumber, expected & formats,
+          PhoneNumberFormatRecognizer.recognize(phoneNumber, formats));
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.shared.beans.PhoneNumberFormatsTestBean;
+import de.knightsoftnet.validators.shared.data.PhoneNumberData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
+import de.knightsoftnet.validators.shared.testcases.PhoneNumberUtilTestCases;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PhoneNumberFormatsTest {
+
+  private final PhoneNumberUtil phoneNumberUtil = new PhoneNumberUtil("DE");
+
+  /**
+   * test that rendering all formats at once gives the same results as the single format methods.
+   */
+  @Test
+  public void testRenderAll() {
+    for (final PhoneNumberInterface phoneNumber : getPhoneNumbers()) {
+      final PhoneNumberFormatsTestBean formats = new PhoneNumberFormatsTestBean(phoneNumber);
+      PhoneNumberFormats.render(formats);
+      assertFormats(phoneNumber, formats, PhoneNumberFormats.ALL);
+    }
+  }
+
+  /**
+   * test that only requested formats are rendered.
+   */
+  @Test
+  public void testRenderSelected() {
+    for (final PhoneNumberInterface phoneNumber : getPhoneNumbers()) {
+      for (int selection = 0; selection <= PhoneNumberFormats.ALL; selection++) {
+        final PhoneNumberFormatsTestBean formats = new PhoneNumberFormatsTestBean(phoneNumber);
+        PhoneNumberFormats.render(phoneNumber, selection, formats);
+        assertFormats(phoneNumber, formats, selection);
+      }
+    }
+  }
+
+  private List<PhoneNumberInterface> getPhoneNumbers() {
+    final List<PhoneNumberInterface> phoneNumbers =
+        new ArrayList<>(PhoneNumberUtilTestCases.getFormatCommonCases().keySet());
+    phoneNumbers.addAll(PhoneNumberUtilTestCases.getParseCases().values());
+    phoneNumbers.add(new PhoneNumberData("999", "89", "123456", null));
+    phoneNumbers.add(new PhoneNumberData("49", null, "123456", "12"));
+    phoneNumbers.add(new PhoneNumberData("49", "89", " ", null));
+    phoneNumbers.add(new PhoneNumberData());
+    return phoneNumbers;
+  }
+
+  private void assertFormats(final PhoneNumberInterface pphoneNumber,
+      final PhoneNumberFormatsTestBean pformats, final int pselection) {
+    Assert.assertEquals("common international of " + pphoneNumber,
+        expected(pselection, PhoneNumberFormats.COMMON_INTERNATIONAL,
+            this.phoneNumberUtil.formatCommonInternational(pphoneNumber)),
+        pformats.getCommonInternational());
+    Assert.assertEquals("common national of " + pphoneNumber,
+        expected(pselection, PhoneNumberFormats.COMMON_NATIONAL,
+            this.phoneNumberUtil.formatCommonNational(pphoneNumber)),
+        pformats.getCommonNational());
+    Assert.assertEquals("din 5008 international of " + pphoneNumber,
+        expected(pselection, PhoneNumberFormats.DIN5008_INTERNATIONAL,
+            this.phoneNumberUtil.formatDin5008International(pphoneNumber)),
+        pformats.getDin5008International());
+    Assert.assertEquals("din 5008 national of " + pphoneNumber,
+        expected(pselection, PhoneNumberFormats.DIN5008_NATIONAL,
+            this.phoneNumberUtil.formatDin5008National(pphoneNumber)),
+        pformats.getDin5008National());
+    Assert.assertEquals("e123 international of " + pphoneNumber,
+        expected(pselection, PhoneNumberFormats.E123_INTERNATIONAL,
+            this.phoneNumberUtil.formatE123International(pphoneNumber)),
+        pformats.getE123International());
+    Assert.assertEquals("e123 national of " + pphoneNumber,
+        expected(pselection, PhoneNumberFormats.E123_NATIONAL,
+            this.phoneNumberUtil.formatE123National(pphoneNumber)),
+        pformats.getE123National());
+    Assert.assertEquals("ms of " + pphoneNumber, expected(pselection, PhoneNumberFormats.MS,
+        this.phoneNumberUtil.formatMs(pphoneNumber)), pformats.getMs());
+    Assert.assertEquals("url of " + pphoneNumber, expected(pselection, PhoneNumberFormats.URL,
+        this.phoneNumberUtil.formatUrl(pphoneNumber)), pformats.getUrl());
+  }
+
+  private String expected(final int pselection, final int pformat, final String pexpected) {
+    return (pselection & pformat) == 0 ? null : pexpected;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package de.knightsoftnet.validators.shared.util;
+
+import de.knightsoftnet.validators.server.data.CreatePhoneCountryConstantsClass;
+import de.knightsoftnet.validators.shared.data.PhoneNumberData;
+import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
+import de.knightsoftnet.validators.shared.testcases.PhoneNumberUtilTestCases;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map.Entry;
+
+public class PhoneNumberParseCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * test that cached parsing gives the same results as parsing without cache.
+   */
+  @Test
+  public void testCachedParsing() {
+    for (final PhoneNumberParseCache.EvictionPolicy policy : PhoneNumberParseCache.EvictionPolicy
+        .values()) {
+      final PhoneNumberParseCache cache = new PhoneNumberParseCache(100, policy);
+      final PhoneNumberUtil phoneNumberUtil = new PhoneNumberUtil("DE");
+      phoneNumberUtil.setParseCache(cache);
+      final PhoneNumberUtil uncachedUtil = new PhoneNumberUtil("DE");
+      for (int i = 0; i < 2; i++) {
+        for (final Entry<String, PhoneNumberInterface> testCase : PhoneNumberUtilTestCases
+            .getParseCases().entrySet()) {
+          final PhoneNumberData expected = uncachedUtil.parsePhoneNumber(testCase.getKey());
+          final PhoneNumberData parsedNumber = phoneNumberUtil.parsePhoneNumber(testCase.getKey());
+          Assert.assertEquals("Parsing " + testCase.getKey(), testCase.getValue(), parsedNumber);
+          Assert.assertEquals("Country name " + testCase.getKey(), expected.getCountryName(),
+              parsedNumber.getCountryName());
+          Assert.assertEquals("Area name " + testCase.getKey(), expected.getAreaName(),
+              parsedNumber.getAreaName());
+          Assert.assertEquals("Validity " + testCase.getKey(), expected.isValid(),
+              parsedNumber.isValid());
+        }
+      }
+      final int caseCount = PhoneNumberUtilTestCases.getParseCases().size();
+      // some test cases only differ in formating, they share the same cache entry
+      Assert.assertEquals("lookups with " + policy, 2L * caseCount,
+          cache.getMissCount() + cache.getHitCount());
+      Assert.assertEquals("misses with " + policy, cache.size(), cache.getMissCount());
+      Assert.assertEquals("evictions with " + policy, 0L, cache.getEvictionCount());
+    }
+  }
+
+  /**
+   * test that the cache key contains the default country and changes of the parsed data don't
+   * affect the cache.
+   */
+  @Test
+  public void testCacheIsolation() {
+    final PhoneNumberParseCache cache = new PhoneNumberParseCache();
+    final PhoneNumberUtil phoneNumberUtil = new PhoneNumberUtil();
+    phoneNumberUtil.setParseCache(cache);
+
+    final PhoneNumberData german = phoneNumberUtil.parsePhoneNumber("089 1234567", "DE");
+    Assert.assertEquals("country code", "49", german.getCountryCode());
+    final PhoneNumberData austrian =
+        phoneNumberUtil.parsePhoneNumber("089 1234567", "AT", Locale.GERMAN);
+    Assert.assertEquals("country code", "43", austrian.getCountryCode());
+    Assert.assertEquals("different countries are different entries", 2, cache.size());
+
+    german.setLineNumber("999");
+    german.setValid(false);
+    final PhoneNumberData germanAgain =
+        phoneNumberUtil.parsePhoneNumber("(089) 1234567", "DE");
+    Assert.assertEquals("same digits should hit", 1L, cache.getHitCount());
+    Assert.assertEquals("line number", "1234567", germanAgain.getLineNumber());
+    Assert.assertTrue("should be valid", germanAgain.isValid());
+  }
+
+  /**
+   * test that the cache size is bounded.
+   */
+  @Test
+  public void testEviction() {
+    for (final PhoneNumberParseCache.EvictionPolicy policy : PhoneNumberParseCache.EvictionPolicy
+        .values()) {
+      final PhoneNumberParseCache cache = new PhoneNumberParseCache(200, policy);
+      final PhoneNumberUtil phoneNumberUtil = new PhoneNumberUtil("DE");
+      phoneNumberUtil.setParseCache(cache);
+      for (int i = 0; i < 1000; i++) {
+        phoneNumberUtil.parsePhoneNumber("089 " + (100000 + i));
+        // frequently used number, which should survive with frequency based eviction
+        phoneNumberUtil.parsePhoneNumber("030 123456");
+      }
+      Assert.assertEquals("size with " + policy, 200, cache.size());
+      Assert.assertEquals("evictions with " + policy, 801L, cache.getEvictionCount());
+      final long hits = cache.getHitCount();
+      phoneNumberUtil.parsePhoneNumber("030 123456");
+      Assert.assertEquals("frequent number cached with " + policy, hits + 1, cache.getHitCount());
+    }
+  }
+
+  /**
+   * test that cached numbers are parsed again after the phone country data has been reloaded.
+   *
+   * @throws IOException if properties can't be written
+   */
+  @Test
+  public void testReloadClearsCache() throws IOException {
+    final PhoneNumberParseCache cache = new PhoneNumberParseCache();
+    final PhoneNumberUtil phoneNumberUtil = new PhoneNumberUtil("DE");
+    phoneNumberUtil.setParseCache(cache);
+    final PhoneNumberData before = phoneNumberUtil.parsePhoneNumber("+41 44 1234567");
+    Assert.assertEquals("area code", "44", before.getAreaCode());
+    Assert.assertEquals("area name", "NZ Zurich", before.getAreaName());
+    phoneNumberUtil.parsePhoneNumber("+41 44 1234567");
+    Assert.assertEquals("second parse should hit", 1L, cache.getHitCount());
+
+    final Path directory = folder.newFolder().toPath();
+    Files.write(directory.resolve("PhoneRegionCode41Constants.properties"),
+        "phoneRegionCodes41=441\n441=Test Area¡1¡11\n".getBytes(StandardCharsets.UTF_8));
+    try {
+      CreatePhoneCountryConstantsClass.reload(directory).join();
+      final PhoneNumberData after = phoneNumberUtil.parsePhoneNumber("+41 44 1234567");
+      Assert.assertEquals("reload should be a miss", 1L, cache.getHitCount());
+      Assert.assertEquals("area code of reloaded data", "441", after.getAreaCode());
+      Assert.assertEquals("area name of reloaded data", "Test Area", after.getAreaName());
+    } finally {
+      CreatePhoneCountryConstantsClass.reload(null).join();
+    }
+    final PhoneNumberData reset = phoneNumberUtil.parsePhoneNumber("+41 44 1234567");
+    Assert.assertEquals("area code after reset", "44", reset.getAreaCode());
+  }
+}
@@ -15,6 +15,9 @@
 
 package de.knightsoftnet.validators.shared.util;
 
+import de.knightsoftnet.validators.server.data.CreatePhoneCountryConstantsClass;
+import de.knightsoftnet.validators.shared.data.PhoneAreaCodeData;
+import de.knightsoftnet.validators.shared.data.PhoneCountryCodeData;
 import de.knightsoftnet.validators.shared.data.PhoneNumberData;
 import de.knightsoftnet.validators.shared.data.PhoneNumberInterface;
 import de.knightsoftnet.validators.shared.data.ValueWithPos;
@@ -24,6 +27,11 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map.Entry;
 
 public class PhoneNumberUtilTest {
@@ -52,6 +60,68 @@ public class PhoneNumberUtilTest {
     }
   }
 
+  /**
+   * test parsing of phone number into a reused phone number data.
+   */
+  @Test
+  public void testParsingInto() {
+    final PhoneNumberData phoneNumberData = new PhoneNumberData();
+    Assert.assertNull("Should be null",
+        this.phoneNumberUtil.parsePhoneNumberInto(null, phoneNumberData));
+    for (final Entry<String, PhoneNumberInterface> testCase : PhoneNumberUtilTestCases
+        .getParseCases().entrySet()) {
+      final PhoneNumberData parsedNumber = this.phoneNumberUtil
+          .parsePhoneNumberInto(new StringBuilder(testCase.getKey()), phoneNumberData);
+      Assert.assertSame("Should fill given data", phoneNumberData, parsedNumber);
+      Assert.assertEquals("Parsing " + testCase.getKey(), testCase.getValue(), parsedNumber);
+    }
+  }
+
+  /**
+   * test suggestions against sorting all matching entries.
+   */
+  @Test
+  public void testSuggestions() {
+    for (final String search : Arrays.asList("", "4", "+49", "+49 8", "+49 89", "+49 (0)30 1",
+        "+43", "+1 2", "9", "+4", "+49 999999")) {
+      for (final int limit : new int[] {0, 1, 10, 100000}) {
+        for (final Locale locale : Arrays.asList(Locale.ROOT, Locale.GERMAN)) {
+          Assert.assertEquals("Suggestions for " + search + " with limit " + limit,
+              this.sortedSuggestions(search, limit, locale),
+              this.phoneNumberUtil.getSuggstions(search, limit, locale));
+        }
+      }
+    }
+  }
+
+  private List<PhoneNumberData> sortedSuggestions(final String psearch, final int plimit,
+      final Locale plocale) {
+    final String cleanedPhoneNumber = psearch.replaceAll("[^0-9]", "");
+    final List<PhoneNumberData> suggestList = new ArrayList<>();
+    PhoneCountryCodeData foundCounty = null;
+    for (final PhoneCountryCodeData countryCode : CreatePhoneCountryConstantsClass.create(plocale)
+        .countryCodeData()) {
+      if (cleanedPhoneNumber.startsWith(countryCode.getCountryCode())) {
+        foundCounty = countryCode;
+      } else if (countryCode.getCountryCode().startsWith(cleanedPhoneNumber)) {
+        suggestList.add(new PhoneNumberData(countryCode.getCountryCode(), null, null, null));
+      }
+    }
+    if (foundCounty != null) {
+      suggestList.clear();
+      final String phoneNumberWork =
+          cleanedPhoneNumber.substring(foundCounty.getCountryCode().length());
+      for (final PhoneAreaCodeData areaCode : foundCounty.getAreaCodeData()) {
+        if (!areaCode.isRegEx() && areaCode.getAreaCode().startsWith(phoneNumberWork)) {
+          suggestList.add(new PhoneNumberData(foundCounty.getCountryCode(),
+              areaCode.getAreaCode(), null, null));
+        }
+      }
+    }
+    Collections.sort(suggestList, new PhoneNumberSuggestComperator());
+    return suggestList.subList(0, Math.min(plimit, suggestList.size()));
+  }
+
   /**
    * test formating phone number in E123 format.
    */